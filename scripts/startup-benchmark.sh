@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the plain build against the startup-optimized
+# build (Spring AOT + AppCDS archive + 'startup' profile).
+#
+# Requires the database from docker-compose.yml to be running.
+#
+# Usage: scripts/startup-benchmark.sh [runs] [port]
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${2:-8080}"
+PROBE_URL="http://localhost:${PORT}/api/categories"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET_DIR="${ROOT_DIR}/target"
+JAR_NAME="demo-0.0.1-SNAPSHOT.jar"
+PLAIN_DIR="${TARGET_DIR}/startup-plain"
+OPTIMIZED_DIR="${TARGET_DIR}/startup-optimized"
+ARCHIVE="${OPTIMIZED_DIR}/application.jsa"
+# lazy init and the smaller Hikari pool from application-startup.properties; AOT processing
+# already ran with this profile, the runtime has to activate it as well
+STARTUP_PROFILE="-Dspring.profiles.active=startup"
+
+cd "${ROOT_DIR}"
+
+build() {
+    local destination="$1"
+    shift
+    ./mvnw -B -q -DskipTests "$@" clean package
+    rm -rf "${destination}"
+    java -Djarmode=tools -jar "${TARGET_DIR}/${JAR_NAME}" extract --destination "${destination}"
+}
+
+now_millis() {
+    date +%s%3N
+}
+
+# Starts the application with the given JVM arguments and prints the number of
+# milliseconds until the first successful request.
+time_to_first_request() {
+    local jar="$1"
+    shift
+    local started
+    started="$(now_millis)"
+    java "$@" -Dserver.port="${PORT}" -jar "${jar}" > "${TARGET_DIR}/startup-run.log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "${PROBE_URL}"; do
+        if ! kill -0 "${pid}" 2>/dev/null; then
+            echo "application exited before serving a request, see ${TARGET_DIR}/startup-run.log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    echo $(( $(now_millis) - started ))
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+}
+
+measure() {
+    local label="$1"
+    shift
+    local results=()
+    for _ in $(seq "${RUNS}"); do
+        results+=("$(time_to_first_request "$@")")
+    done
+    local sorted
+    sorted="$(printf '%s\n' "${results[@]}" | sort -n)"
+    local median
+    median="$(echo "${sorted}" | sed -n "$(( (RUNS + 1) / 2 ))p")"
+    echo "${label},${median},$(echo "${sorted}" | head -1),$(echo "${sorted}" | tail -1)"
+}
+
+build "${PLAIN_DIR}"
+build "${OPTIMIZED_DIR}" -Pstartup
+
+# Deploy step: the 'startup' profile neither migrates nor validates the schema, so apply the
+# Flyway migrations once with the plain build, without starting the web server
+java -Dspring.main.web-application-type=none \
+    -Dspring.context.exit=onRefresh \
+    -Dlibrary.warmup.enabled=false \
+    -jar "${PLAIN_DIR}/${JAR_NAME}"
+
+# Training run: refresh the context once and dump the loaded classes into the archive
+java -XX:ArchiveClassesAtExit="${ARCHIVE}" \
+    -Dspring.aot.enabled=true \
+    "${STARTUP_PROFILE}" \
+    -Dspring.context.exit=onRefresh \
+    -jar "${OPTIMIZED_DIR}/${JAR_NAME}"
+
+echo "variant,median_ms,min_ms,max_ms"
+measure plain "${PLAIN_DIR}/${JAR_NAME}"
+measure optimized "${OPTIMIZED_DIR}/${JAR_NAME}" \
+    -XX:SharedArchiveFile="${ARCHIVE}" \
+    -Dspring.aot.enabled=true \
+    "${STARTUP_PROFILE}"
@@ -0,0 +1,67 @@
+package com.example.demo.cache;
+
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.invalidation.InvalidationTarget;
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import com.example.demo.model.Category;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * Evicts second-level cache entries for changes Hibernate did not make itself: bulk writes on
+ * this node that go through plain JDBC (CSV import) and any write on another node. Writes through
+ * the entity manager keep the cache consistent on their own. Runs before every other target and
+ * listener, so catalogs and response caches re-read from the database, not from stale entries.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "library.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheEviction implements InvalidationTarget {
+    private static final Map<String, Class<?>> ENTITIES = Map.of(
+            EntityChangedEvent.BOOK, Book.class,
+            EntityChangedEvent.AUTHOR, Author.class,
+            EntityChangedEvent.CATEGORY, Category.class);
+
+    private final Cache cache;
+
+    public EntityCacheEviction(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.id() == null) {
+            invalidate(event.entityType(), null);
+        }
+    }
+
+    @Override
+    public void invalidate(String entityType, Long id) {
+        Class<?> entity = ENTITIES.get(entityType);
+        if (entity == null) {
+            cache.evictAllRegions();
+            return;
+        }
+        if (id == null) {
+            cache.evictEntityData(entity);
+        } else {
+            cache.evictEntityData(entity, id);
+        }
+        // the update timestamps only track local writes
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.evictAllRegions();
+    }
+}
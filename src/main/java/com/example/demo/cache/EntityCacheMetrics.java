@@ -0,0 +1,67 @@
+package com.example.demo.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hit, miss and put counts of every second-level cache region as
+ * {@code library.entity.cache.*{region=...}}, read from the Hibernate statistics.
+ */
+@Component
+@ConditionalOnProperty(name = "library.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheMetrics {
+    private final Statistics statistics;
+
+    public EntityCacheMetrics(EntityManagerFactory entityManagerFactory,
+                              EntityCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Set<String> regions = new LinkedHashSet<>(List.of(EntityCacheRegions.BOOK, EntityCacheRegions.AUTHOR,
+                EntityCacheRegions.CATEGORY, EntityCacheRegions.BOOK_QUERIES));
+        regions.addAll(properties.regions().keySet());
+        for (String region : regions) {
+            FunctionCounter.builder("library.entity.cache.requests", this, metrics -> metrics.hits(region))
+                    .tags("region", region, "result", "hit")
+                    .description("Second-level cache lookups answered from the region").register(meterRegistry);
+            FunctionCounter.builder("library.entity.cache.requests", this, metrics -> metrics.misses(region))
+                    .tags("region", region, "result", "miss")
+                    .description("Second-level cache lookups that went to the database").register(meterRegistry);
+            FunctionCounter.builder("library.entity.cache.puts", this,
+                            metrics -> metrics.count(region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region).register(meterRegistry);
+            Gauge.builder("library.entity.cache.hit.ratio", this, metrics -> metrics.hitRatio(region))
+                    .tag("region", region).register(meterRegistry);
+        }
+    }
+
+    public long hits(String region) {
+        return count(region, CacheRegionStatistics::getHitCount);
+    }
+
+    public long misses(String region) {
+        return count(region, CacheRegionStatistics::getMissCount);
+    }
+
+    public double hitRatio(String region) {
+        double total = hits(region) + misses(region);
+        return total == 0 ? 0 : hits(region) / total;
+    }
+
+    private long count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        // null until Hibernate has built the region
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache. Every region is a bounded Caffeine cache; regions without an
+ * entry in {@code regions} use the defaults.
+ *
+ * @param maxCachedYearRange widest year range, in years, whose book list goes into the query cache.
+ *                           Regions are bounded by entry count, and one cached result holds the id
+ *                           of every book in its range, so wider ranges are always read from the database.
+ */
+@ConfigurationProperties(prefix = "library.entity-cache")
+public record EntityCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long defaultMaxEntries,
+        @DefaultValue("PT10M") Duration defaultTtl,
+        @DefaultValue("10") int maxCachedYearRange,
+        Map<String, Region> regions
+) {
+    public EntityCacheProperties {
+        regions = regions == null ? Map.of() : Map.copyOf(regions);
+    }
+
+    public long maxEntries(String region) {
+        Region config = regions.get(region);
+        return config == null || config.maxEntries() == null ? defaultMaxEntries : config.maxEntries();
+    }
+
+    public boolean isCachedYearRange(int fromYear, int toYear) {
+        return (long) toYear - fromYear < maxCachedYearRange;
+    }
+
+    public Duration ttl(String region) {
+        Region config = regions.get(region);
+        return config == null || config.ttl() == null ? defaultTtl : config.ttl();
+    }
+
+    public record Region(Long maxEntries, Duration ttl) {
+    }
+}
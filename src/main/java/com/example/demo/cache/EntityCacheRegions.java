@@ -0,0 +1,15 @@
+package com.example.demo.cache;
+
+/**
+ * Names of the Hibernate second-level cache regions; sizes and TTLs are configured per name
+ * under {@code library.entity-cache.regions}.
+ */
+public final class EntityCacheRegions {
+    public static final String BOOK = "book";
+    public static final String AUTHOR = "author";
+    public static final String CATEGORY = "category";
+    public static final String BOOK_QUERIES = "book-queries";
+
+    private EntityCacheRegions() {
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.demo.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Pre-serialized JSON bodies of list responses, keyed by endpoint and parameters. An entry is
+ * valid while the {@link TableVersions} of the entity types it was built from are unchanged;
+ * hits hand the stored array to the response without touching the service or Jackson.
+ * Requests that negotiate another format (CBOR, Smile) bypass the cache.
+ */
+@Component
+public class ResponseCache {
+    private static final Set<MediaType> BINARY_TYPES = Set.of(
+            MediaType.APPLICATION_CBOR, MediaType.parseMediaType("application/x-jackson-smile"));
+
+    private final ResponseCacheProperties properties;
+    private final TableVersions tableVersions;
+    private final JsonMapper jsonMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCache(ResponseCacheProperties properties,
+                         TableVersions tableVersions,
+                         JsonMapper jsonMapper,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tableVersions = tableVersions;
+        this.jsonMapper = jsonMapper;
+        this.hits = Counter.builder("library.response.cache.requests").tag("result", "hit")
+                .description("List responses served from the response cache").register(meterRegistry);
+        this.misses = Counter.builder("library.response.cache.requests").tag("result", "miss")
+                .description("List responses serialized because no current entry existed").register(meterRegistry);
+        Gauge.builder("library.response.cache.size", totalBytes, AtomicLong::get).baseUnit("bytes")
+                .description("Bytes held by cached response bodies").register(meterRegistry);
+        Gauge.builder("library.response.cache.entries", entries, Map::size).register(meterRegistry);
+        Gauge.builder("library.response.cache.hit.ratio", this, ResponseCache::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * @param key         endpoint and canonical parameters, e.g. {@code books?fromYear=1990&toYear=1999}
+     * @param entityTypes entity types the body is built from
+     * @param headers     request headers, for {@code Accept} and {@code If-None-Match}
+     * @param body        produces the response object on a miss
+     * @return the body as declared, or its stored JSON bytes, which the byte array converter
+     *         writes unchanged; either way the client receives the same JSON
+     */
+    public <T> ResponseEntity<T> json(String key, Set<String> entityTypes, HttpHeaders headers, Supplier<T> body) {
+        return json(key, entityTypes, headers, body, Optional::empty);
+    }
+
+    /**
+     * Like {@link #json(String, Set, HttpHeaders, Supplier)}, but JSON bodies come from
+     * {@code serialized} when it can write them itself (e.g. from the columnar catalog), and
+     * {@code body} is only materialized and run through Jackson when it returns empty.
+     */
+    public <T> ResponseEntity<T> json(String key, Set<String> entityTypes, HttpHeaders headers, Supplier<T> body,
+                                      Supplier<Optional<byte[]>> serialized) {
+        if (!acceptsJson(headers)) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (!properties.enabled()) {
+            return serialized.get()
+                    .map(bytes -> ResponseCache.<T>bytes(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON), bytes))
+                    .orElseGet(() -> ResponseEntity.ok(body.get()));
+        }
+        long version = tableVersions.current(entityTypes);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version) {
+            hits.increment();
+        } else {
+            misses.increment();
+            byte[] json = serialized.get().orElseGet(() -> jsonMapper.writeValueAsBytes(body.get()));
+            entry = Entry.of(version, entityTypes, json);
+            store(key, entry);
+        }
+        if (headers.getIfNoneMatch().contains(entry.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+        }
+        return serialized(entry);
+    }
+
+    public long sizeInBytes() {
+        return totalBytes.get();
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private static <T> ResponseEntity<T> serialized(Entry entry) {
+        return bytes(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(entry.etag()), entry.body());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> bytes(ResponseEntity.BodyBuilder response, byte[] body) {
+        return (ResponseEntity<T>) response.body(body);
+    }
+
+    private void store(String key, Entry entry) {
+        if (entry.body().length > properties.maxEntrySize().toBytes()) {
+            return;
+        }
+        entries.compute(key, (k, current) -> {
+            // a slower request must not replace a newer body with an older one
+            if (current != null && current.version() > entry.version()) {
+                return current;
+            }
+            totalBytes.addAndGet(entry.body().length - (current == null ? 0 : current.body().length));
+            return entry;
+        });
+        if (totalBytes.get() > properties.maxSize().toBytes()) {
+            trim();
+        }
+    }
+
+    private void trim() {
+        long limit = properties.maxSize().toBytes();
+        // outdated entries first, then whatever comes next until the cache fits again
+        evict(entry -> entry.version() != tableVersions.current(entry.entityTypes()), limit);
+        evict(entry -> true, limit);
+    }
+
+    private void evict(Predicate<Entry> candidate, long limit) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes.get() > limit && iterator.hasNext()) {
+            Map.Entry<String, Entry> next = iterator.next();
+            if (candidate.test(next.getValue()) && entries.remove(next.getKey(), next.getValue())) {
+                totalBytes.addAndGet(-next.getValue().body().length);
+            }
+        }
+    }
+
+    private static boolean acceptsJson(HttpHeaders headers) {
+        List<MediaType> accepted;
+        try {
+            accepted = headers.getAccept();
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        return accepted.stream().noneMatch(type -> BINARY_TYPES.stream().anyMatch(type::equalsTypeAndSubtype));
+    }
+
+    private record Entry(long version, Set<String> entityTypes, byte[] body, String etag) {
+        static Entry of(long version, Set<String> entityTypes, byte[] body) {
+            // content based, so the tag stays valid across nodes whose version counters differ
+            CRC32C crc = new CRC32C();
+            crc.update(body);
+            return new Entry(version, entityTypes, body, "\"" + Long.toHexString(crc.getValue()) + "-" + body.length + "\"");
+        }
+    }
+}
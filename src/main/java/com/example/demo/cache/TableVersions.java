@@ -0,0 +1,66 @@
+package com.example.demo.cache;
+
+import com.example.demo.catalog.CatalogReloadedEvent;
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.invalidation.InvalidationTarget;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local change counter per entity type. Counters only grow, so the sum over the types a
+ * cached response depends on identifies the state it was built from. Local writes bump after
+ * commit, writes on other nodes through the invalidation bus, after the catalogs were refreshed.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class TableVersions implements InvalidationTarget {
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public long current(Collection<String> entityTypes) {
+        long version = epoch.get();
+        for (String entityType : entityTypes) {
+            AtomicLong counter = versions.get(entityType);
+            if (counter != null) {
+                version += counter.get();
+            }
+        }
+        return version;
+    }
+
+    public void bump(String entityType) {
+        versions.computeIfAbsent(entityType, type -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void bumpAll() {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        bump(event.entityType());
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        bumpAll();
+    }
+
+    @Override
+    public void invalidate(String entityType, Long id) {
+        bump(entityType);
+    }
+
+    @Override
+    public void invalidateAll() {
+        bumpAll();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Book;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Builds the JSON array of a book list straight from catalog columns: numbers are written
+ * as digits and titles are copied from the UTF-8 arena, so a row costs no {@link Book},
+ * {@link String} or boxed value. The output is byte for byte what Jackson writes for the
+ * same books, given the property order pinned on {@link Book}.
+ */
+public final class BookJsonWriter {
+    private static final byte[] ID = bytes("{\"id\":");
+    private static final byte[] TITLE = bytes(",\"title\":");
+    private static final byte[] YEAR = bytes(",\"year\":");
+    private static final byte[] AUTHOR_ID = bytes(",\"authorId\":");
+    private static final byte[] CATEGORY_ID = bytes(",\"categoryId\":");
+    private static final byte[] NULL = bytes("null");
+    private static final byte[] HEX = bytes("0123456789ABCDEF");
+    private static final byte[] MIN_LONG_MAGNITUDE = bytes("9223372036854775808");
+    private static final int ROW_BYTES_HINT = 96;
+
+    private byte[] buffer;
+    private int position;
+    private boolean empty = true;
+
+    public BookJsonWriter(int rowsHint) {
+        buffer = new byte[Math.max(rowsHint, 1) * ROW_BYTES_HINT];
+        buffer[position++] = '[';
+    }
+
+    /**
+     * Appends a book that is not in the catalog, e.g. one read from the archive.
+     */
+    public void write(Book book) {
+        byte[] title = book.getTitle() == null ? null : book.getTitle().getBytes(StandardCharsets.UTF_8);
+        write(book.getId(), title, 0, title == null ? -1 : title.length,
+                ColumnarBookCatalog.toYear(book.getYear()),
+                ColumnarBookCatalog.toId(book.getAuthorId()),
+                ColumnarBookCatalog.toId(book.getCategoryId()));
+    }
+
+    /**
+     * Closes the array and returns its bytes; the writer must not be used afterwards.
+     */
+    public byte[] toByteArray() {
+        ensureCapacity(1);
+        buffer[position++] = ']';
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Appends one row given in the catalog encoding: a negative title length is a null
+     * title, {@link ColumnarBookCatalog#NULL_YEAR} and {@link ColumnarBookCatalog#NULL_ID}
+     * are null numbers.
+     */
+    void write(long id, byte[] titles, int titleOffset, int titleLength, int year, long authorId, long categoryId) {
+        if (!empty) {
+            ensureCapacity(1);
+            buffer[position++] = ',';
+        }
+        empty = false;
+        append(ID);
+        appendNumber(id);
+        append(TITLE);
+        if (titleLength < 0) {
+            append(NULL);
+        } else {
+            appendString(titles, titleOffset, titleLength);
+        }
+        append(YEAR);
+        if (year == ColumnarBookCatalog.NULL_YEAR) {
+            append(NULL);
+        } else {
+            appendNumber(year);
+        }
+        append(AUTHOR_ID);
+        appendNullableId(authorId);
+        append(CATEGORY_ID);
+        appendNullableId(categoryId);
+        ensureCapacity(1);
+        buffer[position++] = '}';
+    }
+
+    private void appendNullableId(long id) {
+        if (id == ColumnarBookCatalog.NULL_ID) {
+            append(NULL);
+        } else {
+            appendNumber(id);
+        }
+    }
+
+    private void appendNumber(long value) {
+        // 20 bytes hold any long, sign included
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            if (value == Long.MIN_VALUE) {
+                append(MIN_LONG_MAGNITUDE);
+                return;
+            }
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    // escapes like Jackson's defaults: quote, backslash and control characters only,
+    // multi-byte UTF-8 sequences are copied unchanged
+    private void appendString(byte[] source, int offset, int length) {
+        // worst case every byte becomes a six byte \\u00XX escape
+        ensureCapacity(length * 6 + 2);
+        buffer[position++] = '"';
+        for (int i = offset, end = offset + length; i < end; i++) {
+            byte b = source[i];
+            if (b >= 0x20 && b != '"' && b != '\\' || b < 0) {
+                buffer[position++] = b;
+                continue;
+            }
+            buffer[position++] = '\\';
+            switch (b) {
+                case '"', '\\' -> buffer[position++] = b;
+                case '\n' -> buffer[position++] = 'n';
+                case '\r' -> buffer[position++] = 'r';
+                case '\t' -> buffer[position++] = 't';
+                case '\b' -> buffer[position++] = 'b';
+                case '\f' -> buffer[position++] = 'f';
+                default -> {
+                    buffer[position++] = 'u';
+                    buffer[position++] = '0';
+                    buffer[position++] = '0';
+                    buffer[position++] = HEX[b >> 4];
+                    buffer[position++] = HEX[b & 0xF];
+                }
+            }
+        }
+        buffer[position++] = '"';
+    }
+
+    private void append(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(position + additional, buffer.length * 2));
+        }
+    }
+
+    private static byte[] bytes(String ascii) {
+        return ascii.getBytes(StandardCharsets.US_ASCII);
+    }
+}
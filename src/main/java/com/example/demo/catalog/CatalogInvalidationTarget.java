@@ -0,0 +1,71 @@
+package com.example.demo.catalog;
+
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.invalidation.InvalidationTarget;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.repository.CategoryRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the columnar catalogs in line with writes on other nodes: a single changed row is
+ * re-read and upserted (or removed when it is gone), anything broader triggers a background reload.
+ * Runs right after the entity cache eviction, so the re-read goes to the database, and before
+ * the caches built from the catalogs.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CatalogInvalidationTarget implements InvalidationTarget {
+    private final ColumnarBookCatalog bookCatalog;
+    private final ColumnarAuthorCatalog authorCatalog;
+    private final ColumnarCategoryCatalog categoryCatalog;
+    private final ColumnarCatalogLoader catalogLoader;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+
+    public CatalogInvalidationTarget(ColumnarBookCatalog bookCatalog,
+                                     ColumnarAuthorCatalog authorCatalog,
+                                     ColumnarCategoryCatalog categoryCatalog,
+                                     ColumnarCatalogLoader catalogLoader,
+                                     BookRepository bookRepository,
+                                     AuthorRepository authorRepository,
+                                     CategoryRepository categoryRepository) {
+        this.bookCatalog = bookCatalog;
+        this.authorCatalog = authorCatalog;
+        this.categoryCatalog = categoryCatalog;
+        this.catalogLoader = catalogLoader;
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Override
+    public void invalidate(String entityType, Long id) {
+        if (!bookCatalog.isReady()) {
+            // not loaded yet, the running load reads the committed rows
+            return;
+        }
+        if (id == null) {
+            catalogLoader.reloadInBackground(entityType + " changes on another node");
+            return;
+        }
+        switch (entityType) {
+            case EntityChangedEvent.BOOK -> bookRepository.findById(id)
+                    .ifPresentOrElse(bookCatalog::upsert, () -> bookCatalog.remove(id));
+            case EntityChangedEvent.AUTHOR -> authorRepository.findById(id)
+                    .ifPresentOrElse(authorCatalog::upsert, () -> authorCatalog.remove(id));
+            case EntityChangedEvent.CATEGORY -> categoryRepository.findById(id)
+                    .ifPresentOrElse(categoryCatalog::upsert, () -> categoryCatalog.remove(id));
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        catalogLoader.reloadInBackground("missed invalidation notifications");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.catalog;
+
+/**
+ * Published by {@link ColumnarCatalogLoader} once a full reload has replaced the catalog contents.
+ */
+public record CatalogReloadedEvent() {
+}
@@ -0,0 +1,392 @@
+package com.example.demo.catalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshot of the three columnar catalogs, written and read sequentially through a
+ * {@link FileChannel} in fixed-size chunks. The catalogs keep their columns in mutable heap
+ * arrays, so the file is decoded straight into those arrays instead of being mapped.
+ *
+ * <pre>
+ * header (64 bytes, little endian)
+ *   0  long  magic "LIBCATv1"
+ *   8  int   format version
+ *   12 int   header size
+ *   16 long  created at (epoch millis)
+ *   24 int   book count
+ *   28 int   author count
+ *   32 int   category count
+ *   36 int   reserved
+ *   40 long  payload length
+ *   48 long  CRC32C of the payload
+ *   56 long  reserved
+ * payload, every section padded to 8 bytes
+ *   books      ids, author ids, category ids (long[n]); years, title offsets, title lengths (int[n]);
+ *              arena length (int), arena bytes
+ *   authors    ids (long[n]); name offsets, name lengths (int[n]); arena length (int), arena bytes
+ *   categories same layout as authors
+ * </pre>
+ */
+final class CatalogSnapshotFile {
+    static final long MAGIC = 0x317654414342494CL; // "LIBCATv1" read as a little-endian long
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private CatalogSnapshotFile() {
+    }
+
+    record Contents(Instant createdAt,
+                    ColumnarBookCatalog.BookColumns books,
+                    ColumnarNameCatalog.NameColumns authors,
+                    ColumnarNameCatalog.NameColumns categories) {
+    }
+
+    record Header(int version, Instant createdAt, int bookCount, int authorCount, int categoryCount,
+                  long payloadLength, long checksum) {
+    }
+
+    /**
+     * Writes the snapshot to a sibling temporary file and atomically moves it over {@code target},
+     * so readers never observe a partially written snapshot.
+     */
+    static Header write(Path target, Contents contents) throws IOException {
+        ColumnarBookCatalog.BookColumns books = contents.books();
+        long payloadLength = bookSectionLength(books)
+                + nameSectionLength(contents.authors())
+                + nameSectionLength(contents.categories());
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        Header header;
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output out = new Output(channel.position(HEADER_SIZE));
+            putBooks(out, books);
+            putNames(out, contents.authors());
+            putNames(out, contents.categories());
+            out.flush();
+
+            header = new Header(FORMAT_VERSION, contents.createdAt(), books.ids().length,
+                    contents.authors().ids().length, contents.categories().ids().length,
+                    payloadLength, out.checksum());
+            ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            putHeader(headerBuffer, header);
+            while (headerBuffer.hasRemaining()) {
+                channel.write(headerBuffer, headerBuffer.position());
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return header;
+    }
+
+    /**
+     * Validates the header and the payload checksum without decoding the payload.
+     */
+    static Header verify(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            Input in = new Input(channel, header.payloadLength());
+            in.skipRemaining();
+            in.verifyChecksum(header.checksum());
+            return header;
+        }
+    }
+
+    static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            Input in = new Input(channel, header.payloadLength());
+            ColumnarBookCatalog.BookColumns books = getBooks(in, header.bookCount());
+            ColumnarNameCatalog.NameColumns authors = getNames(in, header.authorCount());
+            ColumnarNameCatalog.NameColumns categories = getNames(in, header.categoryCount());
+            in.skipRemaining();
+            in.verifyChecksum(header.checksum());
+            return new Contents(header.createdAt(), books, authors, categories);
+        }
+    }
+
+    private static Header readHeader(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            throw new IOException("Not a catalog snapshot: unexpected size " + size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            channel.read(buffer, buffer.position());
+        }
+        if (buffer.getLong(0) != MAGIC) {
+            throw new IOException("Not a catalog snapshot: bad magic");
+        }
+        int version = buffer.getInt(8);
+        if (version != FORMAT_VERSION || buffer.getInt(12) != HEADER_SIZE) {
+            throw new IOException("Unsupported catalog snapshot version " + version);
+        }
+        long payloadLength = buffer.getLong(40);
+        if (payloadLength != size - HEADER_SIZE) {
+            throw new IOException("Truncated catalog snapshot: expected " + payloadLength + " payload bytes");
+        }
+        channel.position(HEADER_SIZE);
+        return new Header(version, Instant.ofEpochMilli(buffer.getLong(16)), buffer.getInt(24), buffer.getInt(28),
+                buffer.getInt(32), payloadLength, buffer.getLong(48));
+    }
+
+    private static void putHeader(ByteBuffer buffer, Header header) {
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(8, header.version());
+        buffer.putInt(12, HEADER_SIZE);
+        buffer.putLong(16, header.createdAt().toEpochMilli());
+        buffer.putInt(24, header.bookCount());
+        buffer.putInt(28, header.authorCount());
+        buffer.putInt(32, header.categoryCount());
+        buffer.putLong(40, header.payloadLength());
+        buffer.putLong(48, header.checksum());
+    }
+
+    private static long bookSectionLength(ColumnarBookCatalog.BookColumns books) {
+        long rows = books.ids().length;
+        return padded(3 * 8 * rows + 3 * 4 * rows + 4 + books.titles().arena().length);
+    }
+
+    private static long nameSectionLength(ColumnarNameCatalog.NameColumns names) {
+        long rows = names.ids().length;
+        return padded(8 * rows + 2 * 4 * rows + 4 + names.names().arena().length);
+    }
+
+    private static long padded(long length) {
+        return (length + 7) & ~7L;
+    }
+
+    private static void putBooks(Output out, ColumnarBookCatalog.BookColumns books) throws IOException {
+        long start = out.written();
+        out.putLongs(books.ids());
+        out.putLongs(books.authorIds());
+        out.putLongs(books.categoryIds());
+        out.putInts(books.years());
+        putLayout(out, books.titles());
+        out.pad(start + bookSectionLength(books));
+    }
+
+    private static void putNames(Output out, ColumnarNameCatalog.NameColumns names) throws IOException {
+        long start = out.written();
+        out.putLongs(names.ids());
+        putLayout(out, names.names());
+        out.pad(start + nameSectionLength(names));
+    }
+
+    private static ColumnarBookCatalog.BookColumns getBooks(Input in, int rows) throws IOException {
+        long start = in.consumed();
+        long[] ids = in.getLongs(rows);
+        long[] authorIds = in.getLongs(rows);
+        long[] categoryIds = in.getLongs(rows);
+        int[] years = in.getInts(rows);
+        StringColumn.Layout titles = getLayout(in, rows);
+        ColumnarBookCatalog.BookColumns books = new ColumnarBookCatalog.BookColumns(ids, years, authorIds, categoryIds, titles);
+        in.skipTo(start + bookSectionLength(books));
+        return books;
+    }
+
+    private static ColumnarNameCatalog.NameColumns getNames(Input in, int rows) throws IOException {
+        long start = in.consumed();
+        long[] ids = in.getLongs(rows);
+        StringColumn.Layout names = getLayout(in, rows);
+        ColumnarNameCatalog.NameColumns columns = new ColumnarNameCatalog.NameColumns(ids, names);
+        in.skipTo(start + nameSectionLength(columns));
+        return columns;
+    }
+
+    private static void putLayout(Output out, StringColumn.Layout layout) throws IOException {
+        out.putInts(layout.offsets());
+        out.putInts(layout.lengths());
+        out.putInts(new int[]{layout.arena().length});
+        out.putBytes(layout.arena());
+    }
+
+    private static StringColumn.Layout getLayout(Input in, int rows) throws IOException {
+        int[] offsets = in.getInts(rows);
+        int[] lengths = in.getInts(rows);
+        int arenaLength = in.getInts(1)[0];
+        return new StringColumn.Layout(in.getBytes(arenaLength), offsets, lengths);
+    }
+
+    /**
+     * Buffers the payload in chunks and checksums every chunk as it goes out.
+     */
+    private static final class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private long written;
+
+        private Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        long written() {
+            return written + buffer.position();
+        }
+
+        long checksum() {
+            return crc.getValue();
+        }
+
+        void putLongs(long[] values) throws IOException {
+            for (int from = 0; from < values.length; ) {
+                int count = Math.min(values.length - from, room(Long.BYTES));
+                buffer.asLongBuffer().put(values, from, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                from += count;
+            }
+        }
+
+        void putInts(int[] values) throws IOException {
+            for (int from = 0; from < values.length; ) {
+                int count = Math.min(values.length - from, room(Integer.BYTES));
+                buffer.asIntBuffer().put(values, from, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                from += count;
+            }
+        }
+
+        void putBytes(byte[] values) throws IOException {
+            for (int from = 0; from < values.length; ) {
+                int count = Math.min(values.length - from, room(1));
+                buffer.put(values, from, count);
+                from += count;
+            }
+        }
+
+        void pad(long end) throws IOException {
+            putBytes(new byte[(int) (end - written())]);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        // room for at least one value, in values of the given size
+        private int room(int valueBytes) throws IOException {
+            if (buffer.remaining() < valueBytes) {
+                flush();
+            }
+            return buffer.remaining() / valueBytes;
+        }
+    }
+
+    /**
+     * Reads the payload in chunks, checksumming every chunk as it comes in, and refuses to
+     * allocate arrays larger than the bytes left in the payload.
+     */
+    private static final class Input {
+        private final FileChannel channel;
+        private final long payloadLength;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private long read;
+
+        private Input(FileChannel channel, long payloadLength) {
+            this.channel = channel;
+            this.payloadLength = payloadLength;
+            buffer.limit(0);
+        }
+
+        long consumed() {
+            return read - buffer.remaining();
+        }
+
+        long[] getLongs(int count) throws IOException {
+            require((long) count * Long.BYTES);
+            long[] values = new long[count];
+            for (int from = 0; from < count; ) {
+                int chunk = Math.min(count - from, available(Long.BYTES));
+                buffer.asLongBuffer().get(values, from, chunk);
+                buffer.position(buffer.position() + chunk * Long.BYTES);
+                from += chunk;
+            }
+            return values;
+        }
+
+        int[] getInts(int count) throws IOException {
+            require((long) count * Integer.BYTES);
+            int[] values = new int[count];
+            for (int from = 0; from < count; ) {
+                int chunk = Math.min(count - from, available(Integer.BYTES));
+                buffer.asIntBuffer().get(values, from, chunk);
+                buffer.position(buffer.position() + chunk * Integer.BYTES);
+                from += chunk;
+            }
+            return values;
+        }
+
+        byte[] getBytes(int count) throws IOException {
+            require(count);
+            byte[] values = new byte[count];
+            for (int from = 0; from < count; ) {
+                int chunk = Math.min(count - from, available(1));
+                buffer.get(values, from, chunk);
+                from += chunk;
+            }
+            return values;
+        }
+
+        void skipTo(long position) throws IOException {
+            require(position - consumed());
+            while (consumed() < position) {
+                int chunk = (int) Math.min(position - consumed(), available(1));
+                buffer.position(buffer.position() + chunk);
+            }
+        }
+
+        void skipRemaining() throws IOException {
+            skipTo(payloadLength);
+        }
+
+        void verifyChecksum(long expected) throws IOException {
+            if (crc.getValue() != expected) {
+                throw new IOException("Corrupt catalog snapshot: checksum mismatch");
+            }
+        }
+
+        private void require(long bytes) throws IOException {
+            if (bytes < 0 || bytes > payloadLength - consumed()) {
+                throw new IOException("Corrupt catalog snapshot: section runs past the end of the payload");
+            }
+        }
+
+        // at least one value of the given size is buffered; returns how many are
+        private int available(int valueBytes) throws IOException {
+            if (buffer.remaining() < valueBytes) {
+                buffer.compact();
+                while (buffer.position() < valueBytes) {
+                    int start = buffer.position();
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("Truncated catalog snapshot");
+                    }
+                    crc.update(buffer.duplicate().flip().position(start));
+                    read += buffer.position() - start;
+                }
+                buffer.flip();
+            }
+            return buffer.remaining() / valueBytes;
+        }
+    }
+}
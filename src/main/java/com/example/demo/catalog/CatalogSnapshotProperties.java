@@ -0,0 +1,15 @@
+package com.example.demo.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "library.catalog.snapshot")
+public record CatalogSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/catalog.snapshot") Path path,
+        @DefaultValue("PT10M") Duration interval
+) {
+}
@@ -0,0 +1,135 @@
+package com.example.demo.catalog;
+
+import com.example.demo.dto.CatalogSnapshotInfo;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Persists the columnar catalogs to {@link CatalogSnapshotFile} on a fixed delay and
+ * restores them from it at startup, so a restarted node can serve reads before it
+ * has rescanned the database.
+ */
+@Component
+public class CatalogSnapshotService {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final InvalidDataException SNAPSHOTS_DISABLED =
+            new InvalidDataException("Catalog snapshots are disabled");
+    private static final InvalidDataException CATALOGS_NOT_LOADED =
+            new InvalidDataException("Catalogs are not loaded yet");
+
+    private final CatalogSnapshotProperties properties;
+    private final ColumnarBookCatalog bookCatalog;
+    private final ColumnarAuthorCatalog authorCatalog;
+    private final ColumnarCategoryCatalog categoryCatalog;
+
+    public CatalogSnapshotService(CatalogSnapshotProperties properties,
+                                  ColumnarBookCatalog bookCatalog,
+                                  ColumnarAuthorCatalog authorCatalog,
+                                  ColumnarCategoryCatalog categoryCatalog) {
+        this.properties = properties;
+        this.bookCatalog = bookCatalog;
+        this.authorCatalog = authorCatalog;
+        this.categoryCatalog = categoryCatalog;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled() && bookCatalog.isEnabled();
+    }
+
+    /**
+     * Installs the snapshot into the catalogs if a valid one exists.
+     *
+     * @return whether the catalogs were restored
+     */
+    public boolean restore() {
+        Path path = properties.path();
+        if (!isEnabled() || !Files.exists(path)) {
+            return false;
+        }
+        long started = System.nanoTime();
+        try {
+            CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(path);
+            authorCatalog.restore(contents.authors());
+            categoryCatalog.restore(contents.categories());
+            bookCatalog.restore(contents.books());
+            log.info("Restored catalogs from snapshot {} taken at {} ({} books) in {} ms", path, contents.createdAt(),
+                    contents.books().ids().length, (System.nanoTime() - started) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unusable catalog snapshot {}", path, ex);
+            return false;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${library.catalog.snapshot.interval:PT10M}",
+            fixedDelayString = "${library.catalog.snapshot.interval:PT10M}")
+    public void writePeriodically() {
+        if (isEnabled() && bookCatalog.isReady()) {
+            try {
+                writeSnapshot();
+            } catch (RuntimeException ex) {
+                log.warn("Periodic catalog snapshot failed", ex);
+            }
+        }
+    }
+
+    public CatalogSnapshotInfo writeSnapshot() {
+        if (!isEnabled()) {
+            throw SNAPSHOTS_DISABLED;
+        }
+        if (!bookCatalog.isReady() || !authorCatalog.isReady() || !categoryCatalog.isReady()) {
+            throw CATALOGS_NOT_LOADED;
+        }
+        Path path = properties.path();
+        long started = System.nanoTime();
+        try {
+            CatalogSnapshotFile.Header header = CatalogSnapshotFile.write(path, new CatalogSnapshotFile.Contents(
+                    Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                    bookCatalog.exportColumns(),
+                    authorCatalog.exportColumns(),
+                    categoryCatalog.exportColumns()
+            ));
+            log.info("Wrote catalog snapshot {} ({} books) in {} ms",
+                    path, header.bookCount(), (System.nanoTime() - started) / 1_000_000);
+            return toInfo(path, header);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write catalog snapshot " + path, ex);
+        }
+    }
+
+    public CatalogSnapshotInfo verify() {
+        Path path = properties.path();
+        if (!Files.exists(path)) {
+            throw new ResourceNotFoundException("Catalog snapshot " + path + " not found");
+        }
+        try {
+            return toInfo(path, CatalogSnapshotFile.verify(path));
+        } catch (IOException ex) {
+            return new CatalogSnapshotInfo(path.toString(), false, null, 0, 0, 0, sizeOf(path), null, ex.getMessage());
+        }
+    }
+
+    private static CatalogSnapshotInfo toInfo(Path path, CatalogSnapshotFile.Header header) {
+        return new CatalogSnapshotInfo(path.toString(), true, header.createdAt(), header.bookCount(),
+                header.authorCount(), header.categoryCount(), sizeOf(path), Long.toHexString(header.checksum()), null);
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Author;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ColumnarAuthorCatalog extends ColumnarNameCatalog<Author> {
+
+    public ColumnarAuthorCatalog(@Value("${library.catalog.columnar.enabled:false}") boolean enabled) {
+        super(enabled);
+    }
+
+    @Override
+    protected Author create(Long id, String name) {
+        Author author = new Author(name);
+        author.setId(id);
+        return author;
+    }
+
+    @Override
+    protected Long idOf(Author author) {
+        return author.getId();
+    }
+
+    @Override
+    protected String nameOf(Author author) {
+        return author.getName();
+    }
+}
@@ -0,0 +1,456 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Book;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Read-optimized copy of the {@code books} table held in primitive column arrays,
+ * sorted by id, with titles in a shared UTF-8 arena. A row costs about 36 bytes
+ * plus its title, and no {@link Book} objects exist until a query materializes them;
+ * list reads skip that step entirely by writing their JSON through a {@link BookJsonWriter}.
+ * Single-row reads run optimistically, without taking the read lock, and only retry under
+ * it when a write overlapped.
+ *
+ * <p>The catalog is disabled unless {@code library.catalog.columnar.enabled} is set.
+ * It is filled by {@link #load(Stream)} or {@link #restore(BookColumns)} and kept
+ * current by the write paths of {@code BookService}. Writes that arrive while a load
+ * is in progress are applied to the current data and also replayed on top of the
+ * loaded data.
+ */
+@Component
+public class ColumnarBookCatalog {
+    static final long NULL_ID = Long.MIN_VALUE;
+    static final int NULL_YEAR = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int AVERAGE_TITLE_BYTES = 24;
+
+    private final boolean enabled;
+    private final StampedLock lock = new StampedLock();
+
+    // guarded by lock
+    private long[] ids = new long[0];
+    private int[] years = new int[0];
+    private long[] authorIds = new long[0];
+    private long[] categoryIds = new long[0];
+    private StringColumn titles = new StringColumn(0, 0);
+    private int size;
+    private boolean loading;
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    public ColumnarBookCatalog(@Value("${library.catalog.columnar.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the catalog contents with the given books, which must be ordered by id.
+     */
+    public void load(Stream<Book> books) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            loading = true;
+            pendingWrites.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        Columns columns = new Columns(INITIAL_CAPACITY);
+        books.forEach(columns::append);
+
+        stamp = lock.writeLock();
+        try {
+            ids = columns.ids;
+            years = columns.years;
+            authorIds = columns.authorIds;
+            categoryIds = columns.categoryIds;
+            titles = columns.titles;
+            size = columns.size;
+            for (PendingWrite write : pendingWrites) {
+                if (write.book() == null) {
+                    applyRemove(write.id());
+                } else {
+                    applyUpsert(write.book());
+                }
+            }
+            pendingWrites.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void upsert(Book book) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (loading) {
+                pendingWrites.add(new PendingWrite(book.getId(), copyOf(book)));
+            }
+            applyUpsert(book);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (loading) {
+                pendingWrites.add(new PendingWrite(id, null));
+            }
+            applyRemove(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Installs previously exported columns, e.g. from a snapshot file.
+     */
+    void restore(BookColumns columns) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int count = columns.ids().length;
+            ids = columns.ids();
+            years = columns.years();
+            authorIds = columns.authorIds();
+            categoryIds = columns.categoryIds();
+            titles = new StringColumn(columns.titles().arena(), columns.titles().offsets(), columns.titles().lengths());
+            size = count;
+            ready = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the current contents into compact, self-contained arrays.
+     */
+    BookColumns exportColumns() {
+        long stamp = lock.readLock();
+        try {
+            return new BookColumns(
+                    Arrays.copyOf(ids, size),
+                    Arrays.copyOf(years, size),
+                    Arrays.copyOf(authorIds, size),
+                    Arrays.copyOf(categoryIds, size),
+                    titles.copyLayout(size)
+            );
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public Optional<Book> findById(long id) {
+        return Optional.ofNullable(read(() -> find(id)));
+    }
+
+    public Optional<Book> findByIdAndYear(long id, int year) {
+        return Optional.ofNullable(read(() -> find(id, year)));
+    }
+
+    public List<Book> findAll() {
+        long stamp = lock.readLock();
+        try {
+            List<Book> books = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                books.add(toBook(row));
+            }
+            return books;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Books with {@code fromYear <= year <= toYear}, ordered by year and id.
+     */
+    public List<Book> findByYearBetween(int fromYear, int toYear) {
+        long stamp = lock.readLock();
+        try {
+            int[] rows = rowsByYear(fromYear, toYear);
+            List<Book> books = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                books.add(toBook(row));
+            }
+            return books;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Writes every book to {@code out} in id order, merged with {@code others} (e.g. archived
+     * books), which must be in id order too.
+     */
+    public void writeAll(List<Book> others, BookJsonWriter out) {
+        long stamp = lock.readLock();
+        try {
+            int other = 0;
+            for (int row = 0; row < size; row++) {
+                while (other < others.size() && others.get(other).getId() < ids[row]) {
+                    out.write(others.get(other++));
+                }
+                writeRow(row, out);
+            }
+            while (other < others.size()) {
+                out.write(others.get(other++));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Writes the books with {@code fromYear <= year <= toYear} to {@code out}, ordered by year
+     * and id, merged with {@code others} (e.g. archived books), which must be in that order too.
+     */
+    public void writeByYearBetween(int fromYear, int toYear, List<Book> others, BookJsonWriter out) {
+        long stamp = lock.readLock();
+        try {
+            int[] rows = rowsByYear(fromYear, toYear);
+            int other = 0;
+            for (int row : rows) {
+                while (other < others.size() && precedes(others.get(other), years[row], ids[row])) {
+                    out.write(others.get(other++));
+                }
+                writeRow(row, out);
+            }
+            while (other < others.size()) {
+                out.write(others.get(other++));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    public long estimatedBytes() {
+        return read(() -> 8L * ids.length + 4L * years.length + 8L * authorIds.length + 8L * categoryIds.length
+                + titles.estimatedBytes());
+    }
+
+    /**
+     * Runs a short query without locking and keeps its result if no write happened meanwhile;
+     * otherwise, or if the columns moved under it, runs it again under the read lock.
+     */
+    private <T> T read(Supplier<T> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ex) {
+                // a concurrent write moved the columns underneath; the stamp is already invalid
+                // and a real failure repeats below
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Book find(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        return row < 0 ? null : toBook(row);
+    }
+
+    private Book find(long id, int year) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        return row < 0 || years[row] != year ? null : toBook(row);
+    }
+
+    // rows are in id order, so sorting (year, row) pairs yields (year, id) order
+    private int[] rowsByYear(int fromYear, int toYear) {
+        long[] matches = new long[16];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int year = years[row];
+            if (year != NULL_YEAR && year >= fromYear && year <= toYear) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = ((long) (year - fromYear) << 32) | row;
+            }
+        }
+        Arrays.sort(matches, 0, count);
+        int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = (int) matches[i];
+        }
+        return rows;
+    }
+
+    private static boolean precedes(Book book, int year, long id) {
+        return book.getYear() < year || book.getYear() == year && book.getId() < id;
+    }
+
+    private void writeRow(int row, BookJsonWriter out) {
+        out.write(ids[row], titles.arena(), titles.offset(row), titles.length(row),
+                years[row], authorIds[row], categoryIds[row]);
+    }
+
+    private void applyUpsert(Book book) {
+        long id = book.getId();
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row >= 0) {
+            years[row] = toYear(book.getYear());
+            authorIds[row] = toId(book.getAuthorId());
+            categoryIds[row] = toId(book.getCategoryId());
+            titles.set(row, book.getTitle());
+            titles.compact(size);
+            return;
+        }
+        row = -row - 1;
+        ensureCapacity(size + 1);
+        shiftUp(row);
+        ids[row] = id;
+        years[row] = toYear(book.getYear());
+        authorIds[row] = toId(book.getAuthorId());
+        categoryIds[row] = toId(book.getCategoryId());
+        titles.insert(row, size, book.getTitle());
+        size++;
+    }
+
+    private void applyRemove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0) {
+            return;
+        }
+        int tail = size - row - 1;
+        System.arraycopy(ids, row + 1, ids, row, tail);
+        System.arraycopy(years, row + 1, years, row, tail);
+        System.arraycopy(authorIds, row + 1, authorIds, row, tail);
+        System.arraycopy(categoryIds, row + 1, categoryIds, row, tail);
+        titles.remove(row, size);
+        size--;
+        titles.compact(size);
+    }
+
+    private void shiftUp(int row) {
+        int tail = size - row;
+        System.arraycopy(ids, row, ids, row + 1, tail);
+        System.arraycopy(years, row, years, row + 1, tail);
+        System.arraycopy(authorIds, row, authorIds, row + 1, tail);
+        System.arraycopy(categoryIds, row, categoryIds, row + 1, tail);
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows > ids.length) {
+            int capacity = Math.max(rows, ids.length + (ids.length >> 1) + 1);
+            ids = Arrays.copyOf(ids, capacity);
+            years = Arrays.copyOf(years, capacity);
+            authorIds = Arrays.copyOf(authorIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+        }
+    }
+
+    private Book toBook(int row) {
+        Book book = new Book(
+                titles.get(row),
+                years[row] == NULL_YEAR ? null : years[row],
+                authorIds[row] == NULL_ID ? null : authorIds[row],
+                categoryIds[row] == NULL_ID ? null : categoryIds[row]
+        );
+        book.setId(ids[row]);
+        return book;
+    }
+
+    private static Book copyOf(Book book) {
+        Book copy = new Book(book.getTitle(), book.getYear(), book.getAuthorId(), book.getCategoryId());
+        copy.setId(book.getId());
+        return copy;
+    }
+
+    static int toYear(Integer year) {
+        return year == null ? NULL_YEAR : year;
+    }
+
+    static long toId(Long id) {
+        return id == null ? NULL_ID : id;
+    }
+
+    private record PendingWrite(long id, Book book) {
+    }
+
+    /**
+     * Exported catalog contents. Absent years and ids are stored as
+     * {@link Integer#MIN_VALUE} and {@link Long#MIN_VALUE}.
+     */
+    record BookColumns(long[] ids, int[] years, long[] authorIds, long[] categoryIds, StringColumn.Layout titles) {
+    }
+
+    /**
+     * Columns under construction during a load, filled in id order.
+     */
+    private static final class Columns {
+        private long[] ids;
+        private int[] years;
+        private long[] authorIds;
+        private long[] categoryIds;
+        private final StringColumn titles;
+        private int size;
+
+        private Columns(int capacity) {
+            ids = new long[capacity];
+            years = new int[capacity];
+            authorIds = new long[capacity];
+            categoryIds = new long[capacity];
+            titles = new StringColumn(capacity, capacity * AVERAGE_TITLE_BYTES);
+        }
+
+        private void append(Book book) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                years = Arrays.copyOf(years, capacity);
+                authorIds = Arrays.copyOf(authorIds, capacity);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+            }
+            ids[size] = book.getId();
+            years[size] = toYear(book.getYear());
+            authorIds[size] = toId(book.getAuthorId());
+            categoryIds[size] = toId(book.getCategoryId());
+            titles.insert(size, size, book.getTitle());
+            size++;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import com.example.demo.model.Category;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Fills the columnar catalogs with a streamed scan of {@code books}, {@code authors} and
+ * {@code categories} before the application reports readiness. Entities are detached as
+ * soon as they are copied, so the persistence context never holds more than one fetch batch.
+ *
+ * <p>When a valid catalog snapshot exists it is restored instead and the scan runs in the
+ * background, replacing the snapshot contents with the current rows once it completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ColumnarCatalogLoader implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ColumnarCatalogLoader.class);
+
+    private final ColumnarBookCatalog bookCatalog;
+    private final ColumnarAuthorCatalog authorCatalog;
+    private final ColumnarCategoryCatalog categoryCatalog;
+    private final CatalogSnapshotService snapshotService;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicInteger pendingReloads = new AtomicInteger();
+
+    public ColumnarCatalogLoader(ColumnarBookCatalog bookCatalog,
+                                 ColumnarAuthorCatalog authorCatalog,
+                                 ColumnarCategoryCatalog categoryCatalog,
+                                 CatalogSnapshotService snapshotService,
+                                 BookRepository bookRepository,
+                                 AuthorRepository authorRepository,
+                                 CategoryRepository categoryRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.bookCatalog = bookCatalog;
+        this.authorCatalog = authorCatalog;
+        this.categoryCatalog = categoryCatalog;
+        this.snapshotService = snapshotService;
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!bookCatalog.isEnabled()) {
+            return;
+        }
+        if (snapshotService.restore()) {
+            reloadInBackground("catch-up after snapshot restore");
+        } else {
+            reload();
+        }
+    }
+
+    /**
+     * Rescans the tables on a daemon thread, for writes that bypass the per-entity catalog
+     * updates. Requests arriving while a reload runs are folded into one follow-up reload.
+     */
+    public void reloadInBackground(String reason) {
+        if (!bookCatalog.isEnabled() || pendingReloads.getAndIncrement() > 0) {
+            return;
+        }
+        Thread.ofPlatform().name("catalog-reload").daemon().start(() -> {
+            do {
+                pendingReloads.set(1);
+                try {
+                    reload();
+                } catch (RuntimeException ex) {
+                    log.warn("Background catalog reload ({}) failed, serving previous contents", reason, ex);
+                }
+            } while (pendingReloads.decrementAndGet() > 0);
+        });
+    }
+
+    public void reload() {
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Author> authors = authorRepository.streamAllOrderedById()) {
+                authorCatalog.load(authors.peek(entityManager::detach));
+            }
+            try (Stream<Category> categories = categoryRepository.streamAllOrderedById()) {
+                categoryCatalog.load(categories.peek(entityManager::detach));
+            }
+            try (Stream<Book> books = bookRepository.streamAllOrderedById()) {
+                bookCatalog.load(books.peek(entityManager::detach));
+            }
+        });
+        log.info("Columnar catalogs loaded {} books, {} authors and {} categories ({} KB) in {} ms",
+                bookCatalog.size(), authorCatalog.size(), categoryCatalog.size(),
+                (bookCatalog.estimatedBytes() + authorCatalog.estimatedBytes() + categoryCatalog.estimatedBytes()) / 1024,
+                (System.nanoTime() - started) / 1_000_000);
+        eventPublisher.publishEvent(new CatalogReloadedEvent());
+    }
+}
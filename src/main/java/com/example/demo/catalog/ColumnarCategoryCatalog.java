@@ -0,0 +1,30 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ColumnarCategoryCatalog extends ColumnarNameCatalog<Category> {
+
+    public ColumnarCategoryCatalog(@Value("${library.catalog.columnar.enabled:false}") boolean enabled) {
+        super(enabled);
+    }
+
+    @Override
+    protected Category create(Long id, String name) {
+        Category category = new Category(name);
+        category.setId(id);
+        return category;
+    }
+
+    @Override
+    protected Long idOf(Category category) {
+        return category.getId();
+    }
+
+    @Override
+    protected String nameOf(Category category) {
+        return category.getName();
+    }
+}
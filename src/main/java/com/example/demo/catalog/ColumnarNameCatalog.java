@@ -0,0 +1,236 @@
+package com.example.demo.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Columnar in-memory copy of a table made of an id and a name (authors, categories),
+ * kept the same way as {@link ColumnarBookCatalog}: ids sorted in a {@code long[]},
+ * names in a shared UTF-8 arena, entities only materialized on read and single-row
+ * reads run optimistically.
+ */
+public abstract class ColumnarNameCatalog<T> {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int AVERAGE_NAME_BYTES = 16;
+
+    private final boolean enabled;
+    private final StampedLock lock = new StampedLock();
+
+    // guarded by lock
+    private long[] ids = new long[0];
+    private StringColumn names = new StringColumn(0, 0);
+    private int size;
+    private boolean loading;
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    protected ColumnarNameCatalog(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    protected abstract T create(Long id, String name);
+
+    protected abstract Long idOf(T entity);
+
+    protected abstract String nameOf(T entity);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the catalog contents with the given entities, which must be ordered by id.
+     */
+    public void load(Stream<T> entities) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            loading = true;
+            pendingWrites.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        long[] loadedIds = new long[INITIAL_CAPACITY];
+        StringColumn loadedNames = new StringColumn(INITIAL_CAPACITY, INITIAL_CAPACITY * AVERAGE_NAME_BYTES);
+        int count = 0;
+        for (T entity : (Iterable<T>) entities::iterator) {
+            if (count == loadedIds.length) {
+                loadedIds = Arrays.copyOf(loadedIds, count * 2);
+            }
+            loadedIds[count] = idOf(entity);
+            loadedNames.insert(count, count, nameOf(entity));
+            count++;
+        }
+
+        stamp = lock.writeLock();
+        try {
+            ids = loadedIds;
+            names = loadedNames;
+            size = count;
+            for (PendingWrite write : pendingWrites) {
+                if (write.name() == null) {
+                    applyRemove(write.id());
+                } else {
+                    applyUpsert(write.id(), write.name());
+                }
+            }
+            pendingWrites.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void upsert(T entity) {
+        if (!enabled) {
+            return;
+        }
+        long id = idOf(entity);
+        String name = nameOf(entity);
+        long stamp = lock.writeLock();
+        try {
+            if (loading) {
+                pendingWrites.add(new PendingWrite(id, name));
+            }
+            applyUpsert(id, name);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (loading) {
+                pendingWrites.add(new PendingWrite(id, null));
+            }
+            applyRemove(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Optional<T> findById(long id) {
+        return Optional.ofNullable(read(() -> {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            return row < 0 ? null : create(ids[row], names.get(row));
+        }));
+    }
+
+    public List<T> findAll() {
+        long stamp = lock.readLock();
+        try {
+            List<T> entities = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                entities.add(create(ids[row], names.get(row)));
+            }
+            return entities;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    public long estimatedBytes() {
+        return read(() -> 8L * ids.length + names.estimatedBytes());
+    }
+
+    void restore(NameColumns columns) {
+        if (!enabled) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            ids = columns.ids();
+            names = new StringColumn(columns.names().arena(), columns.names().offsets(), columns.names().lengths());
+            size = columns.ids().length;
+            ready = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    NameColumns exportColumns() {
+        long stamp = lock.readLock();
+        try {
+            return new NameColumns(Arrays.copyOf(ids, size), names.copyLayout(size));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // see ColumnarBookCatalog#read
+    private <R> R read(Supplier<R> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ex) {
+                // a concurrent write moved the columns underneath, retry under the lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void applyUpsert(long id, String name) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row >= 0) {
+            names.set(row, name);
+            names.compact(size);
+            return;
+        }
+        row = -row - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(size + 1, size + (size >> 1)));
+        }
+        System.arraycopy(ids, row, ids, row + 1, size - row);
+        ids[row] = id;
+        names.insert(row, size, name);
+        size++;
+    }
+
+    private void applyRemove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0) {
+            return;
+        }
+        System.arraycopy(ids, row + 1, ids, row, size - row - 1);
+        names.remove(row, size);
+        size--;
+        names.compact(size);
+    }
+
+    private record PendingWrite(long id, String name) {
+    }
+
+    record NameColumns(long[] ids, StringColumn.Layout names) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.demo.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A column of strings stored as UTF-8 in one shared byte arena, addressed by row.
+ * Overwritten and removed values leave garbage behind in the arena; it is
+ * reclaimed by {@link #compact(int)} once it makes up half of the arena.
+ * Not thread-safe, callers guard access.
+ */
+final class StringColumn {
+    private static final int NULL_LENGTH = -1;
+
+    private byte[] arena;
+    private int arenaSize;
+    private int garbageBytes;
+    private int[] offsets;
+    private int[] lengths;
+
+    StringColumn(int rowCapacity, int arenaCapacity) {
+        this.arena = new byte[Math.max(arenaCapacity, 16)];
+        this.offsets = new int[rowCapacity];
+        this.lengths = new int[rowCapacity];
+    }
+
+    /**
+     * Wraps an already laid out column, e.g. one read from a snapshot.
+     */
+    StringColumn(byte[] arena, int[] offsets, int[] lengths) {
+        this.arena = arena;
+        this.arenaSize = arena.length;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    String get(int row) {
+        int length = lengths[row];
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        return new String(arena, offsets[row], length, StandardCharsets.UTF_8);
+    }
+
+    byte[] arena() {
+        return arena;
+    }
+
+    int offset(int row) {
+        return offsets[row];
+    }
+
+    /**
+     * The UTF-8 length of the value at {@code row}, negative for null.
+     */
+    int length(int row) {
+        return lengths[row];
+    }
+
+    /**
+     * Replaces the value of an existing row.
+     */
+    void set(int row, String value) {
+        if (lengths[row] > 0) {
+            garbageBytes += lengths[row];
+        }
+        write(row, value);
+    }
+
+    /**
+     * Inserts a value at {@code row}, shifting rows {@code row..size-1} up by one.
+     */
+    void insert(int row, int size, String value) {
+        ensureRowCapacity(size + 1);
+        System.arraycopy(offsets, row, offsets, row + 1, size - row);
+        System.arraycopy(lengths, row, lengths, row + 1, size - row);
+        write(row, value);
+    }
+
+    /**
+     * Removes the value at {@code row}, shifting rows {@code row+1..size-1} down by one.
+     */
+    void remove(int row, int size) {
+        if (lengths[row] > 0) {
+            garbageBytes += lengths[row];
+        }
+        System.arraycopy(offsets, row + 1, offsets, row, size - row - 1);
+        System.arraycopy(lengths, row + 1, lengths, row, size - row - 1);
+    }
+
+    void ensureRowCapacity(int rows) {
+        if (rows > offsets.length) {
+            int capacity = Math.max(rows, offsets.length + (offsets.length >> 1) + 1);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+    }
+
+    /**
+     * Rewrites the arena without garbage if at least half of it is unreachable.
+     */
+    void compact(int size) {
+        if (garbageBytes * 2 < arenaSize) {
+            return;
+        }
+        byte[] compacted = new byte[Math.max(arenaSize - garbageBytes, 16)];
+        int position = 0;
+        for (int row = 0; row < size; row++) {
+            int length = lengths[row];
+            if (length > 0) {
+                System.arraycopy(arena, offsets[row], compacted, position, length);
+                offsets[row] = position;
+                position += length;
+            }
+        }
+        arena = compacted;
+        arenaSize = position;
+        garbageBytes = 0;
+    }
+
+    /**
+     * Copies the first {@code size} rows into a compact, self-contained form.
+     */
+    Layout copyLayout(int size) {
+        int liveBytes = 0;
+        for (int row = 0; row < size; row++) {
+            liveBytes += Math.max(lengths[row], 0);
+        }
+        byte[] compacted = new byte[liveBytes];
+        int[] copiedOffsets = new int[size];
+        int[] copiedLengths = Arrays.copyOf(lengths, size);
+        int position = 0;
+        for (int row = 0; row < size; row++) {
+            int length = lengths[row];
+            if (length > 0) {
+                System.arraycopy(arena, offsets[row], compacted, position, length);
+                copiedOffsets[row] = position;
+                position += length;
+            }
+        }
+        return new Layout(compacted, copiedOffsets, copiedLengths);
+    }
+
+    long estimatedBytes() {
+        return arena.length + 4L * offsets.length + 4L * lengths.length;
+    }
+
+    private void write(int row, String value) {
+        ensureRowCapacity(row + 1);
+        if (value == null) {
+            offsets[row] = 0;
+            lengths[row] = NULL_LENGTH;
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (arenaSize + bytes.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arenaSize + bytes.length, arena.length + (arena.length >> 1)));
+        }
+        System.arraycopy(bytes, 0, arena, arenaSize, bytes.length);
+        offsets[row] = arenaSize;
+        lengths[row] = bytes.length;
+        arenaSize += bytes.length;
+    }
+
+    record Layout(byte[] arena, int[] offsets, int[] lengths) {
+    }
+}
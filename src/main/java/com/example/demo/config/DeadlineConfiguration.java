@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import com.example.demo.deadline.DeadlineDataSourcePostProcessor;
+import com.example.demo.deadline.DeadlineInterceptor;
+import com.example.demo.deadline.DeadlineProperties;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Request deadlines: the interceptor that starts them and the post-processor that applies them to
+ * the {@code DataSource}. The post-processor method is static, otherwise registering it would
+ * create this class, and with it {@link DeadlineProperties}, before the other post-processors.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "library.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfiguration implements WebMvcConfigurer {
+    private final DeadlineProperties deadlineProperties;
+
+    public DeadlineConfiguration(DeadlineProperties deadlineProperties) {
+        this.deadlineProperties = deadlineProperties;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static DeadlineDataSourcePostProcessor deadlineDataSourcePostProcessor() {
+        return new DeadlineDataSourcePostProcessor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // first, so time spent waiting for a bulkhead permit counts against the budget
+        registry.addInterceptor(new DeadlineInterceptor(deadlineProperties))
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
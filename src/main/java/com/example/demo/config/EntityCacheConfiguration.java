@@ -0,0 +1,69 @@
+package com.example.demo.config;
+
+import com.example.demo.cache.EntityCacheProperties;
+import com.example.demo.cache.EntityCacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.util.LinkedHashSet;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Hibernate second-level cache for books, authors and categories plus the query cache for the
+ * book finders, backed by one heap-bounded Caffeine cache per region. Regions are created up
+ * front with their size and TTL; a region Hibernate asks for that was not configured fails
+ * startup instead of silently growing without bounds.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "library.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        Set<String> regions = new LinkedHashSet<>(Set.of(EntityCacheRegions.BOOK, EntityCacheRegions.AUTHOR,
+                EntityCacheRegions.CATEGORY, EntityCacheRegions.BOOK_QUERIES,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME));
+        regions.addAll(properties.regions().keySet());
+        for (String region : regions) {
+            CaffeineConfiguration<Object, Object> configuration = configuration();
+            configuration.setMaximumSize(OptionalLong.of(properties.maxEntries(region)));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.ttl(region).toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        // one entry per table; must outlive every query result that was checked against it
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // region hit, miss and put counts for EntityCacheMetrics
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate stores disassembled, immutable state; copying it on every access buys nothing
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import com.example.demo.jfr.JfrPhaseBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Registers the JFR phase instrumentation. The post-processor is a static bean method so it is
+ * created before, and without, the configuration class, and every other bean gets to pass through it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "library.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static JfrPhaseBeanPostProcessor jfrPhaseBeanPostProcessor() {
+        return new JfrPhaseBeanPostProcessor();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.config;
+
+import com.example.demo.lifecycle.WarmupRequests;
+import com.example.demo.ratelimit.ClientAddressResolver;
+import com.example.demo.ratelimit.BulkheadProperties;
+import com.example.demo.ratelimit.Bulkheads;
+import com.example.demo.ratelimit.RateLimitInterceptor;
+import com.example.demo.ratelimit.RateLimitProperties;
+import com.example.demo.ratelimit.TokenBucketRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@Profile("!reactive")
+public class RateLimitConfiguration implements WebMvcConfigurer {
+    private final RateLimitProperties rateLimitProperties;
+    private final BulkheadProperties bulkheadProperties;
+    private final WarmupRequests warmupRequests;
+
+    public RateLimitConfiguration(RateLimitProperties rateLimitProperties, BulkheadProperties bulkheadProperties,
+                                  WarmupRequests warmupRequests) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.bulkheadProperties = bulkheadProperties;
+        this.warmupRequests = warmupRequests;
+    }
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter() {
+        return new TokenBucketRateLimiter(rateLimitProperties, System::nanoTime);
+    }
+
+    @Bean
+    public ClientAddressResolver clientAddressResolver() {
+        return new ClientAddressResolver(rateLimitProperties);
+    }
+
+    @Bean
+    public Bulkheads bulkheads() {
+        return new Bulkheads(bulkheadProperties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(
+                        rateLimitProperties, tokenBucketRateLimiter(), clientAddressResolver(), bulkheadProperties,
+                        bulkheads(), warmupRequests))
+                .addPathPatterns("/api/**");
+    }
+}
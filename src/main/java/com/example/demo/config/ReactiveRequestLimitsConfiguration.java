@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import com.example.demo.deadline.DeadlineProperties;
+import com.example.demo.deadline.ReactiveDeadlineFilter;
+import com.example.demo.lifecycle.WarmupRequests;
+import com.example.demo.ratelimit.ClientAddressResolver;
+import com.example.demo.ratelimit.RateLimitProperties;
+import com.example.demo.ratelimit.ReactiveRateLimitFilter;
+import com.example.demo.ratelimit.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.HandlerMapping;
+
+/**
+ * Rate limits and request deadlines for the reactive book API, as web filters in place of the
+ * servlet interceptors registered by {@link RateLimitConfiguration} and {@link DeadlineConfiguration}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+public class ReactiveRequestLimitsConfiguration {
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketRateLimiter(properties, System::nanoTime);
+    }
+
+    @Bean
+    public ClientAddressResolver clientAddressResolver(RateLimitProperties properties) {
+        return new ClientAddressResolver(properties);
+    }
+
+    @Bean
+    public ReactiveRateLimitFilter reactiveRateLimitFilter(RateLimitProperties properties,
+                                                           TokenBucketRateLimiter tokenBucketRateLimiter,
+                                                           ClientAddressResolver clientAddressResolver,
+                                                           WarmupRequests warmupRequests) {
+        return new ReactiveRateLimitFilter(properties, tokenBucketRateLimiter, clientAddressResolver, warmupRequests);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "library.deadline.enabled", havingValue = "true", matchIfMissing = true)
+    public ReactiveDeadlineFilter reactiveDeadlineFilter(
+            DeadlineProperties properties,
+            @Qualifier("requestMappingHandlerMapping") HandlerMapping requestMappingHandlerMapping) {
+        return new ReactiveDeadlineFilter(properties, requestMappingHandlerMapping);
+    }
+}
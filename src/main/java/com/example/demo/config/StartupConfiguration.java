@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.RestController;
+
+@Configuration
+@Profile("startup")
+public class StartupConfiguration {
+
+    /**
+     * Controllers (and, transitively, the services and repositories they depend on)
+     * are still created at startup, so the first request does not pay for building
+     * the request path. Everything else is initialized lazily.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerControllers() {
+        return (beanName, beanDefinition, beanType) -> beanType.isAnnotationPresent(RestController.class);
+    }
+}
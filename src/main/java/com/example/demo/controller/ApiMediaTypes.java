@@ -0,0 +1,13 @@
+package com.example.demo.controller;
+
+final class ApiMediaTypes {
+    /**
+     * JSON Merge Patch documents (RFC 7396).
+     */
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private ApiMediaTypes() {
+    }
+}
@@ -1,25 +1,51 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.ResponseCache;
+import com.example.demo.dto.DeletionJobStatus;
+import com.example.demo.dto.NameResolution;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Author;
+import com.example.demo.ratelimit.BulkOperation;
 import com.example.demo.service.interfaces.IAuthorService;
+import com.example.demo.service.interfaces.IDeletionJobService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/authors")
 public class AuthorController {
+    private static final Set<String> AUTHOR_TABLES = Set.of(EntityChangedEvent.AUTHOR);
+
     private final IAuthorService authorService;
+    private final IDeletionJobService deletionJobService;
+    private final ResponseCache responseCache;
 
-    public AuthorController(IAuthorService authorService) {
+    public AuthorController(IAuthorService authorService, IDeletionJobService deletionJobService,
+                            ResponseCache responseCache) {
         this.authorService = authorService;
+        this.deletionJobService = deletionJobService;
+        this.responseCache = responseCache;
     }
 
+    @BulkOperation
     @GetMapping
-    public ResponseEntity<List<Author>> getAllAuthors() {
-        return ResponseEntity.ok(authorService.getAllAuthors());
+    public ResponseEntity<List<Author>> getAllAuthors(@RequestHeader HttpHeaders headers) {
+        return responseCache.json("authors", AUTHOR_TABLES, headers, authorService::getAllAuthors);
+    }
+
+    @GetMapping(params = "name")
+    public ResponseEntity<Author> getAuthorByName(@RequestParam String name) {
+        return ResponseEntity.ok(authorService.getAuthorByName(name));
     }
 
     @GetMapping("/{id}")
@@ -33,15 +59,35 @@ public class AuthorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAuthor);
     }
 
+    @BulkOperation
+    @PostMapping("/resolve")
+    public ResponseEntity<List<NameResolution>> resolveAuthors(@RequestBody List<String> names) {
+        return ResponseEntity.ok(authorService.resolveAuthors(names));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Author> updateAuthor(@PathVariable Long id, @RequestBody Author author) {
         Author updatedAuthor = authorService.updateAuthor(id, author);
         return ResponseEntity.ok(updatedAuthor);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {ApiMediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Author> patchAuthor(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Author patchedAuthor = authorService.patchAuthor(id, patch);
+        return ResponseEntity.ok(patchedAuthor);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAuthor(@PathVariable Long id) {
         authorService.deleteAuthor(id);
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<DeletionJobStatus> deleteAuthorWithBooks(@PathVariable Long id) {
+        DeletionJobStatus job = deletionJobService.startAuthorDeletion(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/deletions/" + job.id()))
+                .body(job);
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ArchiveRunStatus;
+import com.example.demo.service.interfaces.IBookArchiveService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin/archive")
+public class BookArchiveController {
+    private final IBookArchiveService bookArchiveService;
+
+    public BookArchiveController(IBookArchiveService bookArchiveService) {
+        this.bookArchiveService = bookArchiveService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchiveRunStatus>> getRuns() {
+        return ResponseEntity.ok(bookArchiveService.getRuns());
+    }
+
+    @PostMapping
+    public ResponseEntity<ArchiveRunStatus> startRun() {
+        return ResponseEntity.accepted().body(bookArchiveService.startRun());
+    }
+}
@@ -1,25 +1,48 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.ResponseCache;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Book;
+import com.example.demo.ratelimit.BulkOperation;
 import com.example.demo.service.interfaces.IBookService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/books")
 public class BookController {
+    private static final Set<String> BOOK_TABLES = Set.of(EntityChangedEvent.BOOK);
+
     private final IBookService bookService;
+    private final ResponseCache responseCache;
 
-    public BookController(IBookService bookService) {
+    public BookController(IBookService bookService, ResponseCache responseCache) {
         this.bookService = bookService;
+        this.responseCache = responseCache;
     }
 
+    @BulkOperation
     @GetMapping
-    public ResponseEntity<List<Book>> getAllBooks() {
-        return ResponseEntity.ok(bookService.getAllBooks());
+    public ResponseEntity<List<Book>> getAllBooks(@RequestHeader HttpHeaders headers) {
+        return responseCache.json("books", BOOK_TABLES, headers, bookService::getAllBooks, bookService::getAllBooksJson);
+    }
+
+    @BulkOperation
+    @GetMapping(params = {"fromYear", "toYear"})
+    public ResponseEntity<List<Book>> getBooksByYearRange(@RequestParam Integer fromYear, @RequestParam Integer toYear,
+                                                          @RequestHeader HttpHeaders headers) {
+        return responseCache.json("books?fromYear=" + fromYear + "&toYear=" + toYear, BOOK_TABLES, headers,
+                () -> bookService.getBooksByYearRange(fromYear, toYear),
+                () -> bookService.getBooksByYearRangeJson(fromYear, toYear));
     }
 
     @GetMapping("/{id}")
@@ -27,6 +50,11 @@ public class BookController {
         return ResponseEntity.ok(bookService.getBookById(id));
     }
 
+    @GetMapping(value = "/{id}", params = "year")
+    public ResponseEntity<Book> getBookByIdAndYear(@PathVariable Long id, @RequestParam Integer year) {
+        return ResponseEntity.ok(bookService.getBookById(id, year));
+    }
+
     @PostMapping
     public ResponseEntity<Book> createBook(@RequestBody Book book) {
         Book createdBook = bookService.createBook(book);
@@ -39,6 +67,12 @@ public class BookController {
         return ResponseEntity.ok(updatedBook);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {ApiMediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Book> patchBook(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Book patchedBook = bookService.patchBook(id, patch);
+        return ResponseEntity.ok(patchedBook);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBook(@PathVariable Long id) {
         bookService.deleteBook(id);
@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import com.example.demo.catalog.CatalogSnapshotService;
+import com.example.demo.dto.CatalogSnapshotInfo;
+import com.example.demo.ratelimit.BulkOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin/snapshots")
+public class CatalogSnapshotController {
+    private final CatalogSnapshotService snapshotService;
+
+    public CatalogSnapshotController(CatalogSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @BulkOperation
+    @PostMapping
+    public ResponseEntity<CatalogSnapshotInfo> writeSnapshot() {
+        return ResponseEntity.ok(snapshotService.writeSnapshot());
+    }
+
+    @GetMapping("/verify")
+    public ResponseEntity<CatalogSnapshotInfo> verifySnapshot() {
+        return ResponseEntity.ok(snapshotService.verify());
+    }
+}
@@ -1,25 +1,51 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.ResponseCache;
+import com.example.demo.dto.DeletionJobStatus;
+import com.example.demo.dto.NameResolution;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Category;
+import com.example.demo.ratelimit.BulkOperation;
 import com.example.demo.service.interfaces.ICategoryService;
+import com.example.demo.service.interfaces.IDeletionJobService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/categories")
 public class CategoryController {
+    private static final Set<String> CATEGORY_TABLES = Set.of(EntityChangedEvent.CATEGORY);
+
     private final ICategoryService categoryService;
+    private final IDeletionJobService deletionJobService;
+    private final ResponseCache responseCache;
 
-    public CategoryController(ICategoryService categoryService) {
+    public CategoryController(ICategoryService categoryService, IDeletionJobService deletionJobService,
+                              ResponseCache responseCache) {
         this.categoryService = categoryService;
+        this.deletionJobService = deletionJobService;
+        this.responseCache = responseCache;
     }
 
+    @BulkOperation
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<Category>> getAllCategories(@RequestHeader HttpHeaders headers) {
+        return responseCache.json("categories", CATEGORY_TABLES, headers, categoryService::getAllCategories);
+    }
+
+    @GetMapping(params = "name")
+    public ResponseEntity<Category> getCategoryByName(@RequestParam String name) {
+        return ResponseEntity.ok(categoryService.getCategoryByName(name));
     }
 
     @GetMapping("/{id}")
@@ -33,15 +59,35 @@ public class CategoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCategory);
     }
 
+    @BulkOperation
+    @PostMapping("/resolve")
+    public ResponseEntity<List<NameResolution>> resolveCategories(@RequestBody List<String> names) {
+        return ResponseEntity.ok(categoryService.resolveCategories(names));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Category> updateCategory(@PathVariable Long id, @RequestBody Category category) {
         Category updatedCategory = categoryService.updateCategory(id, category);
         return ResponseEntity.ok(updatedCategory);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {ApiMediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Category> patchCategory(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Category patchedCategory = categoryService.patchCategory(id, patch);
+        return ResponseEntity.ok(patchedCategory);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
         categoryService.deleteCategory(id);
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<DeletionJobStatus> deleteCategoryWithBooks(@PathVariable Long id) {
+        DeletionJobStatus job = deletionJobService.startCategoryDeletion(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/deletions/" + job.id()))
+                .body(job);
+    }
 }
@@ -0,0 +1,69 @@
+package com.example.demo.controller;
+
+import com.example.demo.deadline.LatencyBudget;
+import com.example.demo.dto.ImportReport;
+import com.example.demo.dto.ImportStatus;
+import com.example.demo.ratelimit.BulkOperation;
+import com.example.demo.service.interfaces.ICsvTransferService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * CSV import and export of {@code books}, {@code authors} and {@code categories}. Exports are
+ * written straight to the servlet output stream on the request thread, so the bulk bulkhead
+ * permit is held for as long as the transfer runs.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin/csv")
+public class CsvTransferController {
+    private final ICsvTransferService csvTransferService;
+
+    public CsvTransferController(ICsvTransferService csvTransferService) {
+        this.csvTransferService = csvTransferService;
+    }
+
+    @BulkOperation
+    @LatencyBudget("PT30M")
+    @PostMapping(value = "/{table}", consumes = {ApiMediaTypes.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportReport> importCsv(@PathVariable String table, InputStream body) {
+        return ResponseEntity.ok(csvTransferService.importCsv(table, body));
+    }
+
+    @BulkOperation
+    @LatencyBudget("PT30M")
+    @GetMapping(value = "/{table}", produces = ApiMediaTypes.TEXT_CSV_VALUE)
+    public void exportCsv(@PathVariable String table, HttpServletResponse response) throws IOException {
+        writeCsv(response, table + ".csv");
+        csvTransferService.exportCsv(table, response.getOutputStream());
+    }
+
+    @GetMapping("/imports")
+    public ResponseEntity<List<ImportStatus>> getImports() {
+        return ResponseEntity.ok(csvTransferService.getImports());
+    }
+
+    @BulkOperation
+    @LatencyBudget("PT30M")
+    @GetMapping(value = "/imports/{id}/rejections", produces = ApiMediaTypes.TEXT_CSV_VALUE)
+    public void exportRejections(@PathVariable UUID id, HttpServletResponse response) throws IOException {
+        writeCsv(response, "rejections-" + id + ".csv");
+        csvTransferService.exportRejections(id, response.getOutputStream());
+    }
+
+    private static void writeCsv(HttpServletResponse response, String filename) {
+        response.setContentType(ApiMediaTypes.TEXT_CSV_VALUE + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+    }
+}
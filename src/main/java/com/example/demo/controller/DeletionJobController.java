@@ -0,0 +1,31 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DeletionJobStatus;
+import com.example.demo.service.interfaces.IDeletionJobService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/jobs/deletions")
+public class DeletionJobController {
+    private final IDeletionJobService deletionJobService;
+
+    public DeletionJobController(IDeletionJobService deletionJobService) {
+        this.deletionJobService = deletionJobService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DeletionJobStatus>> getJobs() {
+        return ResponseEntity.ok(deletionJobService.getJobs());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<DeletionJobStatus> getJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(deletionJobService.getJob(id));
+    }
+}
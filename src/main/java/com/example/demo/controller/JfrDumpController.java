@@ -0,0 +1,44 @@
+package com.example.demo.controller;
+
+import com.example.demo.jfr.JfrRecordingService;
+import com.example.demo.ratelimit.BulkOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+
+/**
+ * Downloads the running recording. A dump carries method arguments, thread names and system
+ * properties of the process, so the endpoint only exists with {@code library.jfr.dump-enabled=true}.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin/jfr")
+@ConditionalOnProperty(name = "library.jfr.dump-enabled", havingValue = "true")
+public class JfrDumpController {
+    private final JfrRecordingService recordingService;
+
+    public JfrDumpController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    @BulkOperation
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dumpRecording() {
+        Path file = recordingService.dump();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
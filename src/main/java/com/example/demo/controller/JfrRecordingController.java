@@ -0,0 +1,33 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.JfrRecordingInfo;
+import com.example.demo.jfr.JfrRecordingService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin/jfr")
+public class JfrRecordingController {
+    private final JfrRecordingService recordingService;
+
+    public JfrRecordingController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    @GetMapping
+    public ResponseEntity<JfrRecordingInfo> getRecording() {
+        return ResponseEntity.ok(recordingService.status());
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<JfrRecordingInfo> startRecording(@RequestParam(defaultValue = "default") String settings) {
+        return ResponseEntity.ok(recordingService.start(settings));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<JfrRecordingInfo> stopRecording() {
+        return ResponseEntity.ok(recordingService.stop());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.controller.reactive;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.Book;
+import com.example.demo.ratelimit.BulkOperation;
+import com.example.demo.repository.reactive.ReactiveBookRepository;
+import com.example.demo.validator.ReactiveBookValidator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/books")
+public class ReactiveBookController {
+    private final ReactiveBookRepository bookRepository;
+    private final ReactiveBookValidator bookValidator;
+
+    public ReactiveBookController(ReactiveBookRepository bookRepository, ReactiveBookValidator bookValidator) {
+        this.bookRepository = bookRepository;
+        this.bookValidator = bookValidator;
+    }
+
+    @BulkOperation
+    @GetMapping
+    public Flux<Book> getAllBooks() {
+        return bookRepository.findAll();
+    }
+
+    @BulkOperation
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Book> streamAllBooks() {
+        return bookRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Book> getBookById(@PathVariable Long id) {
+        return bookRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.book(id)));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Book>> createBook(@RequestBody Book book) {
+        book.setId(null);
+        return bookValidator.validate(book)
+                .flatMap(bookRepository::insert)
+                .map(createdBook -> ResponseEntity.status(HttpStatus.CREATED).body(createdBook));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<Book> updateBook(@PathVariable Long id, @RequestBody Book book) {
+        return requireExisting(id)
+                .then(bookValidator.validate(book))
+                .flatMap(validBook -> {
+                    validBook.setId(id);
+                    return bookRepository.update(validBook);
+                });
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteBook(@PathVariable Long id) {
+        return requireExisting(id)
+                .then(bookRepository.deleteById(id))
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    private Mono<Void> requireExisting(Long id) {
+        return bookRepository.existsById(id)
+                .flatMap(exists -> exists ? Mono.<Void>empty() : Mono.error(ResourceNotFoundException.book(id)));
+    }
+}
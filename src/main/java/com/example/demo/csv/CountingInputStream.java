@@ -0,0 +1,50 @@
+package com.example.demo.csv;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * Reports the running byte count of the wrapped stream, so an import's progress can be
+ * observed while {@code COPY} is still consuming the request body.
+ */
+public class CountingInputStream extends FilterInputStream {
+    private final LongConsumer progress;
+    private long count;
+
+    public CountingInputStream(InputStream in, LongConsumer progress) {
+        super(in);
+        this.progress = progress;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            advance(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            advance(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        advance(skipped);
+        return skipped;
+    }
+
+    private void advance(long bytes) {
+        count += bytes;
+        progress.accept(count);
+    }
+}
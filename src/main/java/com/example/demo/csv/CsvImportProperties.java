@@ -0,0 +1,14 @@
+package com.example.demo.csv;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "library.csv-import")
+public record CsvImportProperties(
+        @DefaultValue("P7D") Duration rejectionRetention,
+        @DefaultValue("100") int reportedRejections,
+        @DefaultValue("20") int retainedImports
+) {
+}
@@ -0,0 +1,216 @@
+package com.example.demo.csv;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.invalidation.EntityChangedEvent;
+
+import java.util.List;
+
+/**
+ * SQL for moving one table through {@code COPY}. Imports land in the text-typed
+ * {@code import_staging} table, syntactically valid rows are cast into {@code import_typed},
+ * and every check is a set-based query yielding {@code (line_no, reason)} rows for
+ * {@code import_rejected}.
+ */
+public enum CsvTable {
+    BOOKS("books",
+            "id, title, year, author_id, category_id",
+            "id text, title text, year text, author_id text, category_id text",
+            """
+                    SELECT s.line_no, CASE
+                        WHEN s.id IS NOT NULL AND s.id !~ '^[0-9]{1,18}$' THEN 'id is not a valid number'
+                        WHEN s.title IS NULL OR btrim(s.title) = '' THEN 'title is empty'
+                        WHEN char_length(s.title) NOT BETWEEN 2 AND 100 THEN 'title must be between 2 and 100 characters'
+                        WHEN s.year IS NOT NULL AND s.year !~ '^-?[0-9]{1,9}$' THEN 'year is not a valid integer'
+                        WHEN s.author_id IS NOT NULL AND s.author_id !~ '^[0-9]{1,18}$' THEN 'author_id is not a valid number'
+                        WHEN s.category_id IS NOT NULL AND s.category_id !~ '^[0-9]{1,18}$' THEN 'category_id is not a valid number'
+                    END AS reason
+                    FROM import_staging s
+                    """,
+            "s.line_no, s.id::bigint AS id, s.title, s.year::integer AS year, "
+                    + "s.author_id::bigint AS author_id, s.category_id::bigint AS category_id",
+            List.of(
+                    duplicateIdCheck(),
+                    """
+                            SELECT t.line_no, 'author ' || t.author_id || ' does not exist'
+                            FROM import_typed t
+                            WHERE t.author_id IS NOT NULL
+                              AND NOT EXISTS (SELECT 1 FROM authors a WHERE a.id = t.author_id)
+                            """,
+                    """
+                            SELECT t.line_no, 'category ' || t.category_id || ' does not exist'
+                            FROM import_typed t
+                            WHERE t.category_id IS NOT NULL
+                              AND NOT EXISTS (SELECT 1 FROM categories c WHERE c.id = t.category_id)
+                            """
+            ),
+            """
+                    UPDATE books b
+                    SET title = t.title, year = t.year, author_id = t.author_id, category_id = t.category_id
+                    FROM import_typed t
+                    WHERE b.id = t.id
+                    """,
+            """
+                    INSERT INTO books (id, title, year, author_id, category_id)
+                    SELECT coalesce(t.id, nextval(pg_get_serial_sequence('books', 'id'))),
+                           t.title, t.year, t.author_id, t.category_id
+                    FROM import_typed t
+                    WHERE NOT EXISTS (SELECT 1 FROM books b WHERE b.id = t.id)
+                    ORDER BY t.line_no
+                    """),
+
+    AUTHORS("authors",
+            "id, name",
+            "id text, name text",
+            nameRowCheck(),
+            "s.line_no, s.id::bigint AS id, s.name",
+            nameTypedChecks("authors"),
+            nameUpdate("authors"),
+            nameInsert("authors")),
+
+    CATEGORIES("categories",
+            "id, name",
+            "id text, name text",
+            nameRowCheck(),
+            "s.line_no, s.id::bigint AS id, s.name",
+            nameTypedChecks("categories"),
+            nameUpdate("categories"),
+            nameInsert("categories"));
+
+    private final String table;
+    private final String columns;
+    private final String stagingColumns;
+    private final String rowCheck;
+    private final String typedColumns;
+    private final List<String> typedChecks;
+    private final String update;
+    private final String insert;
+
+    CsvTable(String table, String columns, String stagingColumns, String rowCheck, String typedColumns,
+             List<String> typedChecks, String update, String insert) {
+        this.table = table;
+        this.columns = columns;
+        this.stagingColumns = stagingColumns;
+        this.rowCheck = rowCheck;
+        this.typedColumns = typedColumns;
+        this.typedChecks = typedChecks;
+        this.update = update;
+        this.insert = insert;
+    }
+
+    public static CsvTable fromPath(String name) {
+        for (CsvTable candidate : values()) {
+            if (candidate.table.equals(name)) {
+                return candidate;
+            }
+        }
+        throw new ResourceNotFoundException("No CSV transfer for table " + name);
+    }
+
+    public String tableName() {
+        return table;
+    }
+
+    public String entityType() {
+        return switch (this) {
+            case BOOKS -> EntityChangedEvent.BOOK;
+            case AUTHORS -> EntityChangedEvent.AUTHOR;
+            case CATEGORIES -> EntityChangedEvent.CATEGORY;
+        };
+    }
+
+    public String createStaging() {
+        return "CREATE TEMP TABLE import_staging (line_no BIGINT GENERATED ALWAYS AS IDENTITY, "
+                + stagingColumns + ") ON COMMIT DROP";
+    }
+
+    public String copyIn() {
+        return "COPY import_staging (" + columns + ") FROM STDIN WITH (FORMAT csv, HEADER true)";
+    }
+
+    public String copyOut() {
+        return "COPY (SELECT " + columns + " FROM " + table + " ORDER BY id) TO STDOUT WITH (FORMAT csv, HEADER true)";
+    }
+
+    public String rowCheck() {
+        return rowCheck;
+    }
+
+    public String createTyped() {
+        return "CREATE TEMP TABLE import_typed ON COMMIT DROP AS SELECT " + typedColumns
+                + " FROM import_staging s WHERE NOT EXISTS (SELECT 1 FROM import_rejected r WHERE r.line_no = s.line_no)";
+    }
+
+    public List<String> typedChecks() {
+        return typedChecks;
+    }
+
+    /**
+     * Moves the id sequence past the largest imported id, so generated ids never collide with imported ones.
+     */
+    public String advanceSequence() {
+        return "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), m.max_id) "
+                + "FROM (SELECT max(id) AS max_id FROM import_typed) m "
+                + "WHERE m.max_id IS NOT NULL AND m.max_id >= nextval(pg_get_serial_sequence('" + table + "', 'id'))";
+    }
+
+    public String update() {
+        return update;
+    }
+
+    public String insert() {
+        return insert;
+    }
+
+    private static String duplicateIdCheck() {
+        return """
+                SELECT d.line_no, 'duplicate id ' || d.id || ' in file'
+                FROM (SELECT line_no, id, row_number() OVER (PARTITION BY id ORDER BY line_no) AS n
+                      FROM import_typed WHERE id IS NOT NULL) d
+                WHERE d.n > 1
+                """;
+    }
+
+    private static String nameRowCheck() {
+        return """
+                SELECT s.line_no, CASE
+                    WHEN s.id IS NOT NULL AND s.id !~ '^[0-9]{1,18}$' THEN 'id is not a valid number'
+                    WHEN s.name IS NULL OR btrim(s.name) = '' THEN 'name is empty'
+                    WHEN char_length(s.name) NOT BETWEEN 2 AND 100 THEN 'name must be between 2 and 100 characters'
+                END AS reason
+                FROM import_staging s
+                """;
+    }
+
+    private static List<String> nameTypedChecks(String table) {
+        return List.of(
+                duplicateIdCheck(),
+                """
+                        SELECT d.line_no, 'duplicate name ' || d.name || ' in file'
+                        FROM (SELECT line_no, name,
+                                     row_number() OVER (PARTITION BY lower(btrim(name)) ORDER BY line_no) AS n
+                              FROM import_typed) d
+                        WHERE d.n > 1
+                        """,
+                """
+                        SELECT t.line_no, 'name already used by id ' || e.id
+                        FROM import_typed t
+                        JOIN %s e ON lower(btrim(e.name)) = lower(btrim(t.name))
+                        WHERE e.id IS DISTINCT FROM t.id
+                        """.formatted(table)
+        );
+    }
+
+    private static String nameUpdate(String table) {
+        return "UPDATE " + table + " e SET name = t.name FROM import_typed t WHERE e.id = t.id";
+    }
+
+    private static String nameInsert(String table) {
+        return """
+                INSERT INTO %1$s (id, name)
+                SELECT coalesce(t.id, nextval(pg_get_serial_sequence('%1$s', 'id'))), t.name
+                FROM import_typed t
+                WHERE NOT EXISTS (SELECT 1 FROM %1$s e WHERE e.id = t.id)
+                ORDER BY t.line_no
+                """.formatted(table);
+    }
+}
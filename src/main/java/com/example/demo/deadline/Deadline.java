@@ -0,0 +1,87 @@
+package com.example.demo.deadline;
+
+import com.example.demo.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which the current request must be answered. Bound to the request thread by
+ * {@link DeadlineInterceptor}, so the service and data layers can read it without extra
+ * parameters; threads that serve no request have none.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final Duration budget;
+    private final long expiresAtNanos;
+
+    private Deadline(Duration budget, long nowNanos) {
+        this.budget = budget;
+        this.expiresAtNanos = nowNanos + budget.toNanos();
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    static Deadline start(Duration budget) {
+        Deadline deadline = new Deadline(budget, System.nanoTime());
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps {@code task} so it runs under the deadline of the calling thread, for work the
+     * request hands to other threads.
+     */
+    public static Runnable propagate(Runnable task) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public Duration budget() {
+        return budget;
+    }
+
+    public long remainingNanos() {
+        return expiresAtNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * @throws DeadlineExceededException if the budget is used up
+     */
+    public void check() {
+        if (isExpired()) {
+            throw DeadlineExceededException.after(budget);
+        }
+    }
+
+    /**
+     * Checks the deadline of the current thread, if there is one.
+     */
+    public static void checkCurrent() {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.check();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.deadline;
+
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.ratelimit.BulkOperation;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The budget of a request: the handler's {@link LatencyBudget}, or the default of its traffic
+ * class, shortened by the client's request header (milliseconds or an ISO-8601 duration) when
+ * that asks for less. Shared by the servlet interceptor and the reactive filter.
+ */
+public class DeadlineBudgets {
+    private final DeadlineProperties properties;
+    private final InvalidDataException notPositive;
+    private final InvalidDataException malformed;
+
+    public DeadlineBudgets(DeadlineProperties properties) {
+        this.properties = properties;
+        this.notPositive = new InvalidDataException(properties.header() + " must be positive");
+        this.malformed = new InvalidDataException(
+                properties.header() + " must be milliseconds or an ISO-8601 duration");
+    }
+
+    /**
+     * @param method    the handler, {@code null} when the request matched none
+     * @param requested value of the request header, may be {@code null}
+     * @throws InvalidDataException when the header is neither milliseconds nor a positive duration
+     */
+    public Duration budgetFor(HandlerMethod method, String requested) {
+        Duration budget = method != null ? endpointBudget(method) : properties.interactiveBudget();
+        if (requested != null && !requested.isBlank()) {
+            Duration clientBudget = parse(requested.trim());
+            if (clientBudget.compareTo(budget) < 0) {
+                budget = clientBudget;
+            }
+        }
+        return budget;
+    }
+
+    private Duration endpointBudget(HandlerMethod method) {
+        LatencyBudget latencyBudget = method.getMethodAnnotation(LatencyBudget.class);
+        if (latencyBudget != null) {
+            return Duration.parse(latencyBudget.value());
+        }
+        return method.hasMethodAnnotation(BulkOperation.class) ? properties.bulkBudget() : properties.interactiveBudget();
+    }
+
+    private Duration parse(String value) {
+        try {
+            Duration budget = Character.isDigit(value.charAt(0))
+                    ? Duration.ofMillis(Long.parseLong(value))
+                    : Duration.parse(value);
+            if (budget.isNegative() || budget.isZero()) {
+                throw notPositive;
+            }
+            return budget;
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw malformed;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.deadline;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.postgresql.jdbc.PgStatement;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the current request's {@link Deadline} to JDBC: no connection is handed out once
+ * the deadline has passed, a request waits for a Hikari connection no longer than its remaining
+ * budget, and every statement created on a request thread gets the remaining budget as its query
+ * timeout, so the driver cancels it server-side (lock waits included). Connections taken by
+ * threads without a deadline are returned unwrapped and wait up to the pool's connection timeout.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+    /**
+     * SQLSTATE of a statement cancelled by a timeout, also used for exhausted deadlines.
+     */
+    static final String QUERY_CANCELED = "57014";
+
+    public DeadlineDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return super.getConnection();
+        }
+        return withDeadline(deadline, this::acquire);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return super.getConnection(username, password);
+        }
+        return withDeadline(deadline, ignored -> super.getConnection(username, password));
+    }
+
+    private Connection withDeadline(Deadline deadline, ConnectionSource source) throws SQLException {
+        checkDeadline(deadline);
+        Connection connection;
+        try {
+            connection = source.get(deadline);
+        } catch (SQLTransientConnectionException ex) {
+            // a pool wait cut short by the deadline is a timeout, not an unavailable database
+            checkDeadline(deadline);
+            throw ex;
+        }
+        if (deadline.isExpired()) {
+            // the pool wait used up the budget
+            connection.close();
+            checkDeadline(deadline);
+        }
+        return (Connection) Proxy.newProxyInstance(DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new DeadlineConnection(connection, deadline));
+    }
+
+    private Connection acquire(Deadline deadline) throws SQLException {
+        if (obtainTargetDataSource() instanceof HikariDataSource hikari
+                && hikari.getHikariPoolMXBean() instanceof HikariPool pool) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanos());
+            return pool.getConnection(Math.max(1, Math.min(remainingMillis, hikari.getConnectionTimeout())));
+        }
+        return super.getConnection();
+    }
+
+    private static void checkDeadline(Deadline deadline) throws SQLTimeoutException {
+        if (deadline.isExpired()) {
+            throw new SQLTimeoutException("Request exceeded its deadline of " + deadline.budget().toMillis() + " ms",
+                    QUERY_CANCELED);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(Deadline deadline) throws SQLException;
+    }
+
+    private record DeadlineConnection(Connection target, Deadline deadline) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            boolean createsStatement = name.equals("createStatement") || name.equals("prepareStatement")
+                    || name.equals("prepareCall");
+            if (createsStatement) {
+                checkDeadline(deadline);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            if (createsStatement) {
+                applyTimeout((Statement) result);
+            }
+            return result;
+        }
+
+        private void applyTimeout(Statement statement) throws SQLException {
+            long remainingMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanos()));
+            if (statement.isWrapperFor(PgStatement.class)) {
+                statement.unwrap(PgStatement.class).setQueryTimeoutMs(remainingMillis);
+            } else {
+                statement.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999)));
+            }
+        }
+    }
+}
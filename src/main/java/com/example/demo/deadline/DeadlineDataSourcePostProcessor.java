@@ -0,0 +1,21 @@
+package com.example.demo.deadline;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@link DataSource} in a {@link DeadlineDataSource}. Being a
+ * {@code DelegatingDataSource}, the wrapper is still unwrapped by the pool metrics. Registered by
+ * {@code DeadlineConfiguration}.
+ */
+public class DeadlineDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineDataSource)) {
+            return new DeadlineDataSource(dataSource);
+        }
+        return bean;
+    }
+}
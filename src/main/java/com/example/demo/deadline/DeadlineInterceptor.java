@@ -0,0 +1,34 @@
+package com.example.demo.deadline;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Binds a {@link Deadline} to the request thread, with the budget {@link DeadlineBudgets}
+ * computes for the handler and the client's request header.
+ */
+public class DeadlineInterceptor implements HandlerInterceptor {
+    private final DeadlineProperties properties;
+    private final DeadlineBudgets budgets;
+
+    public DeadlineInterceptor(DeadlineProperties properties) {
+        this.properties = properties;
+        this.budgets = new DeadlineBudgets(properties);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        Deadline.start(budgets.budgetFor(method, request.getHeader(properties.header())));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Deadline.clear();
+    }
+}
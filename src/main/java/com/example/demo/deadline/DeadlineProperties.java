@@ -0,0 +1,15 @@
+package com.example.demo.deadline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "library.deadline")
+public record DeadlineProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Request-Timeout") String header,
+        @DefaultValue("PT10S") Duration interactiveBudget,
+        @DefaultValue("PT60S") Duration bulkBudget
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the default latency budget of a handler method; a shorter budget requested by the
+ * client still wins.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LatencyBudget {
+
+    /**
+     * ISO-8601 duration, e.g. {@code PT30M}.
+     */
+    String value();
+}
@@ -0,0 +1,49 @@
+package com.example.demo.deadline;
+
+import com.example.demo.exception.DeadlineExceededException;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * The reactive counterpart of {@link DeadlineInterceptor}. There is no request thread to bind a
+ * {@link Deadline} to, so the budget is applied as a timeout on the whole exchange; cancelling
+ * it cancels the R2DBC statement that is still running.
+ */
+public class ReactiveDeadlineFilter implements WebFilter, Ordered {
+    // first, so the time spent on the rate limit counts against the budget
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final DeadlineProperties properties;
+    private final DeadlineBudgets budgets;
+    private final HandlerMapping handlerMapping;
+
+    public ReactiveDeadlineFilter(DeadlineProperties properties, HandlerMapping handlerMapping) {
+        this.properties = properties;
+        this.budgets = new DeadlineBudgets(properties);
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        String requested = exchange.getRequest().getHeaders().getFirst(properties.header());
+        return handlerMapping.getHandler(exchange)
+                .ofType(HandlerMethod.class)
+                .map(method -> budgets.budgetFor(method, requested))
+                .switchIfEmpty(Mono.fromSupplier(() -> budgets.budgetFor(null, requested)))
+                .flatMap(budget -> chain.filter(exchange)
+                        .timeout(budget, Mono.error(() -> DeadlineExceededException.after(budget))));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ArchiveRunStatus(
+        UUID id,
+        State state,
+        int beforeYear,
+        long rowsMoved,
+        long conflicts,
+        int batches,
+        double meanBatchMillis,
+        double maxBatchMillis,
+        double lockWaitMillis,
+        double maxLockWaitMillis,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
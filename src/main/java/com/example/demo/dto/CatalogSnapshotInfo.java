@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import java.time.Instant;
+
+public record CatalogSnapshotInfo(
+        String path,
+        boolean valid,
+        Instant createdAt,
+        int books,
+        int authors,
+        int categories,
+        long sizeBytes,
+        String checksum,
+        String error
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeletionJobStatus(
+        UUID id,
+        String entityType,
+        Long entityId,
+        State state,
+        long booksDeleted,
+        int batches,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
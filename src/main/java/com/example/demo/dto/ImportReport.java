@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a CSV import. {@code rejections} holds only the first rejected rows, the full
+ * list is available as CSV from {@code /api/admin/csv/imports/{importId}/rejections}.
+ */
+public record ImportReport(
+        UUID importId,
+        String table,
+        long rowsRead,
+        long inserted,
+        long updated,
+        long rejected,
+        List<Rejection> rejections,
+        long durationMillis
+) {
+    /**
+     * @param row data row in the file, 1-based and not counting the header
+     */
+    public record Rejection(long row, String reason) {
+    }
+}
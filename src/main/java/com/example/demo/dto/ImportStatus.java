@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ImportStatus(
+        UUID id,
+        String table,
+        State state,
+        long bytesRead,
+        ImportReport report,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
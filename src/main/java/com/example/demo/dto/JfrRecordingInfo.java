@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record JfrRecordingInfo(
+        long id,
+        String name,
+        String state,
+        String settings,
+        Instant startedAt,
+        Duration duration,
+        long sizeBytes
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+/**
+ * Result of resolving one requested name to an author or category.
+ *
+ * @param requested the name as sent by the client
+ * @param id        id of the matching or newly created row
+ * @param name      the stored name, which may differ from {@code requested} in case and spacing
+ * @param created   whether the row was inserted by this request
+ */
+public record NameResolution(String requested, Long id, String name, boolean created) {
+}
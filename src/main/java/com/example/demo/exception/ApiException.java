@@ -0,0 +1,54 @@
+package com.example.demo.exception;
+
+/**
+ * Base class for the expected failures of the API (validation errors, missing
+ * resources). These are part of normal request handling, so they are created
+ * without a stack trace or suppression list, and the message is only rendered
+ * when something actually asks for it. Instances carrying a fixed message are
+ * immutable, and the services preallocate and rethrow them; failures that name
+ * an id or a value still cost one small object per throw, but no stack walk.
+ */
+public abstract class ApiException extends RuntimeException {
+    private static final String PLACEHOLDER = "{}";
+
+    private final ErrorCode code;
+    private final String template;
+    private final Object argument;
+    private String message;
+
+    protected ApiException(ErrorCode code, String message) {
+        this(code, message, null);
+    }
+
+    /**
+     * @param template message with a single {@code {}} placeholder that is replaced by {@code argument}
+     */
+    protected ApiException(ErrorCode code, String template, Object argument) {
+        super(null, null, false, false);
+        this.code = code;
+        this.template = template;
+        this.argument = argument;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            rendered = render();
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    private String render() {
+        int placeholder = template.indexOf(PLACEHOLDER);
+        if (placeholder < 0) {
+            return template;
+        }
+        return template.substring(0, placeholder) + argument + template.substring(placeholder + PLACEHOLDER.length());
+    }
+}
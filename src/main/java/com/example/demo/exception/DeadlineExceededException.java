@@ -0,0 +1,17 @@
+package com.example.demo.exception;
+
+import java.time.Duration;
+
+/**
+ * The request used up its latency budget; rendered as 504.
+ */
+public class DeadlineExceededException extends ApiException {
+
+    public DeadlineExceededException(String template, Object argument) {
+        super(ErrorCode.DEADLINE_EXCEEDED, template, argument);
+    }
+
+    public static DeadlineExceededException after(Duration budget) {
+        return new DeadlineExceededException("Request exceeded its deadline of {} ms", budget.toMillis());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.exception;
+
+import org.springframework.http.HttpStatus;
+
+public enum ErrorCode {
+    BOOK_NOT_FOUND(HttpStatus.NOT_FOUND),
+    AUTHOR_NOT_FOUND(HttpStatus.NOT_FOUND),
+    CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND),
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND),
+
+    BOOK_TITLE_EMPTY(HttpStatus.BAD_REQUEST),
+    BOOK_TITLE_LENGTH(HttpStatus.BAD_REQUEST),
+    NAME_EMPTY(HttpStatus.BAD_REQUEST),
+    NAME_LENGTH(HttpStatus.BAD_REQUEST),
+    AUTHOR_REFERENCE_MISSING(HttpStatus.BAD_REQUEST),
+    CATEGORY_REFERENCE_MISSING(HttpStatus.BAD_REQUEST),
+    INVALID_YEAR_RANGE(HttpStatus.BAD_REQUEST),
+    INVALID_DATA(HttpStatus.BAD_REQUEST),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST),
+
+    AUTHOR_IN_USE(HttpStatus.CONFLICT),
+    CATEGORY_IN_USE(HttpStatus.CONFLICT),
+    AUTHOR_NAME_TAKEN(HttpStatus.CONFLICT),
+    CATEGORY_NAME_TAKEN(HttpStatus.CONFLICT),
+    RECORDING_ACTIVE(HttpStatus.CONFLICT),
+    BOOK_ARCHIVED(HttpStatus.CONFLICT),
+
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS),
+    BULKHEAD_FULL(HttpStatus.TOO_MANY_REQUESTS),
+
+    DATABASE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE),
+    DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ErrorResponse(
+        Instant timestamp,
+        int status,
+        String error,
+        ErrorCode code,
+        String message,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) List<Violation> violations
+) {
+    public ErrorResponse(Instant timestamp, int status, String error, ErrorCode code, String message) {
+        this(timestamp, status, error, code, message, List.of());
+    }
+
+    public record Violation(ErrorCode code, String message) {
+    }
+}
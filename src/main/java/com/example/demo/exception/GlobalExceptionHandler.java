@@ -1,34 +1,77 @@
 package com.example.demo.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Instant;
+import java.util.List;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<ErrorResponse> handleApiException(ApiException ex) {
+        return buildErrorResponse(ex.getCode(), ex.getMessage());
     }
 
-    @ExceptionHandler(InvalidDataException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidDataException(InvalidDataException ex) {
-        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    @ExceptionHandler(ValidationFailedException.class)
+    public ResponseEntity<ErrorResponse> handleValidationFailed(ValidationFailedException ex) {
+        HttpStatus status = ex.getCode().getStatus();
+        List<ErrorResponse.Violation> violations = ex.getFailures().stream()
+                .map(failure -> new ErrorResponse.Violation(failure.getCode(), failure.getMessage()))
+                .toList();
+        return new ResponseEntity<>(new ErrorResponse(Instant.now(), status.value(), status.getReasonPhrase(),
+                ex.getCode(), ex.getMessage(), violations), status);
     }
 
-    private ResponseEntity<Map<String, Object>> buildErrorResponse(String message, HttpStatus status) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", status.value());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", message);
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(ex.getCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(errorBody(ex.getCode(), ex.getMessage()));
+    }
+
+    /**
+     * Cancelled statements and exhausted request deadlines are 504; a pool that hands out no
+     * connection in time or an unreachable database is 503.
+     */
+    @ExceptionHandler({QueryTimeoutException.class, DataAccessResourceFailureException.class,
+            CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseFailure(RuntimeException ex) {
+        if (isTimeout(ex)) {
+            return buildErrorResponse(ErrorCode.DEADLINE_EXCEEDED, "Request exceeded its deadline");
+        }
+        return ResponseEntity.status(ErrorCode.DATABASE_UNAVAILABLE.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorBody(ErrorCode.DATABASE_UNAVAILABLE, "Database temporarily unavailable"));
+    }
+
+    private static boolean isTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QueryTimeoutException
+                    || cause instanceof SQLTimeoutException
+                    || cause instanceof DeadlineExceededException
+                    || cause instanceof SQLException sql && "57014".equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity<ErrorResponse> buildErrorResponse(ErrorCode code, String message) {
+        return new ResponseEntity<>(errorBody(code, message), code.getStatus());
+    }
 
-        return new ResponseEntity<>(body, status);
+    private static ErrorResponse errorBody(ErrorCode code, String message) {
+        HttpStatus status = code.getStatus();
+        return new ErrorResponse(Instant.now(), status.value(), status.getReasonPhrase(), code, message);
     }
 }
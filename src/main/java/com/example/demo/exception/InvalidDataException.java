@@ -1,7 +1,15 @@
 package com.example.demo.exception;
 
-public class InvalidDataException extends RuntimeException {
+public class InvalidDataException extends ApiException {
     public InvalidDataException(String message) {
-        super(message);
+        super(ErrorCode.INVALID_DATA, message);
+    }
+
+    public InvalidDataException(ErrorCode code, String message) {
+        super(code, message);
+    }
+
+    public InvalidDataException(ErrorCode code, String template, Object argument) {
+        super(code, template, argument);
     }
 }
@@ -0,0 +1,48 @@
+package com.example.demo.exception;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+/**
+ * Renders the {@link ApiException}s raised by the reactive web filters (rate limit, deadline),
+ * which fail outside any handler and so never reach {@link GlobalExceptionHandler}. Runs before
+ * Spring Boot's error handler, with the same body and headers the advice produces.
+ */
+@Component
+@Profile("reactive")
+@Order(-2)
+public class ReactiveApiExceptionHandler implements WebExceptionHandler {
+    private final JsonMapper jsonMapper;
+
+    public ReactiveApiExceptionHandler(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (!(ex instanceof ApiException apiException) || response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        HttpStatus status = apiException.getCode().getStatus();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (ex instanceof TooManyRequestsException tooManyRequests) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(tooManyRequests.getRetryAfterSeconds()));
+        }
+        byte[] body = jsonMapper.writeValueAsBytes(new ErrorResponse(Instant.now(), status.value(),
+                status.getReasonPhrase(), apiException.getCode(), apiException.getMessage()));
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+public class ResourceConflictException extends ApiException {
+    public ResourceConflictException(ErrorCode code, String template, Object argument) {
+        super(code, template, argument);
+    }
+
+    public static ResourceConflictException bookArchived(Long id) {
+        return new ResourceConflictException(ErrorCode.BOOK_ARCHIVED, "Book with id {} is archived and read-only", id);
+    }
+}
@@ -1,7 +1,23 @@
 package com.example.demo.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends ApiException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(ErrorCode.RESOURCE_NOT_FOUND, message);
+    }
+
+    public ResourceNotFoundException(ErrorCode code, String template, Object argument) {
+        super(code, template, argument);
+    }
+
+    public static ResourceNotFoundException book(Long id) {
+        return new ResourceNotFoundException(ErrorCode.BOOK_NOT_FOUND, "Book with id {} not found", id);
+    }
+
+    public static ResourceNotFoundException author(Long id) {
+        return new ResourceNotFoundException(ErrorCode.AUTHOR_NOT_FOUND, "Author with id {} not found", id);
+    }
+
+    public static ResourceNotFoundException category(Long id) {
+        return new ResourceNotFoundException(ErrorCode.CATEGORY_NOT_FOUND, "Category with id {} not found", id);
     }
 }
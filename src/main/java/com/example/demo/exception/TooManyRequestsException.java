@@ -0,0 +1,27 @@
+package com.example.demo.exception;
+
+/**
+ * Request rejected by a rate limit or bulkhead; rendered as 429 with a {@code Retry-After} header.
+ */
+public class TooManyRequestsException extends ApiException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ErrorCode code, String template, Object argument, long retryAfterSeconds) {
+        super(code, template, argument);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public static TooManyRequestsException rateLimited(long retryAfterSeconds) {
+        return new TooManyRequestsException(ErrorCode.RATE_LIMITED,
+                "Rate limit exceeded, retry after {} s", retryAfterSeconds, retryAfterSeconds);
+    }
+
+    public static TooManyRequestsException bulkheadFull(String trafficClass, long retryAfterSeconds) {
+        return new TooManyRequestsException(ErrorCode.BULKHEAD_FULL,
+                "Too many concurrent {} requests", trafficClass, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.exception;
+
+import java.util.List;
+
+/**
+ * Several validation rules rejected the same entity. A single failure is thrown as is, so
+ * clients keep seeing its specific error code.
+ */
+public class ValidationFailedException extends InvalidDataException {
+    private final List<ApiException> failures;
+
+    private ValidationFailedException(List<ApiException> failures) {
+        super(ErrorCode.VALIDATION_FAILED, "{} validation rules failed", failures.size());
+        this.failures = failures;
+    }
+
+    public static void throwIfAny(List<? extends ApiException> failures) {
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            throw new ValidationFailedException(List.copyOf(failures));
+        }
+    }
+
+    public List<ApiException> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.invalidation;
+
+/**
+ * Published by the services after writing an entity. Once the surrounding transaction has
+ * committed, {@link InvalidationPublisher} forwards it to the other nodes.
+ *
+ * @param entityType {@code Author}, {@code Category} or {@code Book}
+ * @param id         the changed entity, or {@code null} when any entity of the type may have changed
+ */
+public record EntityChangedEvent(String entityType, Long id) {
+    public static final String AUTHOR = "Author";
+    public static final String CATEGORY = "Category";
+    public static final String BOOK = "Book";
+
+    public static EntityChangedEvent author(Long id) {
+        return new EntityChangedEvent(AUTHOR, id);
+    }
+
+    public static EntityChangedEvent category(Long id) {
+        return new EntityChangedEvent(CATEGORY, id);
+    }
+
+    public static EntityChangedEvent book(Long id) {
+        return new EntityChangedEvent(BOOK, id);
+    }
+
+    public static EntityChangedEvent all(String entityType) {
+        return new EntityChangedEvent(entityType, null);
+    }
+}
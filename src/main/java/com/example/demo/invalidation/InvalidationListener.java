@@ -0,0 +1,188 @@
+package com.example.demo.invalidation;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Holds one connection in {@code LISTEN} on the invalidation channel and applies changes made
+ * by other nodes to every {@link InvalidationTarget}. The connection is opened directly from
+ * {@code spring.datasource.*}, outside the pool: it is held for the life of the node, so taking
+ * it from the pool would permanently shrink the pool by one and be recycled by its max lifetime.
+ * It shows up in {@code pg_stat_activity} as {@value #APPLICATION_NAME}. After a lost connection
+ * it reconnects with exponential backoff and, since notifications sent in the meantime are gone,
+ * flushes all targets once it is listening again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidationListener implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(InvalidationListener.class);
+    private static final String APPLICATION_NAME = "library-invalidation-listener";
+    private static final long VALIDATION_INTERVAL_NANOS = 30_000_000_000L;
+
+    private final DataSource dataSource;
+    private final InvalidationProperties properties;
+    private final InvalidationPublisher publisher;
+    private final ObjectProvider<InvalidationTarget> targets;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Thread listener;
+
+    public InvalidationListener(DataSourceProperties dataSourceProperties,
+                                InvalidationProperties properties,
+                                InvalidationPublisher publisher,
+                                ObjectProvider<InvalidationTarget> targets) {
+        if (!properties.channel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + properties.channel());
+        }
+        this.dataSource = listenerDataSource(dataSourceProperties);
+        this.properties = properties;
+        this.publisher = publisher;
+        this.targets = targets;
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("invalidation-listener").daemon().start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean missedNotifications = false;
+        long delayMillis = properties.reconnectDelay().toMillis();
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("LISTEN " + properties.channel());
+                listening = true;
+                delayMillis = properties.reconnectDelay().toMillis();
+                if (missedNotifications) {
+                    // LISTEN is active before the flush, so nothing written from here on is missed
+                    log.info("Invalidation listener reconnected, flushing local caches");
+                    flushAll();
+                    missedNotifications = false;
+                }
+                receive(connection);
+            } catch (SQLException ex) {
+                if (!running) {
+                    break;
+                }
+                if (listening) {
+                    log.warn("Invalidation listener lost its connection, reconnecting", ex);
+                } else {
+                    log.warn("Invalidation listener could not connect, retrying in {} ms: {}", delayMillis, ex.getMessage());
+                }
+                listening = false;
+                missedNotifications = true;
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+                delayMillis = Math.min(delayMillis * 2, properties.maxReconnectDelay().toMillis());
+            }
+        }
+        listening = false;
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int pollMillis = (int) properties.pollInterval().toMillis();
+        long lastActivity = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+            if (notifications != null && notifications.length > 0) {
+                lastActivity = System.nanoTime();
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+            } else if (System.nanoTime() - lastActivity > VALIDATION_INTERVAL_NANOS) {
+                // a silently dropped TCP connection would otherwise just look like a quiet channel
+                if (!connection.isValid(5)) {
+                    throw new SQLException("Invalidation listener connection is no longer valid");
+                }
+                lastActivity = System.nanoTime();
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        InvalidationMessage message = InvalidationMessage.decode(payload);
+        if (message == null) {
+            log.debug("Ignoring unknown invalidation payload {}", payload);
+            return;
+        }
+        if (message.nodeId().equals(publisher.nodeId())) {
+            return;
+        }
+        if (message.isFlush()) {
+            flushAll();
+            return;
+        }
+        for (InvalidationTarget target : targetList()) {
+            try {
+                target.invalidate(message.entityType(), message.id());
+            } catch (RuntimeException ex) {
+                log.warn("Invalidation of {} {} failed in {}", message.entityType(), message.id(),
+                        target.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    private void flushAll() {
+        for (InvalidationTarget target : targetList()) {
+            try {
+                target.invalidateAll();
+            } catch (RuntimeException ex) {
+                log.warn("Flush failed in {}", target.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    private List<InvalidationTarget> targetList() {
+        return targets.orderedStream().toList();
+    }
+
+    private static DataSource listenerDataSource(DataSourceProperties properties) {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(properties.determineUrl());
+        dataSource.setUser(properties.determineUsername());
+        dataSource.setPassword(properties.determinePassword());
+        dataSource.setApplicationName(APPLICATION_NAME);
+        dataSource.setTcpKeepAlive(true);
+        return dataSource;
+    }
+}
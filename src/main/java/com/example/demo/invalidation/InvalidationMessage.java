@@ -0,0 +1,43 @@
+package com.example.demo.invalidation;
+
+/**
+ * NOTIFY payload {@code <node id>|<entity type>|<id>}, where the id is {@code *} for every
+ * entity of the type and the type is {@code *} for a flush of everything.
+ */
+record InvalidationMessage(String nodeId, String entityType, Long id) {
+    static final String ANY = "*";
+
+    static InvalidationMessage flush(String nodeId) {
+        return new InvalidationMessage(nodeId, ANY, null);
+    }
+
+    static InvalidationMessage of(String nodeId, EntityChangedEvent event) {
+        return new InvalidationMessage(nodeId, event.entityType(), event.id());
+    }
+
+    /**
+     * @return the message, or {@code null} if the payload was not written by this application
+     */
+    static InvalidationMessage decode(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 3 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            return null;
+        }
+        if (ANY.equals(parts[2])) {
+            return new InvalidationMessage(parts[0], parts[1], null);
+        }
+        try {
+            return new InvalidationMessage(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    boolean isFlush() {
+        return ANY.equals(entityType);
+    }
+
+    String encode() {
+        return nodeId + "|" + entityType + "|" + (id == null ? ANY : id.toString());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "library.invalidation")
+public record InvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("library_invalidation") String channel,
+        @DefaultValue("PT0.5S") Duration pollInterval,
+        @DefaultValue("PT1S") Duration reconnectDelay,
+        @DefaultValue("PT30S") Duration maxReconnectDelay,
+        @DefaultValue("10000") int queueCapacity
+) {
+}
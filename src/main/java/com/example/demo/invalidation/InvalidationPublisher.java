@@ -0,0 +1,148 @@
+package com.example.demo.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Forwards committed {@link EntityChangedEvent}s to the other nodes with {@code pg_notify}.
+ * Events are queued and sent in batches from one background thread, so writes never wait
+ * for the notification; if the queue overflows, a single flush message replaces the lost events.
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidationPublisher implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(InvalidationPublisher.class);
+    private static final int MAX_BATCH = 500;
+
+    private final DataSource dataSource;
+    private final InvalidationProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BlockingQueue<InvalidationMessage> queue;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
+    private volatile boolean running;
+    private volatile Thread sender;
+
+    public InvalidationPublisher(DataSource dataSource, InvalidationProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!queue.offer(InvalidationMessage.of(nodeId, event))) {
+            overflowed.set(true);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        sender = Thread.ofPlatform().name("invalidation-publisher").daemon().start(this::sendLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = sender;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void sendLoop() {
+        List<InvalidationMessage> batch = new ArrayList<>();
+        long delayMillis = properties.reconnectDelay().toMillis();
+        while (running || !queue.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    InvalidationMessage first = queue.poll(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                }
+                if (overflowed.getAndSet(false)) {
+                    log.warn("Invalidation queue overflowed, asking all nodes for a full flush");
+                    queue.clear();
+                    batch.clear();
+                    batch.add(InvalidationMessage.flush(nodeId));
+                }
+                send(batch);
+                batch.clear();
+                delayMillis = properties.reconnectDelay().toMillis();
+            } catch (InterruptedException ex) {
+                if (!running) {
+                    // shutting down: one last attempt for what is already queued
+                    queue.drainTo(batch);
+                    trySend(batch);
+                    return;
+                }
+            } catch (SQLException ex) {
+                log.warn("Could not send {} invalidation notifications, retrying in {} ms", batch.size(), delayMillis, ex);
+                if (!sleep(delayMillis)) {
+                    return;
+                }
+                delayMillis = Math.min(delayMillis * 2, properties.maxReconnectDelay().toMillis());
+            }
+        }
+    }
+
+    private void send(List<InvalidationMessage> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload")) {
+            statement.setString(1, properties.channel());
+            statement.setArray(2, connection.createArrayOf("text",
+                    batch.stream().map(InvalidationMessage::encode).toArray()));
+            statement.execute();
+        }
+    }
+
+    private void trySend(List<InvalidationMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            send(batch);
+        } catch (SQLException ex) {
+            log.warn("Dropped {} invalidation notifications at shutdown", batch.size(), ex);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            return running;
+        }
+    }
+}
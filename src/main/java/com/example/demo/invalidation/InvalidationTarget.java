@@ -0,0 +1,19 @@
+package com.example.demo.invalidation;
+
+/**
+ * A node-local cache that must drop or refresh entries when another node writes. Local writes
+ * are expected to keep their caches current themselves; only changes made elsewhere arrive here.
+ * Called from the single listener thread.
+ */
+public interface InvalidationTarget {
+
+    /**
+     * @param id the changed entity, or {@code null} when any entity of the type may have changed
+     */
+    void invalidate(String entityType, Long id);
+
+    /**
+     * Drops everything, used when notifications may have been missed.
+     */
+    void invalidateAll();
+}
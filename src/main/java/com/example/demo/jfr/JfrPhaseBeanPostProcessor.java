@@ -0,0 +1,75 @@
+package com.example.demo.jfr;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.function.Supplier;
+
+/**
+ * Adds a {@link PhaseEventInterceptor} to the application's controllers, services,
+ * validators and Spring Data repositories. Spring Data repositories are already proxies,
+ * so the interceptor is appended to their advice chain instead of proxying them twice.
+ * Reactive beans are left alone: their methods only assemble the pipeline.
+ */
+public class JfrPhaseBeanPostProcessor implements BeanPostProcessor {
+    private static final String BASE_PACKAGE = "com.example.demo.";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof org.springframework.data.repository.Repository<?, ?>) {
+            Class<?> repositoryInterface = applicationInterface(bean.getClass());
+            if (repositoryInterface != null) {
+                return advise(bean, PhaseEvent.Repository.class, PhaseEvent.Repository::new, entityType(repositoryInterface, "Repository"));
+            }
+            return bean;
+        }
+        Class<?> type = AopUtils.getTargetClass(bean);
+        if (!type.getName().startsWith(BASE_PACKAGE)
+                || type.getPackageName().endsWith(".reactive")
+                || type.getSimpleName().startsWith("Reactive")) {
+            return bean;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(type, RestController.class)) {
+            return advise(bean, PhaseEvent.Controller.class, PhaseEvent.Controller::new, entityType(type, "Controller"));
+        }
+        if (AnnotatedElementUtils.hasAnnotation(type, Service.class)) {
+            return advise(bean, PhaseEvent.Service.class, PhaseEvent.Service::new, entityType(type, "Service"));
+        }
+        if (type.getPackageName().startsWith(BASE_PACKAGE + "validator") && type.getSimpleName().endsWith("Validator")) {
+            return advise(bean, PhaseEvent.Validator.class, PhaseEvent.Validator::new, entityType(type, "Validator"));
+        }
+        return bean;
+    }
+
+    private static <E extends PhaseEvent> Object advise(Object bean, Class<E> eventClass, Supplier<E> events,
+                                                        String entityType) {
+        PhaseEventInterceptor interceptor = new PhaseEventInterceptor(eventClass, events, entityType);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private static Class<?> applicationInterface(Class<?> proxyClass) {
+        for (Class<?> candidate : proxyClass.getInterfaces()) {
+            if (candidate.getName().startsWith(BASE_PACKAGE)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String entityType(Class<?> type, String suffix) {
+        String name = type.getSimpleName();
+        return name.endsWith(suffix) ? name.substring(0, name.length() - suffix.length()) : name;
+    }
+}
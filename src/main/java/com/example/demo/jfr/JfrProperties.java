@@ -0,0 +1,24 @@
+package com.example.demo.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param enabled       instrument controllers, services, validators and repositories with JFR events
+ * @param threshold     minimum duration of a library event for it to be recorded
+ * @param maxAge        how much history a running recording keeps on disk
+ * @param dumpDirectory where dumped recordings are written
+ * @param dumpEnabled   expose {@code POST /api/admin/jfr/dump}, which downloads the recording
+ */
+@ConfigurationProperties(prefix = "library.jfr")
+public record JfrProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT0S") Duration threshold,
+        @DefaultValue("PT30M") Duration maxAge,
+        @DefaultValue("jfr") Path dumpDirectory,
+        @DefaultValue("false") boolean dumpEnabled
+) {
+}
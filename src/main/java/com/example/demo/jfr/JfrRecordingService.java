@@ -0,0 +1,126 @@
+package com.example.demo.jfr;
+
+import com.example.demo.dto.JfrRecordingInfo;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.exception.ResourceConflictException;
+import com.example.demo.exception.ResourceNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Manages a single in-process JFR recording, so latency can be broken down per phase
+ * without attaching an external profiler.
+ */
+@Component
+public class JfrRecordingService {
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final List<Class<? extends jdk.jfr.Event>> LIBRARY_EVENTS = List.of(
+            PhaseEvent.Controller.class,
+            PhaseEvent.Service.class,
+            PhaseEvent.Validator.class,
+            PhaseEvent.Repository.class,
+            ValidationRuleEvent.class
+    );
+    private static final ResourceNotFoundException NO_RECORDING =
+            new ResourceNotFoundException("No JFR recording has been started");
+
+    private final JfrProperties properties;
+
+    // guarded by this
+    private Recording recording;
+    private String settings;
+
+    public JfrRecordingService(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @param settings name of a JDK settings file, {@code default} (low overhead) or {@code profile}
+     */
+    public synchronized JfrRecordingInfo start(String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ResourceConflictException(ErrorCode.RECORDING_ACTIVE,
+                    "JFR recording {} is already running", recording.getName());
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            throw new InvalidDataException(ErrorCode.INVALID_DATA, "Unknown JFR settings '{}'", settings);
+        }
+        if (recording != null) {
+            recording.close();
+        }
+        Recording started = new Recording(configuration);
+        started.setName("library-" + FILE_TIMESTAMP.format(Instant.now()));
+        started.setToDisk(true);
+        started.setMaxAge(properties.maxAge());
+        for (Class<? extends jdk.jfr.Event> eventType : LIBRARY_EVENTS) {
+            started.enable(eventType).withThreshold(properties.threshold());
+        }
+        started.start();
+        recording = started;
+        this.settings = settings;
+        log.info("Started JFR recording {} with '{}' settings", started.getName(), settings);
+        return info(started);
+    }
+
+    public synchronized JfrRecordingInfo stop() {
+        Recording current = current();
+        if (current.getState() == RecordingState.RUNNING) {
+            current.stop();
+            log.info("Stopped JFR recording {}", current.getName());
+        }
+        return info(current);
+    }
+
+    public synchronized JfrRecordingInfo status() {
+        return info(current());
+    }
+
+    /**
+     * Writes the data recorded so far to a new file, whether or not the recording is still running.
+     */
+    public synchronized Path dump() {
+        Recording current = current();
+        Path file = properties.dumpDirectory()
+                .resolve(current.getName() + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+        try {
+            Files.createDirectories(properties.dumpDirectory());
+            current.dump(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not dump JFR recording to " + file, ex);
+        }
+        log.info("Dumped JFR recording {} to {}", current.getName(), file);
+        return file;
+    }
+
+    private Recording current() {
+        if (recording == null) {
+            throw NO_RECORDING;
+        }
+        return recording;
+    }
+
+    private JfrRecordingInfo info(Recording current) {
+        return new JfrRecordingInfo(current.getId(), current.getName(), current.getState().name(), settings,
+                current.getStartTime(), current.getDuration(), current.getSize());
+    }
+}
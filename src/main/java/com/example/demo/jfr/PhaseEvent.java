@@ -0,0 +1,72 @@
+package com.example.demo.jfr;
+
+import com.example.demo.exception.ApiException;
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of one call into a layer of the request path. Together the subclasses show
+ * where the time of a request went: controller, service, validator or repository.
+ */
+@Category({"Library", "Request Phases"})
+@StackTrace(false)
+public abstract class PhaseEvent extends Event {
+    static final String SUCCESS = "success";
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Entity Id")
+    @Description("Id of the entity the call was about, 0 when unknown")
+    long entityId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("\"success\", the API error code, or the exception class")
+    String outcome;
+
+    static long entityIdOf(Object argument) {
+        Long id = switch (argument) {
+            case Long value -> value;
+            case Book book -> book.getId();
+            case Author author -> author.getId();
+            case com.example.demo.model.Category category -> category.getId();
+            case null, default -> null;
+        };
+        return id == null ? 0 : id;
+    }
+
+    static String outcomeOf(Throwable failure) {
+        return failure instanceof ApiException apiException
+                ? apiException.getCode().name()
+                : failure.getClass().getSimpleName();
+    }
+
+    @Name("com.example.demo.Controller")
+    @Label("Controller Call")
+    public static final class Controller extends PhaseEvent {
+    }
+
+    @Name("com.example.demo.Service")
+    @Label("Service Call")
+    public static final class Service extends PhaseEvent {
+    }
+
+    @Name("com.example.demo.Validator")
+    @Label("Validator Call")
+    public static final class Validator extends PhaseEvent {
+    }
+
+    @Name("com.example.demo.Repository")
+    @Label("Repository Call")
+    public static final class Repository extends PhaseEvent {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.EventType;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.function.Supplier;
+
+/**
+ * Wraps every call into a bean of one layer in a {@link PhaseEvent}. When the event type
+ * is not enabled in any running recording the call goes straight through, without allocating
+ * an event.
+ */
+class PhaseEventInterceptor implements MethodInterceptor {
+    private final EventType eventType;
+    private final Supplier<? extends PhaseEvent> eventFactory;
+    private final String entityType;
+
+    <E extends PhaseEvent> PhaseEventInterceptor(Class<E> eventClass, Supplier<E> eventFactory, String entityType) {
+        this.eventType = EventType.getEventType(eventClass);
+        this.eventFactory = eventFactory;
+        this.entityType = entityType;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!eventType.isEnabled() || invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        PhaseEvent event = eventFactory.get();
+        String outcome = PhaseEvent.SUCCESS;
+        event.begin();
+        try {
+            return invocation.proceed();
+        } catch (Throwable failure) {
+            outcome = PhaseEvent.outcomeOf(failure);
+            throw failure;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entityType = entityType;
+                event.entityId = entityId(invocation.getArguments());
+                event.operation = invocation.getMethod().getName();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static long entityId(Object[] arguments) {
+        for (Object argument : arguments) {
+            long id = PhaseEvent.entityIdOf(argument);
+            if (id != 0) {
+                return id;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.jfr;
+
+import com.example.demo.validator.rules.ValidationRule;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.ValidationRule")
+@Label("Validation Rule")
+@Category({"Library", "Request Phases"})
+@StackTrace(false)
+public class ValidationRuleEvent extends Event {
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Entity Id")
+    @Description("Id of the validated entity, 0 for new entities")
+    long entityId;
+
+    @Label("Outcome")
+    @Description("\"success\", the API error code, or the exception class")
+    String outcome;
+
+    /**
+     * Runs {@code rule} against {@code entity}, recording an event when the event type is enabled.
+     * Otherwise no event is allocated.
+     */
+    public static <T> void validate(ValidationRule<T> rule, T entity) {
+        if (!Type.EVENT_TYPE.isEnabled()) {
+            rule.validate(entity);
+            return;
+        }
+        ValidationRuleEvent event = new ValidationRuleEvent();
+        String outcome = PhaseEvent.SUCCESS;
+        event.begin();
+        try {
+            rule.validate(entity);
+        } catch (RuntimeException failure) {
+            outcome = PhaseEvent.outcomeOf(failure);
+            throw failure;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.rule = rule.getClass().getSimpleName();
+                event.entityType = entity == null ? null : entity.getClass().getSimpleName();
+                event.entityId = PhaseEvent.entityIdOf(entity);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    // looked up once the event class itself is initialized
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(ValidationRuleEvent.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.lifecycle;
+
+import com.example.demo.model.Book;
+import com.example.demo.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs before the application reports itself ready. Spring Boot only publishes
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} after all runners have completed, so the
+ * readiness probe stays down until the pool is filled and the hot request paths have been
+ * requested often enough to get compiled. The requests go over loopback HTTP to the embedded
+ * server, through the same filters, interceptors, handler mapping and message converters as
+ * real traffic, and read the hot rows once on the way.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+    private static final int SAMPLE_BOOKS = 100;
+    private static final long MISSING_BOOK_ID = -1L;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ApplicationContext applicationContext;
+    private final WarmupProperties properties;
+    private final WarmupRequests warmupRequests;
+    private final DataSource dataSource;
+    private final BookRepository bookRepository;
+    private volatile int requestsSent;
+    private volatile int requestsFailed;
+
+    public StartupWarmup(ApplicationContext applicationContext,
+                         WarmupProperties properties,
+                         WarmupRequests warmupRequests,
+                         DataSource dataSource,
+                         BookRepository bookRepository) {
+        this.applicationContext = applicationContext;
+        this.properties = properties;
+        this.warmupRequests = warmupRequests;
+        this.dataSource = dataSource;
+        this.bookRepository = bookRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        long started = System.nanoTime();
+        try {
+            openPoolConnections();
+            exerciseRequestPaths();
+            log.info("Warm-up finished in {} ms, {} requests ({} failed)",
+                    (System.nanoTime() - started) / 1_000_000, requestsSent, requestsFailed);
+        } catch (RuntimeException | SQLException ex) {
+            // A failed warm-up only costs latency, it must not keep the instance out of rotation
+            log.warn("Warm-up aborted after {} ms", (System.nanoTime() - started) / 1_000_000, ex);
+        }
+    }
+
+    public int requestsSent() {
+        return requestsSent;
+    }
+
+    public int requestsFailed() {
+        return requestsFailed;
+    }
+
+    private void openPoolConnections() throws SQLException {
+        List<Connection> connections = new ArrayList<>(properties.poolConnections());
+        try {
+            for (int i = 0; i < properties.poolConnections(); i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private void exerciseRequestPaths() {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            return;
+        }
+        String baseUrl = "http://localhost:" + webContext.getWebServer().getPort()
+                + applicationContext.getEnvironment().getProperty("server.servlet.context-path", "");
+        List<URI> paths = warmupPaths(baseUrl);
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int workers = Math.max(1, properties.concurrency());
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            for (int worker = 0; worker < workers; worker++) {
+                int offset = worker;
+                executor.execute(() -> {
+                    for (int i = offset; i < properties.iterations(); i += workers) {
+                        if (!send(client, paths.get(i % paths.size()))) {
+                            failed.incrementAndGet();
+                        }
+                        sent.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            requestsSent = sent.get();
+            requestsFailed = failed.get();
+        }
+    }
+
+    // the hot authors and a sample of books, the category list, and the not-found path
+    private List<URI> warmupPaths(String baseUrl) {
+        List<URI> paths = new ArrayList<>();
+        paths.add(URI.create(baseUrl + "/api/categories"));
+        paths.add(URI.create(baseUrl + "/api/books/" + MISSING_BOOK_ID));
+        bookRepository.findMostReferencedAuthorIds(PageRequest.of(0, properties.hotAuthors()))
+                .forEach(authorId -> paths.add(URI.create(baseUrl + "/api/authors/" + authorId)));
+        bookRepository.findAll(PageRequest.of(0, SAMPLE_BOOKS)).stream()
+                .map(Book::getId)
+                .forEach(bookId -> paths.add(URI.create(baseUrl + "/api/books/" + bookId)));
+        return paths;
+    }
+
+    private boolean send(HttpClient client, URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header(WarmupRequests.HEADER, warmupRequests.token())
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 500;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
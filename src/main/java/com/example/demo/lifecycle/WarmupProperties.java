@@ -0,0 +1,21 @@
+package com.example.demo.lifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of {@link StartupWarmup}.
+ *
+ * @param iterations  loopback requests sent in total; enough for the hot paths to reach the
+ *                    optimizing compiler, not just the interpreter
+ * @param concurrency threads sending them
+ */
+@ConfigurationProperties(prefix = "library.warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2000") int iterations,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("5") int poolConnections,
+        @DefaultValue("50") int hotAuthors
+) {
+}
@@ -0,0 +1,25 @@
+package com.example.demo.lifecycle;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identifies the loopback requests sent by {@link StartupWarmup}, so admission control does not
+ * count them against the local address. The token is random per process and only ever sent
+ * to the process itself.
+ */
+@Component
+public class WarmupRequests {
+    public static final String HEADER = "X-Warmup-Token";
+
+    private final String token = UUID.randomUUID().toString();
+
+    public boolean isWarmup(String headerValue) {
+        return token.equals(headerValue);
+    }
+
+    String token() {
+        return token;
+    }
+}
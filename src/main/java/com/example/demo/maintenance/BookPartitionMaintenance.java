@@ -0,0 +1,73 @@
+package com.example.demo.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.List;
+
+/**
+ * Keeps the year partitions of {@code books} in shape: creates the decades that are
+ * about to be needed before rows start landing in the default partition, and vacuums
+ * and analyzes one partition at a time instead of the whole table at once.
+ */
+@Component
+@Profile("partitioned")
+public class BookPartitionMaintenance {
+    private static final Logger log = LoggerFactory.getLogger(BookPartitionMaintenance.class);
+    private static final int PARTITION_SPAN_YEARS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int decadesAhead;
+
+    public BookPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                    @Value("${library.partitioning.decades-ahead:1}") int decadesAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decadesAhead = decadesAhead;
+    }
+
+    @Scheduled(cron = "${library.partitioning.maintenance-cron:0 30 3 * * *}")
+    public void runMaintenance() {
+        createUpcomingPartitions();
+        listPartitions().forEach(this::vacuumPartition);
+    }
+
+    public List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'books'::regclass ORDER BY c.relname",
+                String.class);
+    }
+
+    public void createUpcomingPartitions() {
+        int currentDecade = Year.now().getValue() / PARTITION_SPAN_YEARS * PARTITION_SPAN_YEARS;
+        for (int i = 0; i <= decadesAhead; i++) {
+            int from = currentDecade + i * PARTITION_SPAN_YEARS;
+            String sql = String.format(
+                    "CREATE TABLE IF NOT EXISTS books_y%d PARTITION OF books FOR VALUES FROM (%d) TO (%d)",
+                    from, from, from + PARTITION_SPAN_YEARS);
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (DataAccessException ex) {
+                // typically rows for this range already sit in the default partition and have to be moved by hand
+                log.warn("Could not create partition books_y{}", from, ex);
+            }
+        }
+    }
+
+    private void vacuumPartition(String partition) {
+        long started = System.nanoTime();
+        try {
+            jdbcTemplate.execute("VACUUM (ANALYZE) " + partition);
+            log.info("Vacuumed {} in {} ms", partition, (System.nanoTime() - started) / 1_000_000);
+        } catch (DataAccessException ex) {
+            log.warn("Vacuum of {} failed", partition, ex);
+        }
+    }
+}
@@ -1,10 +1,24 @@
 package com.example.demo.model;
 
+import com.example.demo.cache.EntityCacheRegions;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.util.Objects;
 
 @Entity
-@Table(name = "books")
+@Cacheable
+// BookJsonWriter writes the same properties in the same order
+@JsonPropertyOrder({"id", "title", "year", "authorId", "categoryId"})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.BOOK)
+@DynamicUpdate
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_author_id", columnList = "author_id"),
+        @Index(name = "idx_books_category_id", columnList = "category_id")
+})
 public class Book {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
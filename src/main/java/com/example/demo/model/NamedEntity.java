@@ -0,0 +1,14 @@
+package com.example.demo.model;
+
+/**
+ * An entity that is an id and a name unique regardless of case and surrounding spaces.
+ */
+public interface NamedEntity {
+    Long getId();
+
+    void setId(Long id);
+
+    String getName();
+
+    void setName(String name);
+}
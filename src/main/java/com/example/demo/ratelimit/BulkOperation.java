@@ -0,0 +1,17 @@
+package com.example.demo.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method as {@link TrafficClass#BULK}, so it runs in the bulk bulkhead
+ * instead of competing with interactive requests.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BulkOperation {
+}
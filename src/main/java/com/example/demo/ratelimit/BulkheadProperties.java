@@ -0,0 +1,20 @@
+package com.example.demo.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limits per {@link TrafficClass}. Keep {@code bulkConcurrency} below the
+ * connection pool size so single-entity requests always find a free connection.
+ */
+@ConfigurationProperties(prefix = "library.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64") int interactiveConcurrency,
+        @DefaultValue("4") int bulkConcurrency,
+        @DefaultValue("PT0.05S") Duration maxWait,
+        @DefaultValue("PT1S") Duration retryAfter
+) {
+}
@@ -0,0 +1,47 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.TooManyRequestsException;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link Semaphore} per {@link TrafficClass}. A request that cannot get a permit
+ * within {@link BulkheadProperties#maxWait()} is rejected instead of queueing for a
+ * thread or a database connection.
+ */
+public class Bulkheads {
+    private final BulkheadProperties properties;
+    private final Map<TrafficClass, Semaphore> permits = new EnumMap<>(TrafficClass.class);
+
+    public Bulkheads(BulkheadProperties properties) {
+        this.properties = properties;
+        permits.put(TrafficClass.INTERACTIVE, new Semaphore(properties.interactiveConcurrency()));
+        permits.put(TrafficClass.BULK, new Semaphore(properties.bulkConcurrency()));
+    }
+
+    public void acquire(TrafficClass trafficClass) {
+        boolean acquired;
+        try {
+            acquired = permits.get(trafficClass).tryAcquire(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw TooManyRequestsException.bulkheadFull(trafficClass.name().toLowerCase(Locale.ROOT),
+                    Math.max(1, properties.retryAfter().toSeconds()));
+        }
+    }
+
+    public void release(TrafficClass trafficClass) {
+        permits.get(trafficClass).release();
+    }
+
+    public int availablePermits(TrafficClass trafficClass) {
+        return permits.get(trafficClass).availablePermits();
+    }
+}
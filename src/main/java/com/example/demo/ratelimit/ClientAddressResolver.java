@@ -0,0 +1,48 @@
+package com.example.demo.ratelimit;
+
+import java.util.regex.Pattern;
+
+/**
+ * Finds the address of the client behind trusted reverse proxies, the way Tomcat's
+ * {@code RemoteIpValve} does. {@code X-Forwarded-For} is only consulted when the connection
+ * comes from an address matching {@link RateLimitProperties#trustedProxies()}; it is then
+ * walked from the right, past the trusted hops, and the first other address is the client.
+ * Anything a client wrote into the header itself sits further left and is never reached, so
+ * it cannot pick its own bucket.
+ */
+public class ClientAddressResolver {
+    public static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Pattern trustedProxies;
+
+    public ClientAddressResolver(RateLimitProperties properties) {
+        this.trustedProxies = properties.trustedProxies().isBlank() ? null : Pattern.compile(properties.trustedProxies());
+    }
+
+    /**
+     * @param remoteAddress the peer address of the connection
+     * @param forwardedFor  all {@code X-Forwarded-For} values joined with commas, may be {@code null}
+     */
+    public String resolve(String remoteAddress, String forwardedFor) {
+        if (trustedProxies == null || forwardedFor == null || remoteAddress == null || !isTrusted(remoteAddress)) {
+            return remoteAddress;
+        }
+        String client = remoteAddress;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].strip();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        return trustedProxies.matcher(address).matches();
+    }
+}
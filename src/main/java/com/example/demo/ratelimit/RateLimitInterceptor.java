@@ -0,0 +1,75 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.lifecycle.WarmupRequests;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Collections;
+import java.util.Enumeration;
+
+/**
+ * Applies the client's rate limit and then takes a bulkhead permit for the handler's
+ * {@link TrafficClass}. Rejections are thrown as {@link TooManyRequestsException} and
+ * rendered by the global exception handler. Startup warm-up requests are let through.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ClientAddressResolver clientAddresses;
+    private final BulkheadProperties bulkheadProperties;
+    private final Bulkheads bulkheads;
+    private final WarmupRequests warmupRequests;
+
+    public RateLimitInterceptor(RateLimitProperties rateLimitProperties,
+                                TokenBucketRateLimiter rateLimiter,
+                                ClientAddressResolver clientAddresses,
+                                BulkheadProperties bulkheadProperties,
+                                Bulkheads bulkheads,
+                                WarmupRequests warmupRequests) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimiter = rateLimiter;
+        this.clientAddresses = clientAddresses;
+        this.bulkheadProperties = bulkheadProperties;
+        this.bulkheads = bulkheads;
+        this.warmupRequests = warmupRequests;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || warmupRequests.isWarmup(request.getHeader(WarmupRequests.HEADER))) {
+            return true;
+        }
+        if (rateLimitProperties.enabled()) {
+            rateLimiter.acquire(request.getHeader(rateLimitProperties.apiKeyHeader()), clientAddress(request));
+        }
+        if (bulkheadProperties.enabled()) {
+            TrafficClass trafficClass = method.hasMethodAnnotation(BulkOperation.class)
+                    ? TrafficClass.BULK
+                    : TrafficClass.INTERACTIVE;
+            bulkheads.acquire(trafficClass);
+            request.setAttribute(PERMIT_ATTRIBUTE, trafficClass);
+        }
+        return true;
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        Enumeration<String> forwardedFor = request.getHeaders(ClientAddressResolver.FORWARDED_FOR);
+        if (forwardedFor == null || !forwardedFor.hasMoreElements()) {
+            return request.getRemoteAddr();
+        }
+        return clientAddresses.resolve(request.getRemoteAddr(), String.join(",", Collections.list(forwardedFor)));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof TrafficClass trafficClass) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkheads.release(trafficClass);
+        }
+    }
+}
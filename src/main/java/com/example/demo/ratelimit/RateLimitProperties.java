@@ -0,0 +1,49 @@
+package com.example.demo.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Map;
+
+/**
+ * Per-client token buckets. Clients presenting one of the API keys configured in {@code clients}
+ * in the {@code apiKeyHeader} get the limit configured for that key; everyone else, including
+ * callers sending unknown keys, is identified by remote address. At most
+ * {@code maxTrackedClients} buckets are kept.
+ * <p>
+ * Behind a load balancer the remote address is the balancer's. {@code trustedProxies} is a
+ * regular expression for the addresses of such proxies; requests arriving from one of them
+ * are attributed to the client named in {@code X-Forwarded-For} (see
+ * {@link ClientAddressResolver}). Empty, the default, trusts no proxy.
+ */
+@Validated
+@ConfigurationProperties(prefix = "library.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Api-Key") String apiKeyHeader,
+        @DefaultValue("50") @Positive double requestsPerSecond,
+        @DefaultValue("100") @Positive int burst,
+        @DefaultValue("100000") @Positive int maxTrackedClients,
+        @DefaultValue("") String trustedProxies,
+        Map<String, @Valid Limit> clients
+) {
+    public RateLimitProperties {
+        trustedProxies = trustedProxies == null ? "" : trustedProxies;
+        clients = clients == null ? Map.of() : Map.copyOf(clients);
+    }
+
+    public boolean isConfiguredKey(String apiKey) {
+        return apiKey != null && clients.containsKey(apiKey);
+    }
+
+    public Limit limitFor(String apiKey) {
+        Limit limit = apiKey == null ? null : clients.get(apiKey);
+        return limit != null ? limit : new Limit(requestsPerSecond, burst);
+    }
+
+    public record Limit(@Positive double requestsPerSecond, @Positive int burst) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.lifecycle.WarmupRequests;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * The reactive counterpart of {@link RateLimitInterceptor}: the same token buckets, keyed the
+ * same way. There is no bulkhead, since waiting for a permit would block the event loop; the
+ * R2DBC pool bounds the concurrent database work instead.
+ */
+public class ReactiveRateLimitFilter implements WebFilter, Ordered {
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ClientAddressResolver clientAddresses;
+    private final WarmupRequests warmupRequests;
+
+    public ReactiveRateLimitFilter(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter,
+                                   ClientAddressResolver clientAddresses, WarmupRequests warmupRequests) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.clientAddresses = clientAddresses;
+        this.warmupRequests = warmupRequests;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.enabled()
+                || !request.getPath().value().startsWith("/api/")
+                || warmupRequests.isWarmup(request.getHeaders().getFirst(WarmupRequests.HEADER))) {
+            return chain.filter(exchange);
+        }
+        try {
+            rateLimiter.acquire(request.getHeaders().getFirst(properties.apiKeyHeader()), clientAddress(request));
+        } catch (TooManyRequestsException ex) {
+            return Mono.error(ex);
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        String remoteAddress = address == null ? null
+                : address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+        List<String> forwardedFor = request.getHeaders().get(ClientAddressResolver.FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isEmpty()) {
+            return remoteAddress;
+        }
+        return clientAddresses.resolve(remoteAddress, String.join(",", forwardedFor));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per client, implemented as the generic cell rate algorithm: each bucket is
+ * a single {@link AtomicLong} holding the theoretical arrival time of the next request and
+ * is updated with a CAS loop, so admission never takes a lock.
+ * <p>
+ * Buckets live in a cache bounded by {@link RateLimitProperties#maxTrackedClients()}, so a flood
+ * of distinct clients cannot grow it between two sweeps of {@link #evictIdleBuckets()}; a client
+ * evicted because of the bound starts over with a full bucket.
+ */
+public class TokenBucketRateLimiter {
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Bucket> buckets;
+
+    public TokenBucketRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedClients())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Takes a token for a caller: from the bucket of its API key when that key is configured,
+     * otherwise from the bucket of its address, so an unknown key cannot buy a fresh bucket.
+     *
+     * @param apiKey        value of the API key header, may be {@code null}
+     * @param remoteAddress the caller's address
+     * @throws TooManyRequestsException when the bucket is empty
+     */
+    public void acquire(String apiKey, String remoteAddress) {
+        long waitNanos = properties.isConfiguredKey(apiKey)
+                ? tryAcquire("key:" + apiKey, apiKey)
+                : tryAcquire("addr:" + remoteAddress, null);
+        if (waitNanos > 0) {
+            long second = TimeUnit.SECONDS.toNanos(1);
+            throw TooManyRequestsException.rateLimited(Math.max(1, (waitNanos + second - 1) / second));
+        }
+    }
+
+    /**
+     * Takes a token for the client.
+     *
+     * @param clientKey bucket key
+     * @param apiKey    configured API key used to look up a per-client limit, may be {@code null}
+     * @return {@code 0} when admitted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String clientKey, String apiKey) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(clientKey, key -> newBucket(apiKey, now));
+        while (true) {
+            long arrival = bucket.theoreticalArrival.get();
+            long next = Math.max(arrival, now) + bucket.emissionInterval;
+            long wait = next - now - bucket.burstWindow;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long trackedClients() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they behave exactly like new ones.
+     */
+    @Scheduled(fixedDelayString = "PT1M")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.asMap().values().removeIf(bucket -> bucket.theoreticalArrival.get() - now <= 0);
+        buckets.cleanUp();
+    }
+
+    private Bucket newBucket(String apiKey, long now) {
+        RateLimitProperties.Limit limit = properties.limitFor(apiKey);
+        long emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / limit.requestsPerSecond());
+        return new Bucket(emissionInterval, emissionInterval * Math.max(1, limit.burst()), now);
+    }
+
+    private static final class Bucket {
+        private final long emissionInterval;
+        private final long burstWindow;
+        private final AtomicLong theoreticalArrival;
+
+        private Bucket(long emissionInterval, long burstWindow, long now) {
+            this.emissionInterval = emissionInterval;
+            this.burstWindow = burstWindow;
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+    }
+}
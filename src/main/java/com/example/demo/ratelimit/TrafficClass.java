@@ -0,0 +1,12 @@
+package com.example.demo.ratelimit;
+
+public enum TrafficClass {
+    /**
+     * Single-entity reads and writes.
+     */
+    INTERACTIVE,
+    /**
+     * Full scans, exports and other operations marked with {@link BulkOperation}.
+     */
+    BULK
+}
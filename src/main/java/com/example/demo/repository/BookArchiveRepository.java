@@ -0,0 +1,103 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Book;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to {@code books_archive} and the statement that moves old books into it. Archived
+ * books are read-only: they are found by id, by year range and in the full list, and only leave the archive when
+ * their author or category is deleted with its books.
+ */
+@Repository
+public class BookArchiveRepository {
+
+    // Locks a batch of the oldest books not archived yet, skipping rows a request is writing right
+    // now (they are picked up by a later batch), copies them into the archive and deletes from books
+    // only the rows that were inserted there. An archived row is never overwritten: a book whose id
+    // is already archived stays in books and is reported by countAlreadyArchived. The repeated year
+    // condition lets the partitioned layout prune the DELETE as well.
+    private static final String MOVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT b.id, b.author_id, b.category_id, b.year, b.title FROM books b
+                WHERE b.year < ? AND NOT EXISTS (SELECT 1 FROM books_archive a WHERE a.id = b.id)
+                ORDER BY b.year, b.id LIMIT ? FOR UPDATE OF b SKIP LOCKED
+            ), archived AS (
+                INSERT INTO books_archive (id, author_id, category_id, year, title)
+                SELECT id, author_id, category_id, year, title FROM batch ORDER BY year, id
+                ON CONFLICT (id) DO NOTHING
+                RETURNING id
+            )
+            DELETE FROM books
+            WHERE year < ? AND id IN (SELECT id FROM archived)
+            RETURNING id
+            """;
+
+    private static final String COLUMNS = "SELECT id, title, year, author_id, category_id FROM books_archive ";
+
+    private static final RowMapper<Book> BOOK = (rs, rowNum) -> {
+        Book book = new Book(rs.getString("title"), rs.getObject("year", Integer.class),
+                rs.getObject("author_id", Long.class), rs.getObject("category_id", Long.class));
+        book.setId(rs.getLong("id"));
+        return book;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean existsById(Long id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM books_archive WHERE id = ?", Integer.class, id).isEmpty();
+    }
+
+    public Optional<Book> findById(Long id) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id = ?", BOOK, id).stream().findFirst();
+    }
+
+    public List<Book> findAll() {
+        return jdbcTemplate.query(COLUMNS + "ORDER BY id", BOOK);
+    }
+
+    public Optional<Book> findByIdAndYear(Long id, Integer year) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id = ? AND year = ?", BOOK, id, year).stream().findFirst();
+    }
+
+    public List<Book> findByYearBetween(Integer fromYear, Integer toYear) {
+        return jdbcTemplate.query(COLUMNS + "WHERE year BETWEEN ? AND ? ORDER BY year, id", BOOK, fromYear, toYear);
+    }
+
+    /**
+     * Moves up to {@code limit} books published before {@code beforeYear}; must run in a transaction.
+     *
+     * @return ids of the moved books
+     */
+    public List<Long> moveBatch(int beforeYear, int limit) {
+        return jdbcTemplate.queryForList(MOVE_BATCH_SQL, Long.class, beforeYear, limit, beforeYear);
+    }
+
+    /**
+     * Counts books published before {@code beforeYear} that {@link #moveBatch} leaves in place
+     * because their id is already archived, e.g. after a CSV import reused an archived id.
+     */
+    public long countAlreadyArchived(int beforeYear) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM books b WHERE b.year < ? "
+                + "AND EXISTS (SELECT 1 FROM books_archive a WHERE a.id = b.id)", Long.class, beforeYear);
+        return count == null ? 0 : count;
+    }
+
+    public int deleteBatchByAuthorId(Long authorId, int limit) {
+        return jdbcTemplate.update("DELETE FROM books_archive WHERE id IN "
+                + "(SELECT id FROM books_archive WHERE author_id = ? LIMIT ?)", authorId, limit);
+    }
+
+    public int deleteBatchByCategoryId(Long categoryId, int limit) {
+        return jdbcTemplate.update("DELETE FROM books_archive WHERE id IN "
+                + "(SELECT id FROM books_archive WHERE category_id = ? LIMIT ?)", categoryId, limit);
+    }
+}
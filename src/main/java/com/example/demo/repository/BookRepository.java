@@ -1,9 +1,68 @@
 package com.example.demo.repository;
 
+import com.example.demo.cache.EntityCacheRegions;
 import com.example.demo.model.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
+
+    // Finders below always constrain year, the partition key of the optional partitioned layout,
+    // so PostgreSQL only reads the partitions covering the requested range. The cacheable ones keep
+    // their results in the query cache, which Hibernate invalidates whenever the books table is
+    // written; year ranges wider than library.entity-cache.max-cached-year-range use the uncached finder.
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.BOOK_QUERIES)
+    })
+    List<Book> findByYearBetweenOrderByYearAscIdAsc(Integer fromYear, Integer toYear);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.BOOK_QUERIES)
+    })
+    Optional<Book> findByIdAndYear(Long id, Integer year);
+
+    @Query("select b from Book b where b.year between :fromYear and :toYear order by b.year, b.id")
+    List<Book> findUncachedByYearRange(@Param("fromYear") Integer fromYear, @Param("toYear") Integer toYear);
+
+    @Query("select b from Book b order by b.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Book> streamAllOrderedById();
+
+    @Query("select b.authorId from Book b where b.authorId is not null group by b.authorId order by count(b) desc")
+    List<Long> findMostReferencedAuthorIds(Pageable pageable);
+
+    // archived books keep their references too
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM books WHERE author_id = :authorId) "
+            + "OR EXISTS (SELECT 1 FROM books_archive WHERE author_id = :authorId)", nativeQuery = true)
+    boolean existsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM books WHERE category_id = :categoryId) "
+            + "OR EXISTS (SELECT 1 FROM books_archive WHERE category_id = :categoryId)", nativeQuery = true)
+    boolean existsByCategoryId(@Param("categoryId") Long categoryId);
+
+    // Cascading deletes fetch a bounded batch of ids and remove it with deleteAllByIdInBatch,
+    // so each batch is a short transaction of its own and the ids can be evicted from local caches.
+
+    @Query(value = "SELECT id FROM books WHERE author_id = :authorId LIMIT :limit", nativeQuery = true)
+    List<Long> findIdBatchByAuthorId(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM books WHERE category_id = :categoryId LIMIT :limit", nativeQuery = true)
+    List<Long> findIdBatchByCategoryId(@Param("categoryId") Long categoryId, @Param("limit") int limit);
 }
@@ -1,9 +1,27 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Category;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends NamedEntityRepository<Category> {
+
+    @Query("select c from Category c order by c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Category> streamAllOrderedById();
+
+    @Override
+    @Query(value = "SELECT * FROM categories WHERE lower(btrim(name)) = lower(btrim(:name))", nativeQuery = true)
+    Optional<Category> findByNormalizedName(@Param("name") String name);
 }
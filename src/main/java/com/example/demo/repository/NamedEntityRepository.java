@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Optional;
+
+/**
+ * Repository of a {@link com.example.demo.model.NamedEntity} table with a unique index on
+ * {@code lower(btrim(name))}.
+ */
+@NoRepositoryBean
+public interface NamedEntityRepository<T> extends JpaRepository<T, Long> {
+    Optional<T> findByNormalizedName(String name);
+}
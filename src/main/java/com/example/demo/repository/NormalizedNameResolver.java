@@ -0,0 +1,98 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.NameResolution;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Find-or-create by normalized name ({@code lower(btrim(name))}) for the tables carrying
+ * a unique index on that expression. All names are resolved in a single statement:
+ * missing ones are inserted with {@code INSERT ... ON CONFLICT DO NOTHING RETURNING},
+ * existing ones are read in the same round-trip.
+ */
+public class NormalizedNameResolver {
+    private static final int MAX_ATTEMPTS = 3;
+
+    // A row inserted concurrently after this statement's snapshot is skipped by ON CONFLICT
+    // and not visible to the SELECT either; it comes back with a null id and is retried.
+    private static final String RESOLVE_SQL = """
+            WITH input AS (
+                SELECT n AS requested, lower(btrim(n)) AS normalized, ord
+                FROM unnest(?::text[]) WITH ORDINALITY AS t(n, ord)
+            ), wanted AS (
+                SELECT DISTINCT ON (normalized) btrim(requested) AS name, normalized
+                FROM input
+                ORDER BY normalized, ord
+            ), inserted AS (
+                INSERT INTO %1$s (name)
+                SELECT name FROM wanted ORDER BY normalized
+                ON CONFLICT ((lower(btrim(name)))) DO NOTHING
+                RETURNING id, name, lower(btrim(name)) AS normalized
+            ), resolved AS (
+                SELECT id, name, normalized, true AS created FROM inserted
+                UNION ALL
+                SELECT e.id, e.name, lower(btrim(e.name)), false
+                FROM %1$s e
+                WHERE lower(btrim(e.name)) IN (SELECT normalized FROM wanted)
+            )
+            SELECT i.requested, r.id, r.name, coalesce(r.created, false) AS created
+            FROM input i
+            LEFT JOIN resolved r ON r.normalized = i.normalized
+            ORDER BY i.ord
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+
+    public NormalizedNameResolver(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = RESOLVE_SQL.formatted(table);
+    }
+
+    /**
+     * @return one resolution per requested name, in request order
+     */
+    public List<NameResolution> resolve(List<String> names) {
+        List<NameResolution> resolutions = query(names);
+        for (int attempt = 1; attempt < MAX_ATTEMPTS && hasUnresolved(resolutions); attempt++) {
+            List<String> unresolved = new ArrayList<>();
+            for (NameResolution resolution : resolutions) {
+                if (resolution.id() == null) {
+                    unresolved.add(resolution.requested());
+                }
+            }
+            List<NameResolution> retried = query(unresolved);
+            List<NameResolution> merged = new ArrayList<>(resolutions.size());
+            int next = 0;
+            for (NameResolution resolution : resolutions) {
+                merged.add(resolution.id() == null ? retried.get(next++) : resolution);
+            }
+            resolutions = merged;
+        }
+        if (hasUnresolved(resolutions)) {
+            throw new IllegalStateException("Could not resolve names after " + MAX_ATTEMPTS + " attempts");
+        }
+        return resolutions;
+    }
+
+    private List<NameResolution> query(List<String> names) {
+        return jdbcTemplate.query(sql,
+                statement -> {
+                    Array array = statement.getConnection().createArrayOf("text", names.toArray());
+                    statement.setArray(1, array);
+                },
+                (row, rowNum) -> new NameResolution(
+                        row.getString("requested"),
+                        row.getObject("id", Long.class),
+                        row.getString("name"),
+                        row.getBoolean("created")
+                ));
+    }
+
+    private static boolean hasUnresolved(List<NameResolution> resolutions) {
+        return resolutions.stream().anyMatch(resolution -> resolution.id() == null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.repository.reactive;
+
+import com.example.demo.model.Book;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public class ReactiveBookRepository {
+    private static final String SELECT_BOOKS = "SELECT id, title, year, author_id, category_id FROM books";
+    private static final int STREAM_FETCH_SIZE = 256;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveBookRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Streams all books in id order. Rows are fetched from the server in chunks of
+     * {@value #STREAM_FETCH_SIZE}, and the next chunk is only requested once the
+     * subscriber has asked for more, so a slow client never buffers the whole table.
+     */
+    public Flux<Book> findAll() {
+        return databaseClient.sql(SELECT_BOOKS + " ORDER BY id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(STREAM_FETCH_SIZE)))
+                .map(ReactiveBookRepository::toBook)
+                .all();
+    }
+
+    public Mono<Book> findById(Long id) {
+        return databaseClient.sql(SELECT_BOOKS + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveBookRepository::toBook)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM books WHERE id = :id)")
+                .bind("id", id)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    public Mono<Book> insert(Book book) {
+        return bindColumns(databaseClient.sql(
+                        "INSERT INTO books (title, year, author_id, category_id) " +
+                        "VALUES (:title, :year, :authorId, :categoryId) RETURNING id"), book)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    book.setId(id);
+                    return book;
+                });
+    }
+
+    public Mono<Book> update(Book book) {
+        return bindColumns(databaseClient.sql(
+                        "UPDATE books SET title = :title, year = :year, author_id = :authorId, " +
+                        "category_id = :categoryId WHERE id = :id"), book)
+                .bind("id", book.getId())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(book);
+    }
+
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM books WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Book book) {
+        spec = spec.bind("title", book.getTitle());
+        spec = book.getYear() != null ? spec.bind("year", book.getYear()) : spec.bindNull("year", Integer.class);
+        spec = book.getAuthorId() != null ? spec.bind("authorId", book.getAuthorId()) : spec.bindNull("authorId", Long.class);
+        return book.getCategoryId() != null
+                ? spec.bind("categoryId", book.getCategoryId())
+                : spec.bindNull("categoryId", Long.class);
+    }
+
+    private static Book toBook(Readable row) {
+        Book book = new Book(
+                row.get("title", String.class),
+                row.get("year", Integer.class),
+                row.get("author_id", Long.class),
+                row.get("category_id", Long.class)
+        );
+        book.setId(row.get("id", Long.class));
+        return book;
+    }
+}
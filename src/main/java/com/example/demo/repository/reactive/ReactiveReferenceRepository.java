@@ -0,0 +1,31 @@
+package com.example.demo.repository.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public class ReactiveReferenceRepository {
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReferenceRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Boolean> authorExists(Long authorId) {
+        return exists("SELECT EXISTS (SELECT 1 FROM authors WHERE id = :id)", authorId);
+    }
+
+    public Mono<Boolean> categoryExists(Long categoryId) {
+        return exists("SELECT EXISTS (SELECT 1 FROM categories WHERE id = :id)", categoryId);
+    }
+
+    private Mono<Boolean> exists(String sql, Long id) {
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+}
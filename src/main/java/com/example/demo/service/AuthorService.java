@@ -1,52 +1,71 @@
 package com.example.demo.service;
 
-import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.catalog.ColumnarAuthorCatalog;
+import com.example.demo.dto.NameResolution;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Author;
+import com.example.demo.repository.BookRepository;
 import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.NormalizedNameResolver;
 import com.example.demo.service.interfaces.IAuthorService;
 import com.example.demo.validator.NameValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class AuthorService implements IAuthorService {
-    private final AuthorRepository authorRepository;
-    private final NameValidator nameValidator;
+    private static final NamedEntities.Kind AUTHORS = new NamedEntities.Kind(EntityChangedEvent.AUTHOR,
+            ErrorCode.AUTHOR_NOT_FOUND, ErrorCode.AUTHOR_IN_USE, ErrorCode.AUTHOR_NAME_TAKEN,
+            Set.of("uq_authors_normalized_name"), Set.of("fk_books_author", "fk_books_archive_author"));
 
-    public AuthorService(AuthorRepository authorRepository, NameValidator nameValidator) {
-        this.authorRepository = authorRepository;
-        this.nameValidator = nameValidator;
+    private final NamedEntities<Author> authors;
+
+    public AuthorService(AuthorRepository authorRepository, BookRepository bookRepository,
+                         JdbcTemplate jdbcTemplate, NameValidator nameValidator,
+                         ColumnarAuthorCatalog authorCatalog, ApplicationEventPublisher eventPublisher) {
+        this.authors = new NamedEntities<>(AUTHORS, authorRepository,
+                new NormalizedNameResolver(jdbcTemplate, "authors"), bookRepository::existsByAuthorId, Author::new,
+                nameValidator, authorCatalog, eventPublisher);
     }
 
     public List<Author> getAllAuthors() {
-        return authorRepository.findAll();
+        return authors.getAll();
     }
 
     public Author getAuthorById(Long id) {
-        return authorRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Author with id " + id + " not found"));
+        return authors.getById(id);
+    }
+
+    public Author getAuthorByName(String name) {
+        return authors.getByName(name);
+    }
+
+    public List<NameResolution> resolveAuthors(List<String> names) {
+        return authors.resolve(names);
     }
 
     public Author createAuthor(Author author) {
-        nameValidator.validateName(author.getName(), "Author");
-        author.setId(null);
-        return authorRepository.save(author);
+        return authors.create(author);
     }
 
     public Author updateAuthor(Long id, Author author) {
-        if (!authorRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Author with id " + id + " not found");
-        }
-        nameValidator.validateName(author.getName(), "Author");
-        author.setId(id);
-        return authorRepository.save(author);
+        return authors.update(id, author);
+    }
+
+    @Transactional
+    public Author patchAuthor(Long id, Map<String, Object> patch) {
+        return authors.patch(id, patch);
     }
 
+    @Transactional
     public void deleteAuthor(Long id) {
-        if (!authorRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Author with id " + id + " not found");
-        }
-        authorRepository.deleteById(id);
+        authors.delete(id);
     }
 }
@@ -0,0 +1,23 @@
+package com.example.demo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled     whether the scheduled runs move anything; runs started through the API always do
+ * @param beforeYear  books published before this year are archived
+ * @param lockTimeout longest a batch waits for its table locks before the run gives up
+ */
+@ConfigurationProperties(prefix = "library.archive")
+public record BookArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1950") int beforeYear,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("10") long pauseMillis,
+        @DefaultValue("10000") int maxBatchesPerRun,
+        @DefaultValue("PT2S") Duration lockTimeout,
+        @DefaultValue("20") int retainedRuns
+) {
+}
@@ -0,0 +1,261 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.ColumnarBookCatalog;
+import com.example.demo.dto.ArchiveRunStatus;
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.repository.BookArchiveRepository;
+import com.example.demo.service.interfaces.IBookArchiveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Moves books published before {@code library.archive.before-year} from {@code books} into
+ * {@code books_archive}, in bounded batches on a single background thread. Each batch is one
+ * short transaction that waits at most {@code lock-timeout} for its table locks; rows a request
+ * is writing at that moment are skipped and picked up by a later run.
+ */
+@Service
+public class BookArchiveService implements IBookArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(BookArchiveService.class);
+    // lock_not_available: the driver reports lock_timeout with a SQLState the JDBC translator leaves uncategorized
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+
+    private final BookArchiveRepository bookArchiveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ColumnarBookCatalog bookCatalog;
+    private final BookArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer batchTimer;
+    private final Timer lockWaitTimer;
+    private final Counter rowsMoved;
+    private final Map<UUID, ArchiveRun> runs = new ConcurrentHashMap<>();
+    private final AtomicReference<ArchiveRun> activeRun = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookArchiveService(BookArchiveRepository bookArchiveRepository,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              ColumnarBookCatalog bookCatalog,
+                              BookArchiveProperties properties,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.bookArchiveRepository = bookArchiveRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bookCatalog = bookCatalog;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.batchTimer = Timer.builder("library.archive.batch")
+                .description("Duration of one archive batch transaction").register(meterRegistry);
+        this.lockWaitTimer = Timer.builder("library.archive.lock.wait")
+                .description("Time an archive batch waited for its table locks").register(meterRegistry);
+        this.rowsMoved = Counter.builder("library.archive.rows.moved")
+                .description("Books moved into books_archive").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${library.archive.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        if (properties.enabled()) {
+            startRun();
+        }
+    }
+
+    /**
+     * Starts a run, or returns the one already in progress: two runs would only compete for the
+     * same oldest rows.
+     */
+    public ArchiveRunStatus startRun() {
+        ArchiveRun run = new ArchiveRun(UUID.randomUUID(), properties.beforeYear());
+        ArchiveRun running = activeRun.compareAndExchange(null, run);
+        if (running != null) {
+            return running.status();
+        }
+        pruneFinishedRuns();
+        runs.put(run.id, run);
+        executor.execute(() -> run(run));
+        return run.status();
+    }
+
+    public List<ArchiveRunStatus> getRuns() {
+        return runs.values().stream()
+                .map(ArchiveRun::status)
+                .sorted(Comparator.comparing(ArchiveRunStatus::startedAt).reversed())
+                .toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ArchiveRun run) {
+        try {
+            moveBooks(run);
+            run.conflicts = bookArchiveRepository.countAlreadyArchived(run.beforeYear);
+            if (run.conflicts > 0) {
+                log.warn("{} books published before {} were left in place, their ids are already archived",
+                        run.conflicts, run.beforeYear);
+            }
+            run.finish(ArchiveRunStatus.State.COMPLETED, null);
+            log.info("Archived {} books published before {} in {} batches", run.rowsMoved, run.beforeYear, run.batches);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            run.finish(ArchiveRunStatus.State.FAILED, "Interrupted");
+        } catch (RuntimeException ex) {
+            if (isLockTimeout(ex)) {
+                log.warn("Archive run gave up after waiting {} for table locks", properties.lockTimeout());
+                run.finish(ArchiveRunStatus.State.FAILED, "Lock timeout after " + properties.lockTimeout());
+            } else {
+                log.error("Archive run failed after {} books", run.rowsMoved, ex);
+                run.finish(ArchiveRunStatus.State.FAILED, ex.getMessage());
+            }
+        } finally {
+            if (run.rowsMoved > 0) {
+                vacuum();
+                eventPublisher.publishEvent(EntityChangedEvent.all(EntityChangedEvent.BOOK));
+            }
+            activeRun.set(null);
+        }
+    }
+
+    private void moveBooks(ArchiveRun run) throws InterruptedException {
+        int batchSize = properties.batchSize();
+        int moved;
+        do {
+            moved = moveBatch(run, batchSize);
+            if (moved == batchSize && properties.pauseMillis() > 0) {
+                Thread.sleep(properties.pauseMillis());
+            }
+        } while (moved == batchSize && run.batches < properties.maxBatchesPerRun());
+    }
+
+    private int moveBatch(ArchiveRun run, int limit) {
+        long started = System.nanoTime();
+        long[] lockWaitNanos = new long[1];
+        List<Long> bookIds = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + properties.lockTimeout().toMillis());
+            // taken up front so the wait for concurrent DDL or VACUUM FULL is measured on its own;
+            // row locks never block the batch, it skips rows that are being written
+            long lockStarted = System.nanoTime();
+            jdbcTemplate.execute("LOCK TABLE books, books_archive IN ROW EXCLUSIVE MODE");
+            lockWaitNanos[0] = System.nanoTime() - lockStarted;
+            return bookArchiveRepository.moveBatch(run.beforeYear, limit);
+        });
+        long elapsedNanos = System.nanoTime() - started;
+        bookIds.forEach(bookCatalog::remove);
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        lockWaitTimer.record(lockWaitNanos[0], TimeUnit.NANOSECONDS);
+        rowsMoved.increment(bookIds.size());
+        run.progress(bookIds.size(), elapsedNanos, lockWaitNanos[0]);
+        return bookIds.size();
+    }
+
+    // returns the dead tuples left in books to the free space map and refreshes the statistics
+    // of both tables, whose year distributions have just changed
+    private void vacuum() {
+        try {
+            jdbcTemplate.execute("VACUUM (ANALYZE) books");
+            jdbcTemplate.execute("ANALYZE books_archive");
+        } catch (DataAccessException ex) {
+            log.warn("Vacuum after archive run failed", ex);
+        }
+    }
+
+    private static boolean isLockTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException
+                    || cause instanceof SQLException sql && LOCK_NOT_AVAILABLE.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void pruneFinishedRuns() {
+        int excess = runs.size() - properties.retainedRuns() + 1;
+        if (excess <= 0) {
+            return;
+        }
+        runs.values().stream()
+                .filter(run -> run.state != ArchiveRunStatus.State.RUNNING)
+                .sorted(Comparator.comparing(run -> run.startedAt))
+                .limit(excess)
+                .forEach(run -> runs.remove(run.id));
+    }
+
+    private static final class ArchiveRun {
+        private final UUID id;
+        private final int beforeYear;
+        private final Instant startedAt = Instant.now();
+        private volatile ArchiveRunStatus.State state = ArchiveRunStatus.State.RUNNING;
+        private volatile long rowsMoved;
+        private volatile long conflicts;
+        private volatile int batches;
+        private volatile long batchNanos;
+        private volatile long maxBatchNanos;
+        private volatile long lockWaitNanos;
+        private volatile long maxLockWaitNanos;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private ArchiveRun(UUID id, int beforeYear) {
+            this.id = id;
+            this.beforeYear = beforeYear;
+        }
+
+        // only called from the single worker thread
+        private void progress(int moved, long elapsedNanos, long waitedNanos) {
+            rowsMoved += moved;
+            batchNanos += elapsedNanos;
+            maxBatchNanos = Math.max(maxBatchNanos, elapsedNanos);
+            lockWaitNanos += waitedNanos;
+            maxLockWaitNanos = Math.max(maxLockWaitNanos, waitedNanos);
+            batches++;
+        }
+
+        private void finish(ArchiveRunStatus.State finalState, String failure) {
+            error = failure;
+            finishedAt = Instant.now();
+            state = finalState;
+        }
+
+        private ArchiveRunStatus status() {
+            int count = batches;
+            double meanBatchMillis = count == 0 ? 0 : millis(batchNanos) / count;
+            return new ArchiveRunStatus(id, state, beforeYear, rowsMoved, conflicts, count, meanBatchMillis,
+                    millis(maxBatchNanos), millis(lockWaitNanos), millis(maxLockWaitNanos), startedAt, finishedAt, error);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
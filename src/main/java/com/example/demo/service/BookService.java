@@ -1,52 +1,202 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.EntityCacheProperties;
+import com.example.demo.catalog.BookJsonWriter;
+import com.example.demo.catalog.ColumnarBookCatalog;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.ApiException;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.exception.ResourceConflictException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Book;
+import com.example.demo.repository.BookArchiveRepository;
 import com.example.demo.repository.BookRepository;
 import com.example.demo.service.interfaces.IBookService;
 import com.example.demo.validator.BookValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class BookService implements IBookService {
+    private static final InvalidDataException INVALID_YEAR_RANGE =
+            new InvalidDataException(ErrorCode.INVALID_YEAR_RANGE, "fromYear must not be greater than toYear");
+    private static final int YEAR_RANGE_ROWS_HINT = 256;
+
     private final BookRepository bookRepository;
+    private final BookArchiveRepository bookArchiveRepository;
     private final BookValidator bookValidator;
+    private final ColumnarBookCatalog bookCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCacheProperties entityCacheProperties;
 
-    public BookService(BookRepository bookRepository, BookValidator bookValidator) {
+    public BookService(BookRepository bookRepository, BookArchiveRepository bookArchiveRepository,
+                       BookValidator bookValidator, ColumnarBookCatalog bookCatalog,
+                       ApplicationEventPublisher eventPublisher, EntityCacheProperties entityCacheProperties) {
         this.bookRepository = bookRepository;
+        this.bookArchiveRepository = bookArchiveRepository;
         this.bookValidator = bookValidator;
+        this.bookCatalog = bookCatalog;
+        this.eventPublisher = eventPublisher;
+        this.entityCacheProperties = entityCacheProperties;
     }
 
+    /**
+     * Hot and archived books in id order; like {@link #getBookById(Long)} and the year range,
+     * the list does not change when {@link BookArchiveService} moves a book.
+     */
     public List<Book> getAllBooks() {
-        return bookRepository.findAll();
+        List<Book> books = bookCatalog.isReady() ? bookCatalog.findAll() : bookRepository.findAll();
+        List<Book> archived = bookArchiveRepository.findAll();
+        if (archived.isEmpty()) {
+            return books;
+        }
+        List<Book> merged = new ArrayList<>(books.size() + archived.size());
+        merged.addAll(archived);
+        merged.addAll(books);
+        merged.sort(Comparator.comparing(Book::getId));
+        return merged;
+    }
+
+    /**
+     * The JSON of {@link #getAllBooks()} written straight from the columnar catalog, without
+     * materializing a {@link Book} per hot row; empty while the catalog is not ready.
+     */
+    public Optional<byte[]> getAllBooksJson() {
+        if (!bookCatalog.isReady()) {
+            return Optional.empty();
+        }
+        List<Book> archived = bookArchiveRepository.findAll();
+        BookJsonWriter out = new BookJsonWriter(bookCatalog.size() + archived.size());
+        bookCatalog.writeAll(archived, out);
+        return Optional.of(out.toByteArray());
     }
 
+    /**
+     * Looks in the hot table first and falls back to {@code books_archive} on a miss, so books
+     * moved by {@link BookArchiveService} stay readable under the same id.
+     */
     public Book getBookById(Long id) {
-        return bookRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Book with id " + id + " not found"));
+        Optional<Book> book = bookCatalog.isReady() ? bookCatalog.findById(id) : bookRepository.findById(id);
+        return book.or(() -> bookArchiveRepository.findById(id))
+                .orElseThrow(() -> ResourceNotFoundException.book(id));
+    }
+
+    public Book getBookById(Long id, Integer year) {
+        Optional<Book> book = bookCatalog.isReady()
+                ? bookCatalog.findByIdAndYear(id, year)
+                : bookRepository.findByIdAndYear(id, year);
+        return book.or(() -> bookArchiveRepository.findByIdAndYear(id, year))
+                .orElseThrow(() -> ResourceNotFoundException.book(id));
+    }
+
+    public List<Book> getBooksByYearRange(Integer fromYear, Integer toYear) {
+        if (fromYear > toYear) {
+            throw INVALID_YEAR_RANGE;
+        }
+        List<Book> books;
+        if (bookCatalog.isReady()) {
+            books = bookCatalog.findByYearBetween(fromYear, toYear);
+        } else if (entityCacheProperties.isCachedYearRange(fromYear, toYear)) {
+            books = bookRepository.findByYearBetweenOrderByYearAscIdAsc(fromYear, toYear);
+        } else {
+            books = bookRepository.findUncachedByYearRange(fromYear, toYear);
+        }
+        List<Book> archived = bookArchiveRepository.findByYearBetween(fromYear, toYear);
+        if (archived.isEmpty()) {
+            return books;
+        }
+        List<Book> merged = new ArrayList<>(books.size() + archived.size());
+        merged.addAll(archived);
+        merged.addAll(books);
+        merged.sort(Comparator.comparing(Book::getYear).thenComparing(Book::getId));
+        return merged;
+    }
+
+    /**
+     * The JSON of {@link #getBooksByYearRange(Integer, Integer)}, written like {@link #getAllBooksJson()}.
+     */
+    public Optional<byte[]> getBooksByYearRangeJson(Integer fromYear, Integer toYear) {
+        if (fromYear > toYear) {
+            throw INVALID_YEAR_RANGE;
+        }
+        if (!bookCatalog.isReady()) {
+            return Optional.empty();
+        }
+        List<Book> archived = bookArchiveRepository.findByYearBetween(fromYear, toYear);
+        BookJsonWriter out = new BookJsonWriter(YEAR_RANGE_ROWS_HINT);
+        bookCatalog.writeByYearBetween(fromYear, toYear, archived, out);
+        return Optional.of(out.toByteArray());
     }
 
     public Book createBook(Book book) {
         bookValidator.validate(book);
         book.setId(null);
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        bookCatalog.upsert(savedBook);
+        eventPublisher.publishEvent(EntityChangedEvent.book(savedBook.getId()));
+        return savedBook;
     }
 
     public Book updateBook(Long id, Book book) {
         if (!bookRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Book with id " + id + " not found");
+            throw missingBook(id);
         }
         bookValidator.validate(book);
         book.setId(id);
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        bookCatalog.upsert(savedBook);
+        eventPublisher.publishEvent(EntityChangedEvent.book(savedBook.getId()));
+        return savedBook;
+    }
+
+    /**
+     * Applies a JSON Merge Patch. Only rules for the changed fields run, and with
+     * {@code @DynamicUpdate} the UPDATE sets only the changed columns; an empty
+     * change set does not write at all.
+     */
+    @Transactional
+    public Book patchBook(Long id, Map<String, Object> patch) {
+        Book book = bookRepository.findById(id)
+                .orElseThrow(() -> missingBook(id));
+        Set<String> changedFields = new MergePatch(patch)
+                .apply("title", String.class, book::getTitle, book::setTitle)
+                .apply("year", Integer.class, book::getYear, book::setYear)
+                .apply("authorId", Long.class, book::getAuthorId, book::setAuthorId)
+                .apply("categoryId", Long.class, book::getCategoryId, book::setCategoryId)
+                .changedFields();
+        if (changedFields.isEmpty()) {
+            return book;
+        }
+        bookValidator.validate(book, changedFields);
+        Book savedBook = bookRepository.saveAndFlush(book);
+        AfterCommit.run(() -> bookCatalog.upsert(savedBook));
+        eventPublisher.publishEvent(EntityChangedEvent.book(savedBook.getId()));
+        return savedBook;
     }
 
     public void deleteBook(Long id) {
         if (!bookRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Book with id " + id + " not found");
+            throw missingBook(id);
         }
         bookRepository.deleteById(id);
+        bookCatalog.remove(id);
+        eventPublisher.publishEvent(EntityChangedEvent.book(id));
+    }
+
+    // a write to a book the archive run has moved is refused rather than reported as missing:
+    // the id still resolves on GET, it is only read-only now
+    private ApiException missingBook(Long id) {
+        return bookArchiveRepository.existsById(id)
+                ? ResourceConflictException.bookArchived(id)
+                : ResourceNotFoundException.book(id);
     }
 }
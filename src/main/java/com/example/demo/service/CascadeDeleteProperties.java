@@ -0,0 +1,12 @@
+package com.example.demo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "library.cascade-delete")
+public record CascadeDeleteProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("10") long pauseMillis,
+        @DefaultValue("100") int retainedJobs
+) {
+}
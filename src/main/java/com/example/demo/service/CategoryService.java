@@ -1,52 +1,71 @@
 package com.example.demo.service;
 
-import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.catalog.ColumnarCategoryCatalog;
+import com.example.demo.dto.NameResolution;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Category;
+import com.example.demo.repository.BookRepository;
 import com.example.demo.repository.CategoryRepository;
+import com.example.demo.repository.NormalizedNameResolver;
 import com.example.demo.service.interfaces.ICategoryService;
 import com.example.demo.validator.NameValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class CategoryService implements ICategoryService {
-    private final CategoryRepository categoryRepository;
-    private final NameValidator nameValidator;
+    private static final NamedEntities.Kind CATEGORIES = new NamedEntities.Kind(EntityChangedEvent.CATEGORY,
+            ErrorCode.CATEGORY_NOT_FOUND, ErrorCode.CATEGORY_IN_USE, ErrorCode.CATEGORY_NAME_TAKEN,
+            Set.of("uq_categories_normalized_name"), Set.of("fk_books_category", "fk_books_archive_category"));
 
-    public CategoryService(CategoryRepository categoryRepository, NameValidator nameValidator) {
-        this.categoryRepository = categoryRepository;
-        this.nameValidator = nameValidator;
+    private final NamedEntities<Category> categories;
+
+    public CategoryService(CategoryRepository categoryRepository, BookRepository bookRepository,
+                           JdbcTemplate jdbcTemplate, NameValidator nameValidator,
+                           ColumnarCategoryCatalog categoryCatalog, ApplicationEventPublisher eventPublisher) {
+        this.categories = new NamedEntities<>(CATEGORIES, categoryRepository,
+                new NormalizedNameResolver(jdbcTemplate, "categories"), bookRepository::existsByCategoryId, Category::new,
+                nameValidator, categoryCatalog, eventPublisher);
     }
 
     public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+        return categories.getAll();
     }
 
     public Category getCategoryById(Long id) {
-        return categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category with id " + id + " not found"));
+        return categories.getById(id);
+    }
+
+    public Category getCategoryByName(String name) {
+        return categories.getByName(name);
+    }
+
+    public List<NameResolution> resolveCategories(List<String> names) {
+        return categories.resolve(names);
     }
 
     public Category createCategory(Category category) {
-        nameValidator.validateName(category.getName(), "Category");
-        category.setId(null);
-        return categoryRepository.save(category);
+        return categories.create(category);
     }
 
     public Category updateCategory(Long id, Category category) {
-        if (!categoryRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Category with id " + id + " not found");
-        }
-        nameValidator.validateName(category.getName(), "Category");
-        category.setId(id);
-        return categoryRepository.save(category);
+        return categories.update(id, category);
+    }
+
+    @Transactional
+    public Category patchCategory(Long id, Map<String, Object> patch) {
+        return categories.patch(id, patch);
     }
 
+    @Transactional
     public void deleteCategory(Long id) {
-        if (!categoryRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Category with id " + id + " not found");
-        }
-        categoryRepository.deleteById(id);
+        categories.delete(id);
     }
 }
@@ -0,0 +1,249 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.ColumnarCatalogLoader;
+import com.example.demo.csv.CountingInputStream;
+import com.example.demo.csv.CsvImportProperties;
+import com.example.demo.csv.CsvTable;
+import com.example.demo.deadline.Deadline;
+import com.example.demo.dto.ImportReport;
+import com.example.demo.dto.ImportStatus;
+import com.example.demo.exception.DeadlineExceededException;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.service.interfaces.ICsvTransferService;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CSV import and export through PostgreSQL {@code COPY}. An import streams the request body
+ * into a temporary staging table, rejects invalid rows with set-based checks, and merges the
+ * remaining rows with one {@code UPDATE} and one {@code INSERT}, all in a single transaction.
+ * Neither direction holds more than a driver buffer of the file in memory.
+ */
+@Service
+public class CsvTransferService implements ICsvTransferService {
+    private static final Logger log = LoggerFactory.getLogger(CsvTransferService.class);
+
+    private final DataSource dataSource;
+    private final CsvImportProperties properties;
+    private final ColumnarCatalogLoader catalogLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<UUID, ImportJob> imports = new ConcurrentHashMap<>();
+
+    public CsvTransferService(DataSource dataSource,
+                              CsvImportProperties properties,
+                              ColumnarCatalogLoader catalogLoader,
+                              ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.catalogLoader = catalogLoader;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportReport importCsv(String tableName, InputStream csv) {
+        CsvTable table = CsvTable.fromPath(tableName);
+        pruneFinishedImports();
+        ImportJob job = new ImportJob(UUID.randomUUID(), table.tableName());
+        imports.put(job.id, job);
+        try {
+            ImportReport report = runImport(job, table, csv);
+            job.finish(ImportStatus.State.COMPLETED, report, null);
+            log.info("Imported {} rows into {}: {} inserted, {} updated, {} rejected in {} ms", report.rowsRead(),
+                    report.table(), report.inserted(), report.updated(), report.rejected(), report.durationMillis());
+            catalogLoader.reloadInBackground("CSV import into " + table.tableName());
+            eventPublisher.publishEvent(EntityChangedEvent.all(table.entityType()));
+            return report;
+        } catch (RuntimeException ex) {
+            job.finish(ImportStatus.State.FAILED, null, ex.getMessage());
+            throw ex;
+        }
+    }
+
+    public void exportCsv(String tableName, OutputStream out) {
+        copyOut(CsvTable.fromPath(tableName).copyOut(), out);
+    }
+
+    public void exportRejections(UUID importId, OutputStream out) {
+        // COPY takes no bind parameters; a parsed UUID is safe to inline
+        copyOut("COPY (SELECT line_no AS \"row\", reason FROM import_rejections WHERE import_id = '" + importId
+                + "' ORDER BY line_no) TO STDOUT WITH (FORMAT csv, HEADER true)", out);
+    }
+
+    public List<ImportStatus> getImports() {
+        return imports.values().stream()
+                .map(ImportJob::status)
+                .sorted(Comparator.comparing(ImportStatus::startedAt).reversed())
+                .toList();
+    }
+
+    private ImportReport runImport(ImportJob job, CsvTable table, InputStream csv) {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                ImportReport report = merge(connection, job, table, csv, started);
+                connection.commit();
+                return report;
+            } catch (SQLException | IOException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read CSV for " + table.tableName(), ex);
+        } catch (SQLException ex) {
+            throw failure("CSV import into " + table.tableName() + " failed", ex);
+        }
+    }
+
+    private ImportReport merge(Connection connection, ImportJob job, CsvTable table, InputStream csv, long started)
+            throws SQLException, IOException {
+        try (PreparedStatement cleanup = connection.prepareStatement(
+                "DELETE FROM import_rejections WHERE created_at < now() - make_interval(secs => ?)")) {
+            cleanup.setLong(1, properties.rejectionRetention().toSeconds());
+            cleanup.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(table.createStaging());
+            statement.execute("CREATE TEMP TABLE import_rejected (line_no BIGINT PRIMARY KEY, reason TEXT NOT NULL) "
+                    + "ON COMMIT DROP");
+        }
+
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long rowsRead;
+        try {
+            rowsRead = copyManager.copyIn(table.copyIn(), new CountingInputStream(csv, job::bytesRead));
+        } catch (SQLException ex) {
+            throw new InvalidDataException("Malformed CSV: " + ex.getMessage());
+        }
+
+        long updated;
+        long inserted;
+        try (Statement statement = connection.createStatement()) {
+            // temporary tables are never analyzed by autovacuum
+            statement.execute("ANALYZE import_staging");
+            reject(statement, table.rowCheck());
+            statement.execute(table.createTyped());
+            statement.execute("ANALYZE import_typed");
+            for (String check : table.typedChecks()) {
+                reject(statement, check);
+            }
+            statement.execute("DELETE FROM import_typed t USING import_rejected r WHERE t.line_no = r.line_no");
+
+            updated = statement.executeLargeUpdate(table.update());
+            statement.execute(table.advanceSequence());
+            inserted = statement.executeLargeUpdate(table.insert());
+        }
+
+        try (PreparedStatement persist = connection.prepareStatement(
+                "INSERT INTO import_rejections (import_id, line_no, reason) SELECT ?, line_no, reason FROM import_rejected")) {
+            persist.setObject(1, job.id);
+            persist.executeUpdate();
+        }
+        long rejected = 0;
+        List<ImportReport.Rejection> rejections = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT line_no, reason, count(*) OVER () FROM import_rejected ORDER BY line_no LIMIT "
+                             + properties.reportedRejections())) {
+            while (rows.next()) {
+                rejections.add(new ImportReport.Rejection(rows.getLong(1), rows.getString(2)));
+                rejected = rows.getLong(3);
+            }
+        }
+        return new ImportReport(job.id, table.tableName(), rowsRead, inserted, updated, rejected,
+                List.copyOf(rejections), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void reject(Statement statement, String check) throws SQLException {
+        statement.execute("INSERT INTO import_rejected (line_no, reason) SELECT c.line_no, c.reason FROM (" + check
+                + ") AS c(line_no, reason) WHERE c.reason IS NOT NULL ON CONFLICT (line_no) DO NOTHING");
+    }
+
+    private void copyOut(String sql, OutputStream out) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write CSV export", ex);
+        } catch (SQLException ex) {
+            throw failure("CSV export failed", ex);
+        }
+    }
+
+    private static RuntimeException failure(String message, SQLException ex) {
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            return DeadlineExceededException.after(deadline.budget());
+        }
+        return new IllegalStateException(message, ex);
+    }
+
+    private void pruneFinishedImports() {
+        int excess = imports.size() - properties.retainedImports() + 1;
+        if (excess <= 0) {
+            return;
+        }
+        imports.values().stream()
+                .filter(job -> job.state != ImportStatus.State.RUNNING)
+                .sorted(Comparator.comparing(job -> job.startedAt))
+                .limit(excess)
+                .forEach(job -> imports.remove(job.id));
+    }
+
+    private static final class ImportJob {
+        private final UUID id;
+        private final String table;
+        private final Instant startedAt = Instant.now();
+        private volatile ImportStatus.State state = ImportStatus.State.RUNNING;
+        private volatile long bytesRead;
+        private volatile ImportReport report;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private ImportJob(UUID id, String table) {
+            this.id = id;
+            this.table = table;
+        }
+
+        // only called from the importing request thread
+        private void bytesRead(long total) {
+            bytesRead = total;
+        }
+
+        private void finish(ImportStatus.State finalState, ImportReport result, String failure) {
+            report = result;
+            error = failure;
+            finishedAt = Instant.now();
+            state = finalState;
+        }
+
+        private ImportStatus status() {
+            return new ImportStatus(id, table, state, bytesRead, report, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.ColumnarAuthorCatalog;
+import com.example.demo.catalog.ColumnarBookCatalog;
+import com.example.demo.catalog.ColumnarCategoryCatalog;
+import com.example.demo.dto.DeletionJobStatus;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookArchiveRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.repository.CategoryRepository;
+import com.example.demo.service.interfaces.IDeletionJobService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Cascading deletes of authors and categories. Referencing books are removed in
+ * bounded batches, each in its own short transaction, on a single background
+ * thread; the author or category row itself is deleted once no books are left.
+ */
+@Service
+public class DeletionJobService implements IDeletionJobService {
+    private static final Logger log = LoggerFactory.getLogger(DeletionJobService.class);
+    private static final int MAX_ENTITY_DELETE_ATTEMPTS = 3;
+
+    private final BookRepository bookRepository;
+    private final BookArchiveRepository bookArchiveRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final ColumnarBookCatalog bookCatalog;
+    private final ColumnarAuthorCatalog authorCatalog;
+    private final ColumnarCategoryCatalog categoryCatalog;
+    private final CascadeDeleteProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<UUID, DeletionJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cascade-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DeletionJobService(BookRepository bookRepository,
+                              BookArchiveRepository bookArchiveRepository,
+                              AuthorRepository authorRepository,
+                              CategoryRepository categoryRepository,
+                              ColumnarBookCatalog bookCatalog,
+                              ColumnarAuthorCatalog authorCatalog,
+                              ColumnarCategoryCatalog categoryCatalog,
+                              CascadeDeleteProperties properties,
+                              ApplicationEventPublisher eventPublisher) {
+        this.bookRepository = bookRepository;
+        this.bookArchiveRepository = bookArchiveRepository;
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+        this.bookCatalog = bookCatalog;
+        this.authorCatalog = authorCatalog;
+        this.categoryCatalog = categoryCatalog;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public DeletionJobStatus startAuthorDeletion(Long authorId) {
+        if (!authorRepository.existsById(authorId)) {
+            throw ResourceNotFoundException.author(authorId);
+        }
+        return start("Author", authorId,
+                limit -> withArchive(deleteBatch(bookRepository.findIdBatchByAuthorId(authorId, limit)), limit,
+                        rest -> bookArchiveRepository.deleteBatchByAuthorId(authorId, rest)),
+                id -> {
+                    authorRepository.deleteById(id);
+                    authorCatalog.remove(id);
+                });
+    }
+
+    public DeletionJobStatus startCategoryDeletion(Long categoryId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw ResourceNotFoundException.category(categoryId);
+        }
+        return start("Category", categoryId,
+                limit -> withArchive(deleteBatch(bookRepository.findIdBatchByCategoryId(categoryId, limit)), limit,
+                        rest -> bookArchiveRepository.deleteBatchByCategoryId(categoryId, rest)),
+                id -> {
+                    categoryRepository.deleteById(id);
+                    categoryCatalog.remove(id);
+                });
+    }
+
+    public DeletionJobStatus getJob(UUID jobId) {
+        DeletionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Deletion job with id " + jobId + " not found");
+        }
+        return job.status();
+    }
+
+    public List<DeletionJobStatus> getJobs() {
+        return jobs.values().stream()
+                .map(DeletionJob::status)
+                .sorted(Comparator.comparing(DeletionJobStatus::startedAt).reversed())
+                .toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private DeletionJobStatus start(String entityType, Long entityId,
+                                    IntUnaryOperator deleteBatch, LongConsumer deleteEntity) {
+        pruneFinishedJobs();
+        DeletionJob job = new DeletionJob(UUID.randomUUID(), entityType, entityId);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job, deleteBatch, deleteEntity));
+        return job.status();
+    }
+
+    private void run(DeletionJob job, IntUnaryOperator deleteBatch, LongConsumer deleteEntity) {
+        try {
+            deleteBooks(job, deleteBatch);
+            deleteEntity(job, deleteBatch, deleteEntity);
+            publishChanges(job);
+            job.finish(DeletionJobStatus.State.COMPLETED, null);
+            log.info("{} {} deleted with {} books in {} batches", job.entityType, job.entityId, job.booksDeleted, job.batches);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.finish(DeletionJobStatus.State.FAILED, "Interrupted");
+        } catch (RuntimeException ex) {
+            log.error("Cascading delete of {} {} failed", job.entityType, job.entityId, ex);
+            publishChanges(job);
+            job.finish(DeletionJobStatus.State.FAILED, ex.getMessage());
+        }
+    }
+
+    private void deleteBooks(DeletionJob job, IntUnaryOperator deleteBatch) throws InterruptedException {
+        int batchSize = properties.batchSize();
+        int deleted;
+        do {
+            deleted = deleteBatch.applyAsInt(batchSize);
+            job.progress(deleted);
+            if (deleted == batchSize && properties.pauseMillis() > 0) {
+                Thread.sleep(properties.pauseMillis());
+            }
+        } while (deleted == batchSize);
+    }
+
+    // books created against the entity while the job was running make the foreign keys reject the delete
+    private void deleteEntity(DeletionJob job, IntUnaryOperator deleteBatch, LongConsumer deleteEntity)
+            throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                deleteEntity.accept(job.entityId);
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt == MAX_ENTITY_DELETE_ATTEMPTS) {
+                    throw ex;
+                }
+                deleteBooks(job, deleteBatch);
+            }
+        }
+    }
+
+    // other nodes re-read the books as a whole rather than getting one notification per deleted book
+    private void publishChanges(DeletionJob job) {
+        if (job.booksDeleted > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.all(EntityChangedEvent.BOOK));
+        }
+        eventPublisher.publishEvent(new EntityChangedEvent(job.entityType, job.entityId));
+    }
+
+    private int deleteBatch(List<Long> bookIds) {
+        if (!bookIds.isEmpty()) {
+            bookRepository.deleteAllByIdInBatch(bookIds);
+            bookIds.forEach(bookCatalog::remove);
+        }
+        return bookIds.size();
+    }
+
+    // archived books go once the hot table has none left, in the remainder of the batch
+    private static int withArchive(int deleted, int limit, IntUnaryOperator deleteArchived) {
+        return deleted < limit ? deleted + deleteArchived.applyAsInt(limit - deleted) : deleted;
+    }
+
+    private void pruneFinishedJobs() {
+        int excess = jobs.size() - properties.retainedJobs() + 1;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.state != DeletionJobStatus.State.RUNNING)
+                .sorted(Comparator.comparing(job -> job.startedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    private static final class DeletionJob {
+        private final UUID id;
+        private final String entityType;
+        private final Long entityId;
+        private final Instant startedAt = Instant.now();
+        private volatile DeletionJobStatus.State state = DeletionJobStatus.State.RUNNING;
+        private volatile long booksDeleted;
+        private volatile int batches;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private DeletionJob(UUID id, String entityType, Long entityId) {
+            this.id = id;
+            this.entityType = entityType;
+            this.entityId = entityId;
+        }
+
+        // only called from the single worker thread
+        private void progress(int deleted) {
+            booksDeleted += deleted;
+            batches++;
+        }
+
+        private void finish(DeletionJobStatus.State finalState, String failure) {
+            error = failure;
+            finishedAt = Instant.now();
+            state = finalState;
+        }
+
+        private DeletionJobStatus status() {
+            return new DeletionJobStatus(id, entityType, entityId, state, booksDeleted, batches, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Tells apart the integrity violations a service expects, and turns into a conflict, from
+ * anything else, which keeps propagating.
+ */
+final class IntegrityViolations {
+    static final String UNIQUE_VIOLATION = "23505";
+    static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private IntegrityViolations() {
+    }
+
+    /**
+     * Whether the violation was raised by one of the given constraints or unique indexes. When
+     * the driver did not report a constraint name, the SQLState decides instead.
+     */
+    static boolean isViolationOf(DataIntegrityViolationException ex, Set<String> constraintNames, String sqlState) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return constraintNames.contains(violation.getConstraintName().toLowerCase());
+            }
+            if (cause instanceof SQLException sqlException) {
+                return sqlState.equals(sqlException.getSQLState());
+            }
+        }
+        return false;
+    }
+}
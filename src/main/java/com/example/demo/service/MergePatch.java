@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.InvalidDataException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7396) document to an entity with flat properties:
+ * absent members are left alone, {@code null} clears the property, anything else replaces it.
+ * Only properties whose value actually changes are written and reported.
+ */
+final class MergePatch {
+    private static final String ID = "id";
+    private static final InvalidDataException NOT_AN_OBJECT =
+            new InvalidDataException("Merge patch document must be a JSON object");
+
+    private final Map<String, Object> remaining;
+    private final Set<String> changedFields = new HashSet<>();
+
+    MergePatch(Map<String, Object> document) {
+        if (document == null) {
+            throw NOT_AN_OBJECT;
+        }
+        this.remaining = new HashMap<>(document);
+        this.remaining.remove(ID);
+    }
+
+    <V> MergePatch apply(String field, Class<V> type, Supplier<V> getter, Consumer<V> setter) {
+        if (!remaining.containsKey(field)) {
+            return this;
+        }
+        V value = convert(field, remaining.remove(field), type);
+        if (!Objects.equals(value, getter.get())) {
+            setter.accept(value);
+            changedFields.add(field);
+        }
+        return this;
+    }
+
+    /**
+     * @throws InvalidDataException if the document contains members that were not applied
+     */
+    Set<String> changedFields() {
+        if (!remaining.isEmpty()) {
+            throw new InvalidDataException("Unknown or read-only fields in merge patch: " + remaining.keySet());
+        }
+        return Set.copyOf(changedFields);
+    }
+
+    private static <V> V convert(String field, Object value, Class<V> type) {
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (value instanceof Number number && (type == Integer.class || type == Long.class)) {
+            try {
+                BigInteger integral = new BigDecimal(number.toString()).toBigIntegerExact();
+                return type.cast(type == Integer.class ? integral.intValueExact() : integral.longValueExact());
+            } catch (ArithmeticException | NumberFormatException ex) {
+                // fall through to the type error below
+            }
+        }
+        throw new InvalidDataException("Field " + field + " must be of type " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.ColumnarNameCatalog;
+import com.example.demo.dto.NameResolution;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.exception.ResourceConflictException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.model.NamedEntity;
+import com.example.demo.repository.NamedEntityRepository;
+import com.example.demo.repository.NormalizedNameResolver;
+import com.example.demo.validator.NameValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+/**
+ * Reads and writes of a {@link NamedEntity} table (authors, categories), shared by
+ * {@link AuthorService} and {@link CategoryService}, which only supply the {@link Kind}, the
+ * repository, the catalog and how books reference the entity. Transactions are declared by
+ * the calling service.
+ */
+final class NamedEntities<T extends NamedEntity> {
+    static final int MAX_RESOLVE_NAMES = 1000;
+    private static final InvalidDataException INVALID_NAME_COUNT =
+            new InvalidDataException("Between 1 and " + MAX_RESOLVE_NAMES + " names must be given");
+
+    /**
+     * What differs between the named entity types.
+     *
+     * @param entityType             {@link EntityChangedEvent} type, also used in messages
+     * @param nameConstraints        unique indexes on the normalized name
+     * @param referencingConstraints foreign keys from books to the entity
+     */
+    record Kind(String entityType,
+                ErrorCode notFound,
+                ErrorCode inUse,
+                ErrorCode nameTaken,
+                Set<String> nameConstraints,
+                Set<String> referencingConstraints) {
+    }
+
+    private final Kind kind;
+    private final NamedEntityRepository<T> repository;
+    private final NormalizedNameResolver nameResolver;
+    private final LongPredicate referencedByBooks;
+    private final Function<String, T> factory;
+    private final NameValidator nameValidator;
+    private final ColumnarNameCatalog<T> catalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String notFoundById;
+    private final String notFoundByName;
+    private final String inUse;
+    private final String nameTaken;
+
+    NamedEntities(Kind kind,
+                  NamedEntityRepository<T> repository,
+                  NormalizedNameResolver nameResolver,
+                  LongPredicate referencedByBooks,
+                  Function<String, T> factory,
+                  NameValidator nameValidator,
+                  ColumnarNameCatalog<T> catalog,
+                  ApplicationEventPublisher eventPublisher) {
+        this.kind = kind;
+        this.repository = repository;
+        this.nameResolver = nameResolver;
+        this.referencedByBooks = referencedByBooks;
+        this.factory = factory;
+        this.nameValidator = nameValidator;
+        this.catalog = catalog;
+        this.eventPublisher = eventPublisher;
+        this.notFoundById = kind.entityType() + " with id {} not found";
+        this.notFoundByName = kind.entityType() + " named '{}' not found";
+        this.inUse = kind.entityType() + " with id {} is still referenced by books";
+        this.nameTaken = kind.entityType() + " named '{}' already exists";
+    }
+
+    List<T> getAll() {
+        if (catalog.isReady()) {
+            return catalog.findAll();
+        }
+        return repository.findAll();
+    }
+
+    T getById(Long id) {
+        return (catalog.isReady() ? catalog.findById(id) : repository.findById(id))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    T getByName(String name) {
+        return repository.findByNormalizedName(name)
+                .orElseThrow(() -> new ResourceNotFoundException(kind.notFound(), notFoundByName, name));
+    }
+
+    /**
+     * Finds or creates an entity for every name, matching case-insensitively and ignoring
+     * surrounding spaces, in a single database round-trip.
+     */
+    List<NameResolution> resolve(List<String> names) {
+        if (names == null || names.isEmpty() || names.size() > MAX_RESOLVE_NAMES) {
+            throw INVALID_NAME_COUNT;
+        }
+        names.forEach(name -> nameValidator.validateName(name, kind.entityType()));
+        List<NameResolution> resolutions = nameResolver.resolve(names);
+        for (NameResolution resolution : resolutions) {
+            if (resolution.created()) {
+                T created = factory.apply(resolution.name());
+                created.setId(resolution.id());
+                catalog.upsert(created);
+                publishChanged(created.getId());
+            }
+        }
+        return resolutions;
+    }
+
+    T create(T entity) {
+        nameValidator.validateName(entity.getName(), kind.entityType());
+        entity.setId(null);
+        T saved = saveUnique(entity);
+        catalog.upsert(saved);
+        publishChanged(saved.getId());
+        return saved;
+    }
+
+    T update(Long id, T entity) {
+        if (!repository.existsById(id)) {
+            throw notFound(id);
+        }
+        nameValidator.validateName(entity.getName(), kind.entityType());
+        entity.setId(id);
+        T saved = saveUnique(entity);
+        catalog.upsert(saved);
+        publishChanged(saved.getId());
+        return saved;
+    }
+
+    T patch(Long id, Map<String, Object> patch) {
+        T entity = repository.findById(id)
+                .orElseThrow(() -> notFound(id));
+        Set<String> changedFields = new MergePatch(patch)
+                .apply("name", String.class, entity::getName, entity::setName)
+                .changedFields();
+        if (changedFields.isEmpty()) {
+            return entity;
+        }
+        nameValidator.validateName(entity.getName(), kind.entityType());
+        T saved = saveUnique(entity);
+        AfterCommit.run(() -> catalog.upsert(saved));
+        publishChanged(saved.getId());
+        return saved;
+    }
+
+    void delete(Long id) {
+        if (!repository.existsById(id)) {
+            throw notFound(id);
+        }
+        if (referencedByBooks.test(id)) {
+            throw new ResourceConflictException(kind.inUse(), inUse, id);
+        }
+        try {
+            // a book written since the check is caught by the foreign key
+            repository.deleteById(id);
+            repository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            if (!IntegrityViolations.isViolationOf(ex, kind.referencingConstraints(), IntegrityViolations.FOREIGN_KEY_VIOLATION)) {
+                throw ex;
+            }
+            throw new ResourceConflictException(kind.inUse(), inUse, id);
+        }
+        AfterCommit.run(() -> catalog.remove(id));
+        publishChanged(id);
+    }
+
+    private T saveUnique(T entity) {
+        try {
+            return repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException ex) {
+            if (!IntegrityViolations.isViolationOf(ex, kind.nameConstraints(), IntegrityViolations.UNIQUE_VIOLATION)) {
+                throw ex;
+            }
+            throw new ResourceConflictException(kind.nameTaken(), nameTaken, entity.getName());
+        }
+    }
+
+    private ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException(kind.notFound(), notFoundById, id);
+    }
+
+    private void publishChanged(Long id) {
+        eventPublisher.publishEvent(new EntityChangedEvent(kind.entityType(), id));
+    }
+}
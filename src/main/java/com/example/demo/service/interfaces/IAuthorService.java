@@ -1,12 +1,17 @@
 package com.example.demo.service.interfaces;
 
+import com.example.demo.dto.NameResolution;
 import com.example.demo.model.Author;
 import java.util.List;
+import java.util.Map;
 
 public interface IAuthorService {
     List<Author> getAllAuthors();
     Author getAuthorById(Long id);
+    Author getAuthorByName(String name);
+    List<NameResolution> resolveAuthors(List<String> names);
     Author createAuthor(Author author);
     Author updateAuthor(Long id, Author author);
+    Author patchAuthor(Long id, Map<String, Object> patch);
     void deleteAuthor(Long id);
 }
@@ -0,0 +1,9 @@
+package com.example.demo.service.interfaces;
+
+import com.example.demo.dto.ArchiveRunStatus;
+import java.util.List;
+
+public interface IBookArchiveService {
+    ArchiveRunStatus startRun();
+    List<ArchiveRunStatus> getRuns();
+}
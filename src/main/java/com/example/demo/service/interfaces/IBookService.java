@@ -2,11 +2,18 @@ package com.example.demo.service.interfaces;
 
 import com.example.demo.model.Book;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface IBookService {
     List<Book> getAllBooks();
+    Optional<byte[]> getAllBooksJson();
     Book getBookById(Long id);
+    Book getBookById(Long id, Integer year);
+    List<Book> getBooksByYearRange(Integer fromYear, Integer toYear);
+    Optional<byte[]> getBooksByYearRangeJson(Integer fromYear, Integer toYear);
     Book createBook(Book book);
     Book updateBook(Long id, Book book);
+    Book patchBook(Long id, Map<String, Object> patch);
     void deleteBook(Long id);
 }
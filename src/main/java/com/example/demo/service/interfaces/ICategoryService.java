@@ -1,12 +1,17 @@
 package com.example.demo.service.interfaces;
 
+import com.example.demo.dto.NameResolution;
 import com.example.demo.model.Category;
 import java.util.List;
+import java.util.Map;
 
 public interface ICategoryService {
     List<Category> getAllCategories();
     Category getCategoryById(Long id);
+    Category getCategoryByName(String name);
+    List<NameResolution> resolveCategories(List<String> names);
     Category createCategory(Category category);
     Category updateCategory(Long id, Category category);
+    Category patchCategory(Long id, Map<String, Object> patch);
     void deleteCategory(Long id);
 }
@@ -0,0 +1,15 @@
+package com.example.demo.service.interfaces;
+
+import com.example.demo.dto.ImportReport;
+import com.example.demo.dto.ImportStatus;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface ICsvTransferService {
+    ImportReport importCsv(String table, InputStream csv);
+    void exportCsv(String table, OutputStream out);
+    void exportRejections(UUID importId, OutputStream out);
+    List<ImportStatus> getImports();
+}
@@ -0,0 +1,12 @@
+package com.example.demo.service.interfaces;
+
+import com.example.demo.dto.DeletionJobStatus;
+import java.util.List;
+import java.util.UUID;
+
+public interface IDeletionJobService {
+    DeletionJobStatus startAuthorDeletion(Long authorId);
+    DeletionJobStatus startCategoryDeletion(Long categoryId);
+    DeletionJobStatus getJob(UUID jobId);
+    List<DeletionJobStatus> getJobs();
+}
@@ -1,5 +1,9 @@
 package com.example.demo.validator;
 
+import com.example.demo.deadline.Deadline;
+import com.example.demo.exception.ApiException;
+import com.example.demo.exception.ValidationFailedException;
+import com.example.demo.jfr.ValidationRuleEvent;
 import com.example.demo.model.Book;
 import com.example.demo.repository.AuthorRepository;
 import com.example.demo.repository.CategoryRepository;
@@ -7,23 +11,115 @@ import com.example.demo.validator.rules.AuthorExistsRule;
 import com.example.demo.validator.rules.CategoryExistsRule;
 import com.example.demo.validator.rules.TitleValidationRule;
 import com.example.demo.validator.rules.ValidationRule;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * Runs the book rules cheapest first. Pure rules run on the calling thread; if any of them
+ * fails, the I/O-bound rules are skipped. Otherwise the I/O-bound rules overlap their
+ * round-trips on virtual threads. Every failure of a run is reported together.
+ */
 @Component
 public class BookValidator {
+    private static final ThreadFactory VALIDATION_THREADS = Thread.ofVirtual().name("book-validation-", 0).factory();
+
     private final List<ValidationRule<Book>> rules;
 
+    @Autowired
     public BookValidator(AuthorRepository authorRepository, CategoryRepository categoryRepository) {
-        this.rules = List.of(
+        this(List.of(
             new TitleValidationRule(),
             new AuthorExistsRule(authorRepository),
             new CategoryExistsRule(categoryRepository)
-        );
+        ));
+    }
+
+    BookValidator(List<ValidationRule<Book>> rules) {
+        this.rules = rules.stream()
+                .sorted(Comparator.comparingInt(ValidationRule::cost))
+                .toList();
     }
 
     public void validate(Book book) {
-        rules.forEach(rule -> rule.validate(book));
+        run(book, rules);
+    }
+
+    /**
+     * Validates a partially updated book, running only the rules affected by {@code changedFields}.
+     */
+    public void validate(Book book, Set<String> changedFields) {
+        run(book, rules.stream().filter(rule -> rule.appliesTo(changedFields)).toList());
+    }
+
+    private void run(Book book, List<ValidationRule<Book>> selected) {
+        List<ApiException> failures = new ArrayList<>();
+        List<ValidationRule<Book>> ioBound = new ArrayList<>();
+        for (ValidationRule<Book> rule : selected) {
+            if (rule.kind() == ValidationRule.Kind.PURE) {
+                apply(rule, book, failures);
+            } else {
+                ioBound.add(rule);
+            }
+        }
+        // an entity that is invalid by itself is not worth the round-trips
+        if (failures.isEmpty()) {
+            runIoBound(book, ioBound, failures);
+        }
+        ValidationFailedException.throwIfAny(failures);
+    }
+
+    private void runIoBound(Book book, List<ValidationRule<Book>> ioBound, List<ApiException> failures) {
+        // a transaction pins a connection to this thread; other threads would each need one more
+        // from the pool and could exhaust it under load, so stay sequential there
+        if (ioBound.size() < 2 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            ioBound.forEach(rule -> apply(rule, book, failures));
+            return;
+        }
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(VALIDATION_THREADS)) {
+            List<Future<?>> pending = new ArrayList<>(ioBound.size() - 1);
+            for (ValidationRule<Book> rule : ioBound.subList(1, ioBound.size())) {
+                pending.add(executor.submit(Deadline.propagate(() -> ValidationRuleEvent.validate(rule, book))));
+            }
+            // the calling thread takes the first rule instead of waiting idle
+            apply(ioBound.get(0), book, failures);
+            for (Future<?> result : pending) {
+                await(result, failures);
+            }
+        }
+    }
+
+    private static void apply(ValidationRule<Book> rule, Book book, List<ApiException> failures) {
+        try {
+            ValidationRuleEvent.validate(rule, book);
+        } catch (ApiException ex) {
+            failures.add(ex);
+        }
+    }
+
+    private static void await(Future<?> result, List<ApiException> failures) {
+        try {
+            result.get();
+        } catch (ExecutionException ex) {
+            switch (ex.getCause()) {
+                case ApiException failure -> failures.add(failure);
+                case RuntimeException failure -> throw failure;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException("Validation rule failed", ex.getCause());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating", ex);
+        }
     }
 }
@@ -1,24 +1,39 @@
 package com.example.demo.validator;
 
+import com.example.demo.exception.ErrorCode;
 import com.example.demo.exception.InvalidDataException;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
 public class NameValidator {
     
     private static final int MIN_NAME_LENGTH = 2;
     private static final int MAX_NAME_LENGTH = 100;
+    private static final String NAME_LENGTH_TEMPLATE =
+            "{} name must be between " + MIN_NAME_LENGTH + " and " + MAX_NAME_LENGTH + " characters";
+
+    // one pair of preallocated failures per entity type, of which there are only a few
+    private final Map<String, Failures> failures = new ConcurrentHashMap<>();
     
     public void validateName(String name, String entityType) {
         if (name == null || name.trim().isEmpty()) {
-            throw new InvalidDataException(entityType + " name cannot be empty");
+            throw failuresOf(entityType).empty();
         }
         
         if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
-            throw new InvalidDataException(
-                entityType + " name must be between " + MIN_NAME_LENGTH + 
-                " and " + MAX_NAME_LENGTH + " characters"
-            );
+            throw failuresOf(entityType).length();
         }
     }
-}
\ No newline at end of file
+
+    private Failures failuresOf(String entityType) {
+        return failures.computeIfAbsent(entityType, type -> new Failures(
+                new InvalidDataException(ErrorCode.NAME_EMPTY, "{} name cannot be empty", type),
+                new InvalidDataException(ErrorCode.NAME_LENGTH, NAME_LENGTH_TEMPLATE, type)));
+    }
+
+    private record Failures(InvalidDataException empty, InvalidDataException length) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.validator;
+
+import com.example.demo.model.Book;
+import com.example.demo.repository.reactive.ReactiveReferenceRepository;
+import com.example.demo.validator.rules.ReactiveAuthorExistsRule;
+import com.example.demo.validator.rules.ReactiveCategoryExistsRule;
+import com.example.demo.validator.rules.ReactiveValidationRule;
+import com.example.demo.validator.rules.TitleValidationRule;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@Profile("reactive")
+public class ReactiveBookValidator {
+    private final List<ReactiveValidationRule<Book>> rules;
+
+    public ReactiveBookValidator(ReactiveReferenceRepository referenceRepository) {
+        this.rules = List.of(
+            ReactiveValidationRule.of(new TitleValidationRule()),
+            new ReactiveAuthorExistsRule(referenceRepository),
+            new ReactiveCategoryExistsRule(referenceRepository)
+        );
+    }
+
+    public Mono<Book> validate(Book book) {
+        return Flux.fromIterable(rules)
+                .concatMap(rule -> rule.validate(book))
+                .then(Mono.just(book));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.validator;
 
+import com.example.demo.exception.ErrorCode;
 import com.example.demo.exception.InvalidDataException;
 import com.example.demo.repository.AuthorRepository;
 import com.example.demo.repository.CategoryRepository;
@@ -17,13 +18,13 @@ public class ReferenceValidator {
 
     public void validateAuthorExists(Long authorId) {
         if (authorId != null && !authorRepository.existsById(authorId)) {
-            throw new InvalidDataException("Author with id " + authorId + " does not exist");
+            throw new InvalidDataException(ErrorCode.AUTHOR_REFERENCE_MISSING, "Author with id {} does not exist", authorId);
         }
     }
 
     public void validateCategoryExists(Long categoryId) {
         if (categoryId != null && !categoryRepository.existsById(categoryId)) {
-            throw new InvalidDataException("Category with id " + categoryId + " does not exist");
+            throw new InvalidDataException(ErrorCode.CATEGORY_REFERENCE_MISSING, "Category with id {} does not exist", categoryId);
         }
     }
 }
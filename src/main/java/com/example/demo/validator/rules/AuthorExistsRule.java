@@ -1,9 +1,12 @@
 package com.example.demo.validator.rules;
 
+import com.example.demo.exception.ErrorCode;
 import com.example.demo.exception.InvalidDataException;
 import com.example.demo.model.Book;
 import com.example.demo.repository.AuthorRepository;
 
+import java.util.Set;
+
 public class AuthorExistsRule implements ValidationRule<Book> {
     
     private final AuthorRepository authorRepository;
@@ -17,7 +20,17 @@ public class AuthorExistsRule implements ValidationRule<Book> {
         Long authorId = book.getAuthorId();
         
         if (authorId != null && !authorRepository.existsById(authorId)) {
-            throw new InvalidDataException("Author with id " + authorId + " does not exist");
+            throw new InvalidDataException(ErrorCode.AUTHOR_REFERENCE_MISSING, "Author with id {} does not exist", authorId);
         }
     }
+
+    @Override
+    public boolean appliesTo(Set<String> changedFields) {
+        return changedFields.contains("authorId");
+    }
+
+    @Override
+    public Kind kind() {
+        return Kind.IO_BOUND;
+    }
 }
@@ -1,9 +1,12 @@
 package com.example.demo.validator.rules;
 
+import com.example.demo.exception.ErrorCode;
 import com.example.demo.exception.InvalidDataException;
 import com.example.demo.model.Book;
 import com.example.demo.repository.CategoryRepository;
 
+import java.util.Set;
+
 public class CategoryExistsRule implements ValidationRule<Book> {
     
     private final CategoryRepository categoryRepository;
@@ -17,7 +20,17 @@ public class CategoryExistsRule implements ValidationRule<Book> {
         Long categoryId = book.getCategoryId();
         
         if (categoryId != null && !categoryRepository.existsById(categoryId)) {
-            throw new InvalidDataException("Category with id " + categoryId + " does not exist");
+            throw new InvalidDataException(ErrorCode.CATEGORY_REFERENCE_MISSING, "Category with id {} does not exist", categoryId);
         }
     }
+
+    @Override
+    public boolean appliesTo(Set<String> changedFields) {
+        return changedFields.contains("categoryId");
+    }
+
+    @Override
+    public Kind kind() {
+        return Kind.IO_BOUND;
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.demo.validator.rules;
+
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.model.Book;
+import com.example.demo.repository.reactive.ReactiveReferenceRepository;
+import reactor.core.publisher.Mono;
+
+public class ReactiveAuthorExistsRule implements ReactiveValidationRule<Book> {
+
+    private final ReactiveReferenceRepository referenceRepository;
+
+    public ReactiveAuthorExistsRule(ReactiveReferenceRepository referenceRepository) {
+        this.referenceRepository = referenceRepository;
+    }
+
+    @Override
+    public Mono<Void> validate(Book book) {
+        Long authorId = book.getAuthorId();
+
+        if (authorId == null) {
+            return Mono.empty();
+        }
+        return referenceRepository.authorExists(authorId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new InvalidDataException(ErrorCode.AUTHOR_REFERENCE_MISSING, "Author with id {} does not exist", authorId)));
+    }
+}
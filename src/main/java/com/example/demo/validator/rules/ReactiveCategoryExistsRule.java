@@ -0,0 +1,29 @@
+package com.example.demo.validator.rules;
+
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.model.Book;
+import com.example.demo.repository.reactive.ReactiveReferenceRepository;
+import reactor.core.publisher.Mono;
+
+public class ReactiveCategoryExistsRule implements ReactiveValidationRule<Book> {
+
+    private final ReactiveReferenceRepository referenceRepository;
+
+    public ReactiveCategoryExistsRule(ReactiveReferenceRepository referenceRepository) {
+        this.referenceRepository = referenceRepository;
+    }
+
+    @Override
+    public Mono<Void> validate(Book book) {
+        Long categoryId = book.getCategoryId();
+
+        if (categoryId == null) {
+            return Mono.empty();
+        }
+        return referenceRepository.categoryExists(categoryId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new InvalidDataException(ErrorCode.CATEGORY_REFERENCE_MISSING, "Category with id {} does not exist", categoryId)));
+    }
+}
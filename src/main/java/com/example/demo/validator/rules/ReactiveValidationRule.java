@@ -0,0 +1,15 @@
+package com.example.demo.validator.rules;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveValidationRule<T> {
+    Mono<Void> validate(T entity);
+
+    /**
+     * Adapts a rule that only inspects the entity itself (no I/O) so it can be shared
+     * between the blocking and the reactive validators.
+     */
+    static <T> ReactiveValidationRule<T> of(ValidationRule<T> rule) {
+        return entity -> Mono.fromRunnable(() -> rule.validate(entity));
+    }
+}
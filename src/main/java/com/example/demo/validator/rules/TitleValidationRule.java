@@ -1,26 +1,38 @@
 package com.example.demo.validator.rules;
 
+import com.example.demo.exception.ErrorCode;
 import com.example.demo.exception.InvalidDataException;
 import com.example.demo.model.Book;
 
+import java.util.Set;
+
 public class TitleValidationRule implements ValidationRule<Book> {
     
     private static final int MIN_TITLE_LENGTH = 2;
     private static final int MAX_TITLE_LENGTH = 100;
+
+    private static final InvalidDataException TITLE_EMPTY =
+            new InvalidDataException(ErrorCode.BOOK_TITLE_EMPTY, "Book title cannot be empty");
+    private static final InvalidDataException TITLE_LENGTH = new InvalidDataException(
+            ErrorCode.BOOK_TITLE_LENGTH,
+            "Book title must be between " + MIN_TITLE_LENGTH + " and " + MAX_TITLE_LENGTH + " characters"
+    );
     
     @Override
     public void validate(Book book) {
         String title = book.getTitle();
         
         if (title == null || title.trim().isEmpty()) {
-            throw new InvalidDataException("Book title cannot be empty");
+            throw TITLE_EMPTY;
         }
         
         if (title.length() < MIN_TITLE_LENGTH || title.length() > MAX_TITLE_LENGTH) {
-            throw new InvalidDataException(
-                "Book title must be between " + MIN_TITLE_LENGTH + 
-                " and " + MAX_TITLE_LENGTH + " characters"
-            );
+            throw TITLE_LENGTH;
         }
     }
+
+    @Override
+    public boolean appliesTo(Set<String> changedFields) {
+        return changedFields.contains("title");
+    }
 }
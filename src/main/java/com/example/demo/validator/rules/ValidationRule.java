@@ -1,5 +1,40 @@
 package com.example.demo.validator.rules;
 
+import java.util.Set;
+
 public interface ValidationRule<T> {
     void validate(T entity);
+
+    /**
+     * Whether the rule has to run again after a partial update that changed only {@code changedFields}.
+     */
+    default boolean appliesTo(Set<String> changedFields) {
+        return true;
+    }
+
+    /**
+     * Whether the rule only inspects the entity or has to ask another system. Pure rules run
+     * first on the calling thread; I/O-bound rules may run concurrently with each other.
+     */
+    default Kind kind() {
+        return Kind.PURE;
+    }
+
+    /**
+     * Relative cost used to order the rules of a validator, cheapest first.
+     */
+    default int cost() {
+        return kind().defaultCost;
+    }
+
+    enum Kind {
+        PURE(1),
+        IO_BOUND(100);
+
+        private final int defaultCost;
+
+        Kind(int defaultCost) {
+            this.defaultCost = defaultCost;
+        }
+    }
 }
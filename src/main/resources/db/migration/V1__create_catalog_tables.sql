@@ -0,0 +1,23 @@
+-- Baseline schema. Databases created earlier by Hibernate (ddl-auto=update) already
+-- have these objects, so every statement is idempotent.
+
+CREATE TABLE IF NOT EXISTS authors (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS books (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    year        INTEGER,
+    author_id   BIGINT,
+    category_id BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_books_author_id ON books (author_id);
+CREATE INDEX IF NOT EXISTS idx_books_category_id ON books (category_id);
@@ -0,0 +1,27 @@
+-- Author and category names are unique ignoring case and surrounding spaces.
+-- Existing duplicates are merged into the row with the lowest id first, re-pointing their books.
+
+UPDATE books b
+SET author_id = d.keep_id
+FROM (SELECT id, min(id) OVER (PARTITION BY lower(btrim(name))) AS keep_id FROM authors) d
+WHERE b.author_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE FROM authors a
+USING (SELECT id, min(id) OVER (PARTITION BY lower(btrim(name))) AS keep_id FROM authors) d
+WHERE a.id = d.id
+  AND d.id <> d.keep_id;
+
+UPDATE books b
+SET category_id = d.keep_id
+FROM (SELECT id, min(id) OVER (PARTITION BY lower(btrim(name))) AS keep_id FROM categories) d
+WHERE b.category_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE FROM categories c
+USING (SELECT id, min(id) OVER (PARTITION BY lower(btrim(name))) AS keep_id FROM categories) d
+WHERE c.id = d.id
+  AND d.id <> d.keep_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_authors_normalized_name ON authors (lower(btrim(name)));
+CREATE UNIQUE INDEX IF NOT EXISTS uq_categories_normalized_name ON categories (lower(btrim(name)));
@@ -0,0 +1,10 @@
+-- Rows rejected by CSV imports (CsvTransferService), kept for library.csv-import.rejection-retention.
+CREATE TABLE IF NOT EXISTS import_rejections (
+    import_id  UUID        NOT NULL,
+    line_no    BIGINT      NOT NULL,
+    reason     TEXT        NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (import_id, line_no)
+);
+
+CREATE INDEX IF NOT EXISTS idx_import_rejections_created_at ON import_rejections (created_at);
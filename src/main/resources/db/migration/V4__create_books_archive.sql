@@ -0,0 +1,19 @@
+-- Cold storage for books older than library.archive.before-year (BookArchiveService).
+-- Rows are written once, in (year, id) order, and never updated: pages are packed full, the
+-- columns are laid out without alignment padding, and year is covered by a tiny BRIN index
+-- instead of a B-tree. Author and category indexes serve the reference checks on delete.
+
+CREATE TABLE IF NOT EXISTS books_archive (
+    id          BIGINT PRIMARY KEY,
+    author_id   BIGINT,
+    category_id BIGINT,
+    year        INTEGER,
+    title       TEXT NOT NULL
+) WITH (fillfactor = 100);
+
+CREATE INDEX IF NOT EXISTS idx_books_archive_year ON books_archive USING brin (year);
+CREATE INDEX IF NOT EXISTS idx_books_archive_author_id ON books_archive (author_id);
+CREATE INDEX IF NOT EXISTS idx_books_archive_category_id ON books_archive (category_id);
+
+-- archival batches pick the oldest books first; also serves the year range finder
+CREATE INDEX IF NOT EXISTS idx_books_year ON books (year, id);
@@ -0,0 +1,23 @@
+-- Books (hot and archived) may only reference existing authors and categories. The foreign
+-- keys close the gap between the "still referenced" check on delete and the delete itself:
+-- the delete of a referenced row fails, and a book insert waits for a concurrent delete of
+-- its author or category instead of committing a dangling reference.
+-- References that are already dangling are cleared first, so the constraints can be validated.
+
+UPDATE books SET author_id = NULL
+WHERE author_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM authors a WHERE a.id = books.author_id);
+UPDATE books SET category_id = NULL
+WHERE category_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM categories c WHERE c.id = books.category_id);
+UPDATE books_archive SET author_id = NULL
+WHERE author_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM authors a WHERE a.id = books_archive.author_id);
+UPDATE books_archive SET category_id = NULL
+WHERE category_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM categories c WHERE c.id = books_archive.category_id);
+
+ALTER TABLE books DROP CONSTRAINT IF EXISTS fk_books_author;
+ALTER TABLE books ADD CONSTRAINT fk_books_author FOREIGN KEY (author_id) REFERENCES authors (id);
+ALTER TABLE books DROP CONSTRAINT IF EXISTS fk_books_category;
+ALTER TABLE books ADD CONSTRAINT fk_books_category FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE books_archive DROP CONSTRAINT IF EXISTS fk_books_archive_author;
+ALTER TABLE books_archive ADD CONSTRAINT fk_books_archive_author FOREIGN KEY (author_id) REFERENCES authors (id);
+ALTER TABLE books_archive DROP CONSTRAINT IF EXISTS fk_books_archive_category;
+ALTER TABLE books_archive ADD CONSTRAINT fk_books_archive_category FOREIGN KEY (category_id) REFERENCES categories (id);
@@ -0,0 +1,46 @@
+-- Optional: converts books into a table range-partitioned on year (profile 'partitioned').
+--
+-- A primary key on a partitioned table must contain the partition key, and year is
+-- nullable, so ids are not declared unique here. They still come from a single
+-- sequence, and every partition gets an index on id for lookups.
+
+CREATE SEQUENCE books_partitioned_id_seq;
+
+CREATE TABLE books_partitioned (
+    id          BIGINT NOT NULL DEFAULT nextval('books_partitioned_id_seq'),
+    title       VARCHAR(255) NOT NULL,
+    year        INTEGER,
+    author_id   BIGINT,
+    category_id BIGINT
+) PARTITION BY RANGE (year);
+
+CREATE TABLE books_y_historic PARTITION OF books_partitioned FOR VALUES FROM (MINVALUE) TO (1900);
+
+DO $$
+DECLARE
+    decade INTEGER;
+BEGIN
+    FOR decade IN 1900..2020 BY 10 LOOP
+        EXECUTE format('CREATE TABLE books_y%s PARTITION OF books_partitioned FOR VALUES FROM (%s) TO (%s)',
+                       decade, decade, decade + 10);
+    END LOOP;
+END
+$$;
+
+-- rows without a year, and years beyond the last created decade
+CREATE TABLE books_y_default PARTITION OF books_partitioned DEFAULT;
+
+INSERT INTO books_partitioned (id, title, year, author_id, category_id)
+SELECT id, title, year, author_id, category_id FROM books;
+
+SELECT setval('books_partitioned_id_seq', COALESCE((SELECT max(id) FROM books_partitioned), 0) + 1, false);
+
+DROP TABLE books;
+ALTER TABLE books_partitioned RENAME TO books;
+ALTER SEQUENCE books_partitioned_id_seq OWNED BY books.id;
+
+CREATE INDEX idx_books_id ON books (id);
+CREATE INDEX idx_books_author_id ON books (author_id);
+CREATE INDEX idx_books_category_id ON books (category_id);
+
+ANALYZE books;
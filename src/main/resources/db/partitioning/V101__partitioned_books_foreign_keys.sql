@@ -0,0 +1,8 @@
+-- V100 recreates books as a partitioned table, which drops the foreign keys added by V5.
+-- They are declared on the parent and inherited by every partition, including ones created
+-- later by BookPartitionMaintenance.
+
+ALTER TABLE books DROP CONSTRAINT IF EXISTS fk_books_author;
+ALTER TABLE books ADD CONSTRAINT fk_books_author FOREIGN KEY (author_id) REFERENCES authors (id);
+ALTER TABLE books DROP CONSTRAINT IF EXISTS fk_books_category;
+ALTER TABLE books ADD CONSTRAINT fk_books_category FOREIGN KEY (category_id) REFERENCES categories (id);
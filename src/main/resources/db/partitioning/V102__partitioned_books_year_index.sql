@@ -0,0 +1,5 @@
+-- V100 recreated books without the (year, id) index added by V4, which archival batches and
+-- the year range finder rely on. Declared on the parent, it is created on every partition and
+-- on the ones BookPartitionMaintenance adds later.
+
+CREATE INDEX IF NOT EXISTS idx_books_year ON books (year, id);
@@ -0,0 +1,122 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares JSON, CBOR and Smile for {@code List<Book>} payloads: serialization time and
+ * bytes on the wire, uncompressed and after gzip / deflate. Excluded from the regular
+ * build, run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@DisplayName("Serialization format benchmark")
+class SerializationBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(SerializationBenchmarkTest.class);
+
+    private static final TypeReference<List<Book>> BOOK_LIST = new TypeReference<>() {
+    };
+
+    private static final Map<String, ObjectMapper> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put("json", JsonMapper.builder().build());
+        FORMATS.put("cbor", CBORMapper.builder().build());
+        FORMATS.put("smile", SmileMapper.builder().build());
+    }
+
+    @ParameterizedTest(name = "{0} books")
+    @ValueSource(ints = {1_000, 100_000, 1_000_000})
+    @DisplayName("Binary formats should be smaller than JSON and round-trip the same books")
+    void compareFormats(int count) throws IOException {
+        // Given
+        List<Book> books = books(count);
+        int iterations = count >= 1_000_000 ? 3 : count >= 100_000 ? 10 : 200;
+        Map<String, Integer> rawSizes = new LinkedHashMap<>();
+
+        log.info(String.format("%,d books (%d iterations)", count, iterations));
+        log.info(String.format("%-6s %14s %14s %14s %12s %12s",
+                "format", "raw bytes", "gzip bytes", "deflate bytes", "write ms", "read ms"));
+
+        for (Map.Entry<String, ObjectMapper> format : FORMATS.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+
+            // When
+            byte[] payload = mapper.writeValueAsBytes(books);
+            long writeNanos = median(iterations, () -> mapper.writeValueAsBytes(books));
+            long readNanos = median(Math.max(1, iterations / 2), () -> mapper.readValue(payload, BOOK_LIST));
+            List<Book> decoded = mapper.readValue(payload, BOOK_LIST);
+
+            // Then
+            assertThat(decoded).hasSize(count);
+            assertThat(decoded.get(count - 1).getTitle()).isEqualTo(books.get(count - 1).getTitle());
+            rawSizes.put(format.getKey(), payload.length);
+            log.info(String.format("%-6s %,14d %,14d %,14d %12.2f %12.2f", format.getKey(), payload.length,
+                    compressed(payload, GZIPOutputStream::new), compressed(payload, DeflaterOutputStream::new),
+                    writeNanos / 1e6, readNanos / 1e6));
+        }
+
+        assertThat(rawSizes.get("cbor")).isLessThan(rawSizes.get("json"));
+        assertThat(rawSizes.get("smile")).isLessThan(rawSizes.get("json"));
+    }
+
+    private static List<Book> books(int count) {
+        Random random = new Random(42);
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Book book = new Book("Book title number " + i, 1800 + random.nextInt(225),
+                    1L + random.nextInt(5_000), 1L + random.nextInt(50));
+            book.setId((long) i);
+            books.add(book);
+        }
+        return books;
+    }
+
+    private static long median(int iterations, Runnable task) {
+        task.run(); // warm-up
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            task.run();
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return samples[iterations / 2];
+    }
+
+    private static int compressed(byte[] payload, Compressor compressor) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length / 4);
+        try (OutputStream out = compressor.wrap(bytes)) {
+            out.write(payload);
+        }
+        return bytes.size();
+    }
+
+    @FunctionalInterface
+    private interface Compressor {
+        OutputStream wrap(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.cache;
+
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.model.Book;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EntityCacheEviction Unit Tests")
+class EntityCacheEvictionTest {
+
+    private static final Long BOOK_ID = 7L;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private jakarta.persistence.Cache jpaCache;
+
+    @Mock
+    private Cache cache;
+
+    private EntityCacheEviction eviction;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+        eviction = new EntityCacheEviction(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Should evict the changed book and the query results on a remote write")
+    void invalidate_WithId_ShouldEvictEntityAndQueries() {
+        // When
+        eviction.invalidate(EntityChangedEvent.BOOK, BOOK_ID);
+
+        // Then
+        verify(cache).evictEntityData(Book.class, BOOK_ID);
+        verify(cache).evictQueryRegions();
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Should evict the whole region after a local bulk write")
+    void onEntityChanged_WithoutId_ShouldEvictRegion() {
+        // When
+        eviction.onEntityChanged(EntityChangedEvent.all(EntityChangedEvent.BOOK));
+
+        // Then
+        verify(cache).evictEntityData(Book.class);
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Should leave the cache alone for local writes made through Hibernate")
+    void onEntityChanged_WithId_ShouldNotEvict() {
+        // When
+        eviction.onEntityChanged(EntityChangedEvent.book(BOOK_ID));
+
+        // Then
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Should drop every region when notifications may have been missed")
+    void invalidateAll_ShouldEvictAllRegions() {
+        // When
+        eviction.invalidateAll();
+
+        // Then
+        verify(cache).evictAllRegions();
+    }
+}
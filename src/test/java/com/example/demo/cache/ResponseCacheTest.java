@@ -0,0 +1,117 @@
+package com.example.demo.cache;
+
+import com.example.demo.invalidation.EntityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCache Unit Tests")
+class ResponseCacheTest {
+
+    private static final Set<String> AUTHOR_TABLES = Set.of(EntityChangedEvent.AUTHOR);
+
+    private TableVersions tableVersions;
+    private ResponseCache responseCache;
+    private AtomicInteger serviceCalls;
+    private Supplier<List<String>> authors;
+
+    @BeforeEach
+    void setUp() {
+        tableVersions = new TableVersions();
+        responseCache = new ResponseCache(
+                new ResponseCacheProperties(true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64)),
+                tableVersions, JsonMapper.builder().build(), new SimpleMeterRegistry());
+        serviceCalls = new AtomicInteger();
+        authors = () -> {
+            serviceCalls.incrementAndGet();
+            return List.of("Adam Mickiewicz", "Bolesław Prus");
+        };
+    }
+
+    @Test
+    @DisplayName("Should serve the stored bytes until a write bumps the table version")
+    void json_ShouldServeCachedBodyUntilVersionChanges() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+
+        // When
+        ResponseEntity<?> first = responseCache.json("authors", AUTHOR_TABLES, headers, authors);
+        ResponseEntity<?> second = responseCache.json("authors", AUTHOR_TABLES, headers, authors);
+        tableVersions.onEntityChanged(EntityChangedEvent.author(1L));
+        ResponseEntity<?> afterWrite = responseCache.json("authors", AUTHOR_TABLES, headers, authors);
+
+        // Then
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String((byte[]) first.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("[\"Adam Mickiewicz\",\"Bolesław Prus\"]");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(afterWrite.getBody()).isNotSameAs(first.getBody());
+        assertThat(serviceCalls).hasValue(2);
+        assertThat(responseCache.hitRatio()).isEqualTo(1.0 / 3);
+        assertThat(responseCache.sizeInBytes()).isEqualTo(((byte[]) afterWrite.getBody()).length);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the client already has the current body")
+    void json_WithMatchingEtag_ShouldReturnNotModified() {
+        // Given
+        String etag = responseCache.json("authors", AUTHOR_TABLES, new HttpHeaders(), authors).getHeaders().getETag();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // When
+        ResponseEntity<?> response = responseCache.json("authors", AUTHOR_TABLES, headers, authors);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(serviceCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when the client negotiates a binary format")
+    void json_WithCborAccept_ShouldReturnObjectBody() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+        // When
+        ResponseEntity<?> response = responseCache.json("authors", AUTHOR_TABLES, headers, authors);
+
+        // Then
+        assertThat(response.getBody()).isInstanceOf(List.class);
+        assertThat(responseCache.sizeInBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should store pre-serialized bytes without materializing the body")
+    void json_WithSerializedBody_ShouldSkipMaterialization() {
+        // Given
+        byte[] serialized = "[\"Adam Mickiewicz\"]".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        ResponseEntity<?> response = responseCache.json("authors", AUTHOR_TABLES, new HttpHeaders(), authors,
+                () -> Optional.of(serialized));
+
+        // Then
+        assertThat(response.getBody()).isSameAs(serialized);
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat(serviceCalls).hasValue(0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CatalogSnapshotFile Unit Tests")
+class CatalogSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should restore catalogs with the same contents as the ones that were written")
+    void writeThenRead_ShouldRoundTripAllCatalogs() throws IOException {
+        // Given
+        ColumnarBookCatalog books = new ColumnarBookCatalog(true);
+        books.load(Stream.of(book(1L, "Pan Tadeusz", 1834), book(2L, "Lalka", 1890), book(4L, "Zażółć gęślą jaźń", null)));
+        books.remove(2L);
+        ColumnarAuthorCatalog authors = new ColumnarAuthorCatalog(true);
+        authors.load(Stream.of(author(1L, "Adam Mickiewicz"), author(2L, "Bolesław Prus")));
+        ColumnarCategoryCatalog categories = new ColumnarCategoryCatalog(true);
+        categories.load(Stream.empty());
+        Path path = directory.resolve("catalog.snapshot");
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // When
+        CatalogSnapshotFile.write(path, new CatalogSnapshotFile.Contents(
+                createdAt, books.exportColumns(), authors.exportColumns(), categories.exportColumns()));
+        CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(path);
+        ColumnarBookCatalog restoredBooks = new ColumnarBookCatalog(true);
+        restoredBooks.restore(contents.books());
+        ColumnarAuthorCatalog restoredAuthors = new ColumnarAuthorCatalog(true);
+        restoredAuthors.restore(contents.authors());
+
+        // Then
+        assertThat(contents.createdAt()).isEqualTo(createdAt);
+        assertThat(restoredBooks.isReady()).isTrue();
+        assertThat(restoredBooks.findAll()).extracting(Book::getId).containsExactly(1L, 4L);
+        assertThat(restoredBooks.findById(4L)).hasValueSatisfying(book -> {
+            assertThat(book.getTitle()).isEqualTo("Zażółć gęślą jaźń");
+            assertThat(book.getYear()).isNull();
+        });
+        assertThat(restoredAuthors.findAll()).extracting(Author::getName)
+                .containsExactly("Adam Mickiewicz", "Bolesław Prus");
+        assertThat(contents.categories().ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose payload does not match the checksum")
+    void verify_CorruptedPayload_ShouldFail() throws IOException {
+        // Given
+        ColumnarBookCatalog books = new ColumnarBookCatalog(true);
+        books.load(Stream.of(book(1L, "Lalka", 1890)));
+        ColumnarAuthorCatalog authors = new ColumnarAuthorCatalog(true);
+        authors.load(Stream.empty());
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, new CatalogSnapshotFile.Contents(
+                Instant.now(), books.exportColumns(), authors.exportColumns(), authors.exportColumns()));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[CatalogSnapshotFile.HEADER_SIZE + 4] ^= 1;
+        Files.write(path, bytes);
+
+        // When / Then
+        assertThatThrownBy(() -> CatalogSnapshotFile.verify(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    @DisplayName("Should round-trip catalogs larger than one read chunk")
+    void writeThenRead_ManyRows_ShouldSpanChunks() throws IOException {
+        // Given
+        ColumnarBookCatalog books = new ColumnarBookCatalog(true);
+        books.load(LongStream.rangeClosed(1, 20_000).mapToObj(id -> book(id, "Tytuł " + id, (int) (1800 + id % 200))));
+        ColumnarAuthorCatalog authors = new ColumnarAuthorCatalog(true);
+        authors.load(Stream.empty());
+        Path path = directory.resolve("catalog.snapshot");
+
+        // When
+        CatalogSnapshotFile.Header written = CatalogSnapshotFile.write(path, new CatalogSnapshotFile.Contents(
+                Instant.now(), books.exportColumns(), authors.exportColumns(), authors.exportColumns()));
+        CatalogSnapshotFile.Header verified = CatalogSnapshotFile.verify(path);
+        ColumnarBookCatalog restored = new ColumnarBookCatalog(true);
+        restored.restore(CatalogSnapshotFile.read(path).books());
+
+        // Then
+        assertThat(Files.size(path)).isEqualTo(CatalogSnapshotFile.HEADER_SIZE + written.payloadLength());
+        assertThat(verified.checksum()).isEqualTo(written.checksum());
+        assertThat(restored.size()).isEqualTo(20_000);
+        assertThat(restored.findById(19_999L)).map(Book::getTitle).hasValue("Tytuł 19999");
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot cut short before its declared payload length")
+    void read_TruncatedFile_ShouldFail() throws IOException {
+        // Given
+        ColumnarBookCatalog books = new ColumnarBookCatalog(true);
+        books.load(Stream.of(book(1L, "Lalka", 1890)));
+        ColumnarAuthorCatalog authors = new ColumnarAuthorCatalog(true);
+        authors.load(Stream.empty());
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, new CatalogSnapshotFile.Contents(
+                Instant.now(), books.exportColumns(), authors.exportColumns(), authors.exportColumns()));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+
+        // When / Then
+        assertThatThrownBy(() -> CatalogSnapshotFile.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    private static Book book(Long id, String title, Integer year) {
+        Book book = new Book(title, year, 7L, 3L);
+        book.setId(id);
+        return book;
+    }
+
+    private static Author author(Long id, String name) {
+        Author author = new Author(name);
+        author.setId(id);
+        return author;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.catalog;
+
+import com.example.demo.model.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ColumnarBookCatalog Unit Tests")
+class ColumnarBookCatalogTest {
+
+    private static final Long AUTHOR_ID = 7L;
+    private static final Long CATEGORY_ID = 3L;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private ColumnarBookCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ColumnarBookCatalog(true);
+        catalog.load(Stream.of(
+                book(1L, "Pan Tadeusz", 1834),
+                book(2L, "Lalka", 1890),
+                book(4L, "Zażółć gęślą jaźń", null),
+                book(5L, "Quo Vadis", 1896)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should materialize loaded books with all columns, including nulls and non-ASCII titles")
+    void findById_AfterLoad_ShouldReturnBook() {
+        assertThat(catalog.isReady()).isTrue();
+        assertThat(catalog.findById(4L)).hasValueSatisfying(book -> {
+            assertThat(book.getId()).isEqualTo(4L);
+            assertThat(book.getTitle()).isEqualTo("Zażółć gęślą jaźń");
+            assertThat(book.getYear()).isNull();
+            assertThat(book.getAuthorId()).isEqualTo(AUTHOR_ID);
+            assertThat(book.getCategoryId()).isEqualTo(CATEGORY_ID);
+        });
+        assertThat(catalog.findById(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep id order when inserting, updating and removing")
+    void upsertAndRemove_ShouldKeepCatalogConsistent() {
+        catalog.upsert(book(3L, "Chłopi", 1904));
+        catalog.upsert(book(1L, "Pan Tadeusz, czyli ostatni zajazd na Litwie", 1834));
+        catalog.remove(2L);
+
+        assertThat(catalog.findAll())
+                .extracting(Book::getId)
+                .containsExactly(1L, 3L, 4L, 5L);
+        assertThat(catalog.findById(1L))
+                .map(Book::getTitle)
+                .hasValue("Pan Tadeusz, czyli ostatni zajazd na Litwie");
+    }
+
+    @Test
+    @DisplayName("Should return books in the year range ordered by year and id")
+    void findByYearBetween_ShouldFilterAndOrderByYear() {
+        catalog.upsert(book(6L, "Ogniem i mieczem", 1884));
+
+        List<Book> books = catalog.findByYearBetween(1850, 1900);
+
+        assertThat(books)
+                .extracting(Book::getId)
+                .containsExactly(6L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson without materializing books")
+    void writeAll_ShouldMatchJacksonOutput() {
+        Book escaped = book(3L, "\"Cytat\" \\ ścieżka/plik\n\t\u0001", -44);
+        escaped.setAuthorId(null);
+        catalog.upsert(escaped);
+        BookJsonWriter out = new BookJsonWriter(catalog.size());
+
+        catalog.writeAll(List.of(), out);
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo(jsonMapper.writeValueAsString(catalog.findAll()));
+    }
+
+    @Test
+    @DisplayName("Should merge other books into the full list in id order")
+    void writeAll_ShouldMergeOthersInIdOrder() {
+        List<Book> archived = List.of(book(3L, "Faraon", 1890), book(9L, "Krzyżacy", 1850));
+        BookJsonWriter out = new BookJsonWriter(8);
+
+        catalog.writeAll(archived, out);
+
+        List<Book> expected = new ArrayList<>(catalog.findAll());
+        expected.addAll(archived);
+        expected.sort(Comparator.comparing(Book::getId));
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo(jsonMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @DisplayName("Should merge other books into the year range in year and id order")
+    void writeByYearBetween_ShouldMergeOthersInOrder() {
+        List<Book> archived = List.of(book(9L, "Krzyżacy", 1850), book(3L, "Faraon", 1890), book(8L, "Emancypantki", 1890));
+        BookJsonWriter out = new BookJsonWriter(8);
+
+        catalog.writeByYearBetween(1850, 1900, archived, out);
+
+        List<Book> expected = List.of(archived.get(0), catalog.findById(2L).orElseThrow(), archived.get(1),
+                archived.get(2), catalog.findById(5L).orElseThrow());
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo(jsonMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @DisplayName("Optimistic single-row reads should never return a torn row while writers reshape the columns")
+    void findById_DuringConcurrentWrites_ShouldReturnConsistentRows() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (long i = 0; running.get(); i++) {
+                long id = 100 + i % 500;
+                catalog.upsert(book(id, "Książka " + id + " " + "x".repeat((int) (i % 40)), (int) id));
+                if (i % 3 == 0) {
+                    catalog.remove(100 + (i * 7) % 500);
+                }
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 200_000; i++) {
+                long id = 100 + i % 500;
+                catalog.findById(id).ifPresent(book -> {
+                    assertThat(book.getTitle()).startsWith("Książka " + id + " ");
+                    assertThat(book.getYear()).isEqualTo((int) id);
+                });
+                assertThat(catalog.findById(2L)).map(Book::getTitle).hasValue("Lalka");
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay consistent across arena compaction")
+    void repeatedUpdates_ShouldCompactArenaWithoutLosingTitles() {
+        IntStream.range(0, 1_000).forEach(i -> catalog.upsert(book(5L, "Quo Vadis " + i, 1896)));
+
+        assertThat(catalog.findById(5L)).map(Book::getTitle).hasValue("Quo Vadis 999");
+        assertThat(catalog.findById(2L)).map(Book::getTitle).hasValue("Lalka");
+    }
+
+    @Test
+    @DisplayName("Disabled catalog should ignore loads and writes")
+    void disabledCatalog_ShouldNeverBecomeReady() {
+        ColumnarBookCatalog disabled = new ColumnarBookCatalog(false);
+
+        disabled.load(Stream.of(book(1L, "Lalka", 1890)));
+        disabled.upsert(book(2L, "Quo Vadis", 1896));
+
+        assertThat(disabled.isReady()).isFalse();
+        assertThat(disabled.size()).isZero();
+    }
+
+    private static Book book(Long id, String title, Integer year) {
+        Book book = new Book(title, year, AUTHOR_ID, CATEGORY_ID);
+        book.setId(id);
+        return book;
+    }
+}
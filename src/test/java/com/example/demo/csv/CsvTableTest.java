@@ -0,0 +1,61 @@
+package com.example.demo.csv;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CSV transfer Unit Tests")
+class CsvTableTest {
+
+    @Test
+    @DisplayName("Should resolve tables by their path name and reject unknown ones")
+    void fromPath_ShouldResolveKnownTablesOnly() {
+        // When & Then
+        assertThat(CsvTable.fromPath("books")).isEqualTo(CsvTable.BOOKS);
+        assertThat(CsvTable.fromPath("authors")).isEqualTo(CsvTable.AUTHORS);
+        assertThat(CsvTable.fromPath("categories")).isEqualTo(CsvTable.CATEGORIES);
+        assertThatThrownBy(() -> CsvTable.fromPath("import_rejections"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should copy the same columns in and out, ordered by id on export")
+    void copyStatements_ShouldUseTableColumns() {
+        // When & Then
+        assertThat(CsvTable.BOOKS.copyIn())
+                .isEqualTo("COPY import_staging (id, title, year, author_id, category_id) FROM STDIN WITH (FORMAT csv, HEADER true)");
+        assertThat(CsvTable.BOOKS.copyOut())
+                .isEqualTo("COPY (SELECT id, title, year, author_id, category_id FROM books ORDER BY id) "
+                        + "TO STDOUT WITH (FORMAT csv, HEADER true)");
+        assertThat(CsvTable.AUTHORS.createStaging()).contains("id text, name text").endsWith("ON COMMIT DROP");
+        assertThat(CsvTable.CATEGORIES.insert()).contains("INSERT INTO categories", "pg_get_serial_sequence('categories', 'id')");
+    }
+
+    @Test
+    @DisplayName("Should report the running byte count while the stream is consumed")
+    void countingInputStream_ShouldReportProgress() throws IOException {
+        // Given
+        byte[] csv = "id,name\n,Adam Mickiewicz\n".getBytes(StandardCharsets.UTF_8);
+        List<Long> progress = new ArrayList<>();
+
+        // When
+        try (InputStream in = new CountingInputStream(new ByteArrayInputStream(csv), progress::add)) {
+            in.read();
+            in.readAllBytes();
+        }
+
+        // Then
+        assertThat(progress).first().isEqualTo(1L);
+        assertThat(progress).last().isEqualTo((long) csv.length);
+    }
+}
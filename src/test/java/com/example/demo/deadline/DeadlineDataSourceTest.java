@@ -0,0 +1,163 @@
+package com.example.demo.deadline;
+
+import com.example.demo.integration.TestDatabase;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.jdbc.PgStatement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DeadlineDataSource Unit Tests")
+class DeadlineDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final DeadlineDataSource dataSource = new DeadlineDataSource(target);
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    @DisplayName("Should hand out the pooled connection unchanged on threads without a deadline")
+    void getConnection_WithoutDeadline_ShouldNotWrap() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+
+        // When & Then
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("Should set the remaining budget, rounded up to seconds, as the query timeout")
+    void createStatement_ShouldSetQueryTimeoutFromRemainingBudget() throws SQLException {
+        // Given
+        Statement statement = mock(Statement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        Deadline.start(Duration.ofMillis(2500));
+
+        // When
+        Statement created = dataSource.getConnection().createStatement();
+
+        // Then
+        assertThat(created).isSameAs(statement);
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    @DisplayName("Should set the remaining budget in milliseconds on PostgreSQL statements")
+    void prepareStatement_ShouldSetMillisecondTimeoutOnPgStatement() throws SQLException {
+        // Given
+        PreparedStatement statement = mock(PreparedStatement.class);
+        PgStatement pgStatement = mock(PgStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(statement.isWrapperFor(PgStatement.class)).thenReturn(true);
+        when(statement.unwrap(PgStatement.class)).thenReturn(pgStatement);
+        Deadline.start(Duration.ofMillis(800));
+
+        // When
+        dataSource.getConnection().prepareStatement("SELECT 1");
+
+        // Then
+        ArgumentCaptor<Long> timeout = ArgumentCaptor.forClass(Long.class);
+        verify(pgStatement).setQueryTimeoutMs(timeout.capture());
+        assertThat(timeout.getValue()).isBetween(1L, 800L);
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should refuse a connection once the deadline has passed, without asking the pool")
+    void getConnection_WhenExpired_ShouldThrowTimeout() throws Exception {
+        // Given
+        Deadline.start(Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        // When & Then
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTimeoutException.class)
+                .extracting(ex -> ((SQLException) ex).getSQLState()).isEqualTo(DeadlineDataSource.QUERY_CANCELED);
+        verify(target, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should re-check the deadline after the pool wait and return the connection it used up")
+    void getConnection_WhenPoolWaitExhaustsBudget_ShouldCloseAndThrow() throws SQLException {
+        // Given
+        Deadline.start(Duration.ofMillis(50));
+        when(target.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(80);
+            return connection;
+        });
+
+        // When & Then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTimeoutException.class);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should refuse statements once the deadline has passed on an open connection")
+    void createStatement_WhenExpired_ShouldThrowTimeout() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        Deadline.start(Duration.ofMillis(30));
+        Connection wrapped = dataSource.getConnection();
+        Thread.sleep(40);
+
+        // When & Then
+        assertThatThrownBy(wrapped::createStatement).isInstanceOf(SQLTimeoutException.class);
+        verify(connection, never()).createStatement();
+    }
+
+    @Test
+    @DisplayName("Should wait for a Hikari connection no longer than the remaining budget")
+    void getConnection_FromExhaustedHikariPool_ShouldWaitOnlyForBudget() throws SQLException {
+        try (HikariDataSource pool = new HikariDataSource()) {
+            // Given: a pool whose only connection is taken, with a timeout far beyond the budget
+            pool.setDataSource(TestDatabase.dataSource());
+            pool.setMaximumPoolSize(1);
+            pool.setConnectionTimeout(30_000);
+            DeadlineDataSource deadlineDataSource = new DeadlineDataSource(pool);
+            try (Connection held = pool.getConnection()) {
+                Deadline.start(Duration.ofMillis(300));
+                long started = System.nanoTime();
+
+                // When & Then
+                assertThatThrownBy(deadlineDataSource::getConnection).isInstanceOf(SQLTimeoutException.class);
+                assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+                assertThat(held.isValid(1)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a pool timeout within the budget as an unavailable connection")
+    void getConnection_WhenPoolTimesOutBeforeDeadline_ShouldRethrow() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        Deadline.start(Duration.ofSeconds(10));
+
+        // When & Then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+}
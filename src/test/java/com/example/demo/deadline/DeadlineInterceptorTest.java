@@ -0,0 +1,89 @@
+package com.example.demo.deadline;
+
+import com.example.demo.exception.DeadlineExceededException;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.ratelimit.BulkOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeadlineInterceptor Unit Tests")
+class DeadlineInterceptorTest {
+
+    private static final String HEADER = "X-Request-Timeout";
+
+    private final DeadlineInterceptor interceptor = new DeadlineInterceptor(
+            new DeadlineProperties(true, HEADER, Duration.ofSeconds(10), Duration.ofSeconds(60)));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    static class Handlers {
+        public void interactive() {
+        }
+
+        @BulkOperation
+        public void bulk() {
+        }
+
+        @LatencyBudget("PT30M")
+        public void longRunning() {
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    @DisplayName("Should pick the budget from the handler's traffic class or @LatencyBudget")
+    void preHandle_ShouldUseEndpointBudget() throws Exception {
+        // When & Then
+        assertThat(budgetFor("interactive", new MockHttpServletRequest())).isEqualTo(Duration.ofSeconds(10));
+        assertThat(budgetFor("bulk", new MockHttpServletRequest())).isEqualTo(Duration.ofSeconds(60));
+        assertThat(budgetFor("longRunning", new MockHttpServletRequest())).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should let the client shorten but never extend the budget")
+    void preHandle_WithHeader_ShouldTakeShorterBudget() throws Exception {
+        // Given
+        MockHttpServletRequest shorter = new MockHttpServletRequest();
+        shorter.addHeader(HEADER, "250");
+        MockHttpServletRequest longer = new MockHttpServletRequest();
+        longer.addHeader(HEADER, "PT1H");
+
+        // When & Then
+        assertThat(budgetFor("interactive", shorter)).isEqualTo(Duration.ofMillis(250));
+        assertThat(budgetFor("interactive", longer)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed budgets and report an exhausted deadline")
+    void preHandle_WithInvalidHeader_ShouldThrow() throws Exception {
+        // Given
+        MockHttpServletRequest invalid = new MockHttpServletRequest();
+        invalid.addHeader(HEADER, "soon");
+        MockHttpServletRequest tiny = new MockHttpServletRequest();
+        tiny.addHeader(HEADER, "1");
+
+        // When & Then
+        assertThatThrownBy(() -> budgetFor("interactive", invalid)).isInstanceOf(InvalidDataException.class);
+        budgetFor("interactive", tiny);
+        Thread.sleep(5);
+        assertThatThrownBy(Deadline::checkCurrent).isInstanceOf(DeadlineExceededException.class);
+    }
+
+    private Duration budgetFor(String methodName, MockHttpServletRequest request) throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Handlers(), Handlers.class.getMethod(methodName));
+        interceptor.preHandle(request, response, handler);
+        return Deadline.current().budget();
+    }
+}
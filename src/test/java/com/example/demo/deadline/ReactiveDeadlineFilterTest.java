@@ -0,0 +1,85 @@
+package com.example.demo.deadline;
+
+import com.example.demo.exception.DeadlineExceededException;
+import com.example.demo.ratelimit.BulkOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReactiveDeadlineFilter Unit Tests")
+class ReactiveDeadlineFilterTest {
+
+    private static final String HEADER = "X-Request-Timeout";
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final HandlerMapping handlerMapping = mock(HandlerMapping.class);
+    private final ReactiveDeadlineFilter filter = new ReactiveDeadlineFilter(
+            new DeadlineProperties(true, HEADER, Duration.ofMillis(200), Duration.ofSeconds(60)), handlerMapping);
+    private final WebFilterChain neverCompletes = exchange -> Mono.never();
+
+    static class Handlers {
+        public void interactive() {
+        }
+
+        @BulkOperation
+        public void bulk() {
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the exchange with 504 once the handler's budget is used up")
+    void filter_WhenBudgetExhausted_ShouldFailWithDeadlineExceeded() throws Exception {
+        // Given
+        when(handlerMapping.getHandler(any())).thenReturn(Mono.just(handler("interactive")));
+
+        // When & Then
+        assertThatThrownBy(() -> filter.filter(exchange("/api/books/1", null), neverCompletes).block(WAIT))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessageContaining("200 ms");
+    }
+
+    @Test
+    @DisplayName("Should shorten the budget to the client's request header")
+    void filter_WithRequestedTimeout_ShouldUseShorterBudget() throws Exception {
+        // Given
+        when(handlerMapping.getHandler(any())).thenReturn(Mono.just(handler("bulk")));
+
+        // When & Then
+        assertThatThrownBy(() -> filter.filter(exchange("/api/books", "50"), neverCompletes).block(WAIT))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessageContaining("50 ms");
+    }
+
+    @Test
+    @DisplayName("Should leave requests outside the API untouched")
+    void filter_OutsideApi_ShouldNotApplyBudget() {
+        // When & Then
+        assertThatCode(() -> filter.filter(exchange("/actuator/health", "1"), exchange -> Mono.empty()).block(WAIT))
+                .doesNotThrowAnyException();
+    }
+
+    private static MockServerWebExchange exchange(String path, String timeout) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (timeout != null) {
+            request.header(HEADER, timeout);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+}
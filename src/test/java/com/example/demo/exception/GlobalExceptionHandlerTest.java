@@ -0,0 +1,162 @@
+package com.example.demo.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DisplayName("GlobalExceptionHandler Unit Tests")
+class GlobalExceptionHandlerTest {
+
+    private static final Long MISSING_BOOK_ID = 42L;
+    private static final int ALLOCATION_SAMPLES = 10_000;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should map not-found exception to 404 with error code and rendered message")
+    void handleApiException_WhenResourceNotFound_ShouldReturnNotFoundBody() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleApiException(ResourceNotFoundException.book(MISSING_BOOK_ID));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody())
+                .isNotNull()
+                .satisfies(body -> {
+                    assertThat(body.status()).isEqualTo(404);
+                    assertThat(body.error()).isEqualTo("Not Found");
+                    assertThat(body.code()).isEqualTo(ErrorCode.BOOK_NOT_FOUND);
+                    assertThat(body.message()).isEqualTo("Book with id " + MISSING_BOOK_ID + " not found");
+                    assertThat(body.timestamp()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("Should map validation exception to 400")
+    void handleApiException_WhenInvalidData_ShouldReturnBadRequestBody() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleApiException(
+                new InvalidDataException(ErrorCode.NAME_EMPTY, "{} name cannot be empty", "Author"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.NAME_EMPTY);
+        assertThat(response.getBody().message()).isEqualTo("Author name cannot be empty");
+    }
+
+    @Test
+    @DisplayName("Should map rate limit rejections to 429 with Retry-After")
+    void handleTooManyRequests_ShouldSetRetryAfterHeader() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleTooManyRequests(TooManyRequestsException.rateLimited(3));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.RATE_LIMITED);
+    }
+
+    @Test
+    @DisplayName("Should map an exhausted request deadline to 504")
+    void handleDatabaseFailure_WhenDeadlineExceeded_ShouldReturnGatewayTimeout() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDatabaseFailure(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager", new SQLTimeoutException("deadline", "57014")));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("Should map connection pool exhaustion to 503 with Retry-After")
+    void handleDatabaseFailure_WhenNoConnection_ShouldReturnServiceUnavailable() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDatabaseFailure(new CannotGetJdbcConnectionException(
+                "Failed to obtain JDBC Connection", new SQLTransientConnectionException("Connection is not available")));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.DATABASE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Should list every violation when several validation rules fail")
+    void handleValidationFailed_ShouldReturnAllViolations() {
+        // Given
+        List<InvalidDataException> failures = List.of(
+                new InvalidDataException(ErrorCode.AUTHOR_REFERENCE_MISSING, "Author with id {} does not exist", 7L),
+                new InvalidDataException(ErrorCode.CATEGORY_REFERENCE_MISSING, "Category with id {} does not exist", 9L));
+        ValidationFailedException exception = catchThrowableOfType(ValidationFailedException.class,
+                () -> ValidationFailedException.throwIfAny(failures));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleValidationFailed(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.VALIDATION_FAILED);
+        assertThat(response.getBody().violations()).containsExactly(
+                new ErrorResponse.Violation(ErrorCode.AUTHOR_REFERENCE_MISSING, "Author with id 7 does not exist"),
+                new ErrorResponse.Violation(ErrorCode.CATEGORY_REFERENCE_MISSING, "Category with id 9 does not exist"));
+    }
+
+    @Test
+    @DisplayName("API exceptions should not capture stack traces")
+    void apiExceptions_ShouldBeStackless() {
+        assertThat(ResourceNotFoundException.book(MISSING_BOOK_ID).getStackTrace()).isEmpty();
+        assertThat(new InvalidDataException("invalid").getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Error path should allocate far less than with stack-capturing exceptions")
+    void errorPath_ShouldAllocateLessThanStackCapturingExceptions() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Object[] sink = new Object[ALLOCATION_SAMPLES];
+
+        // warm up both paths so class loading is not measured
+        measureStackless(threads, sink);
+        measureStackCapturing(threads, sink);
+
+        long stackless = measureStackless(threads, sink);
+        long stackCapturing = measureStackCapturing(threads, sink);
+
+        assertThat(stackless).isLessThan(stackCapturing / 2);
+    }
+
+    private long measureStackless(com.sun.management.ThreadMXBean threads, Object[] sink) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ALLOCATION_SAMPLES; i++) {
+            sink[i] = handler.handleApiException(ResourceNotFoundException.book((long) i));
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private long measureStackCapturing(com.sun.management.ThreadMXBean threads, Object[] sink) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ALLOCATION_SAMPLES; i++) {
+            RuntimeException ex = new RuntimeException("Book with id " + i + " not found");
+            ex.getStackTrace();
+            sink[i] = ex;
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.demo.integration;
+
+import com.example.demo.dto.ArchiveRunStatus;
+import com.example.demo.dto.DeletionJobStatus;
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import com.example.demo.model.Category;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.repository.CategoryRepository;
+import com.example.demo.service.interfaces.IBookArchiveService;
+import com.example.demo.service.interfaces.IBookService;
+import com.example.demo.service.interfaces.IDeletionJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Moving old books into {@code books_archive} and reading and deleting them there, in a database
+ * of its own: an archive run moves every old book in the database it runs against.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "library.warmup.enabled=false",
+        "library.archive.before-year=1950", "library.archive.batch-size=2", "library.archive.pause-millis=0",
+        "library.archive.lock-timeout=PT0.2S"})
+@DisplayName("Book archive Integration Tests")
+class BookArchiveIntegrationTest {
+    private static final long WAIT_MILLIS = 10_000;
+
+    @Autowired
+    private IBookArchiveService bookArchiveService;
+
+    @Autowired
+    private IBookService bookService;
+
+    @Autowired
+    private IDeletionJobService deletionJobService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void configureDatabase(DynamicPropertyRegistry registry) {
+        TestDatabase.registerSeparate(registry, "archive");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM books_archive");
+        jdbcTemplate.update("DELETE FROM books");
+    }
+
+    @Test
+    @DisplayName("Should move old books in batches of the configured size and skip rows locked by a writer")
+    void startRun_ShouldMoveOldBooksSkippingLockedRows() throws Exception {
+        // Given
+        long first = insertBook("Pan Tadeusz", 1900);
+        long locked = insertBook("Dziady", 1905);
+        long second = insertBook("Lalka", 1910);
+        long third = insertBook("Chłopi", 1920);
+        long fourth = insertBook("Ferdydurke", 1930);
+        long recent = insertBook("Solaris", 1961);
+
+        try (Connection writer = dataSource.getConnection()) {
+            writer.setAutoCommit(false);
+            lockRow(writer, locked);
+
+            // When
+            ArchiveRunStatus run = runArchive();
+
+            // Then
+            assertThat(run.state()).isEqualTo(ArchiveRunStatus.State.COMPLETED);
+            assertThat(run.rowsMoved()).isEqualTo(4);
+            // two full batches, then an empty one that ends the run
+            assertThat(run.batches()).isEqualTo(3);
+            assertThat(run.conflicts()).isZero();
+            assertThat(archivedIds()).containsExactly(first, second, third, fourth);
+            assertThat(hotIds()).containsExactly(locked, recent);
+            assertThat(jdbcTemplate.queryForObject("SELECT title FROM books_archive WHERE id = ?", String.class,
+                    third)).isEqualTo("Chłopi");
+            writer.rollback();
+        }
+
+        ArchiveRunStatus next = runArchive();
+        assertThat(next.rowsMoved()).isEqualTo(1);
+        assertThat(hotIds()).containsExactly(recent);
+    }
+
+    @Test
+    @DisplayName("Should fail the run without moving anything when the table locks are not granted in time")
+    void startRun_WhenTableLockTimesOut_ShouldFail() throws Exception {
+        // Given
+        long old = insertBook("Wesele", 1901);
+
+        try (Connection ddl = dataSource.getConnection()) {
+            ddl.setAutoCommit(false);
+            try (Statement statement = ddl.createStatement()) {
+                statement.execute("LOCK TABLE books_archive IN ACCESS EXCLUSIVE MODE");
+            }
+
+            // When
+            ArchiveRunStatus run = runArchive();
+
+            // Then
+            assertThat(run.state()).isEqualTo(ArchiveRunStatus.State.FAILED);
+            assertThat(run.error()).isEqualTo("Lock timeout after PT0.2S");
+            assertThat(run.rowsMoved()).isZero();
+            ddl.rollback();
+        }
+        assertThat(hotIds()).containsExactly(old);
+    }
+
+    @Test
+    @DisplayName("Should leave a book in place instead of overwriting an archived row with the same id")
+    void startRun_WhenIdAlreadyArchived_ShouldKeepBothRows() {
+        // Given
+        long reused = insertBook("Imported again", 1902);
+        jdbcTemplate.update("INSERT INTO books_archive (id, title, year) VALUES (?, 'Archived', 1902)", reused);
+        long old = insertBook("Nad Niemnem", 1903);
+
+        // When
+        ArchiveRunStatus run = runArchive();
+
+        // Then
+        assertThat(run.state()).isEqualTo(ArchiveRunStatus.State.COMPLETED);
+        assertThat(run.rowsMoved()).isEqualTo(1);
+        assertThat(run.conflicts()).isEqualTo(1);
+        assertThat(hotIds()).containsExactly(reused);
+        assertThat(archivedIds()).containsExactly(reused, old);
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM books_archive WHERE id = ?", String.class, reused))
+                .isEqualTo("Archived");
+    }
+
+    @Test
+    @DisplayName("Should merge hot and archived books of a year range and find archived books by id")
+    void getBooksByYearRange_ShouldMergeArchive() {
+        // Given
+        long archived = insertBook("Potop", 1940);
+        runArchive();
+        long hot = insertBook("Popiół i diament", 1948);
+        long recent = insertBook("Zły", 1955);
+
+        // When & Then
+        assertThat(bookService.getBooksByYearRange(1930, 1970)).extracting(Book::getId)
+                .containsExactly(archived, hot, recent);
+        assertThat(bookService.getBooksByYearRange(1945, 1949)).extracting(Book::getId).containsExactly(hot);
+        assertThat(bookService.getBookById(archived).getTitle()).isEqualTo("Potop");
+        assertThat(bookService.getBookById(archived, 1940).getYear()).isEqualTo(1940);
+    }
+
+    @Test
+    @DisplayName("Should count archived books as references and delete them with their author")
+    void deleteAuthor_ShouldCascadeIntoArchive() {
+        // Given
+        Author author = authorRepository.save(new Author("Mickiewicz " + UUID.randomUUID()));
+        Category category = categoryRepository.save(new Category("Epopeja " + UUID.randomUUID()));
+        Author unreferenced = authorRepository.save(new Author("Nobody " + UUID.randomUUID()));
+        insertBook("Konrad Wallenrod", 1828, author.getId(), category.getId());
+        insertBook("Grażyna", 1823, author.getId(), null);
+        insertBook("Ballady i romanse", 1822, author.getId(), null);
+        runArchive();
+        long hot = insertBook("Wydanie zbiorowe", 1955, author.getId(), null);
+
+        assertThat(bookRepository.existsByAuthorId(author.getId())).isTrue();
+        assertThat(bookRepository.existsByCategoryId(category.getId())).isTrue();
+        assertThat(bookRepository.existsByAuthorId(unreferenced.getId())).isFalse();
+
+        // When
+        UUID jobId = deletionJobService.startAuthorDeletion(author.getId()).id();
+        await(() -> deletionJobService.getJob(jobId).state() != DeletionJobStatus.State.RUNNING);
+        DeletionJobStatus job = deletionJobService.getJob(jobId);
+
+        // Then
+        assertThat(job.state()).isEqualTo(DeletionJobStatus.State.COMPLETED);
+        assertThat(job.booksDeleted()).isEqualTo(4);
+        assertThat(hotIds()).doesNotContain(hot);
+        assertThat(archivedIds()).isEmpty();
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(bookRepository.existsByCategoryId(category.getId())).isFalse();
+    }
+
+    private ArchiveRunStatus runArchive() {
+        // the previous run clears itself just after it has finished; until then it is returned again
+        Set<UUID> previousRuns = bookArchiveService.getRuns().stream().map(ArchiveRunStatus::id).collect(toSet());
+        UUID runId = bookArchiveService.startRun().id();
+        while (previousRuns.contains(runId)) {
+            sleep();
+            runId = bookArchiveService.startRun().id();
+        }
+        UUID started = runId;
+        await(() -> run(started).state() != ArchiveRunStatus.State.RUNNING);
+        return run(started);
+    }
+
+    private ArchiveRunStatus run(UUID runId) {
+        return bookArchiveService.getRuns().stream()
+                .filter(run -> run.id().equals(runId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long insertBook(String title, int year) {
+        return insertBook(title, year, null, null);
+    }
+
+    private long insertBook(String title, int year, Long authorId, Long categoryId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO books (title, year, author_id, category_id) VALUES (?, ?, ?, ?) RETURNING id",
+                Long.class, title, year, authorId, categoryId);
+    }
+
+    private List<Long> hotIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM books ORDER BY id", Long.class);
+    }
+
+    private List<Long> archivedIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM books_archive ORDER BY id", Long.class);
+    }
+
+    private static void lockRow(Connection connection, long bookId) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM books WHERE id = ? FOR UPDATE")) {
+            statement.setLong(1, bookId);
+            statement.executeQuery().close();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            sleep();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
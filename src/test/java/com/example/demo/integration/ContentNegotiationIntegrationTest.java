@@ -0,0 +1,79 @@
+package com.example.demo.integration;
+
+import com.example.demo.model.Category;
+import com.example.demo.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Content negotiation Integration Tests")
+class ContentNegotiationIntegrationTest extends PostgresIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(new Category("Negotiated " + UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Should answer JSON when the client accepts anything")
+    void getCategory_WithWildcardAccept_ShouldReturnJson() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get("*/*");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/json"));
+    }
+
+    @Test
+    @DisplayName("Should answer CBOR when the client asks for it")
+    void getCategory_WithCborAccept_ShouldReturnCbor() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get("application/cbor");
+
+        // Then
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/cbor");
+        JsonNode body = new CBORMapper().readTree(response.body());
+        assertThat(body.get("name").asString()).isEqualTo(category.getName());
+    }
+
+    @Test
+    @DisplayName("Should answer Smile when the client asks for it")
+    void getCategory_WithSmileAccept_ShouldReturnSmile() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get("application/x-jackson-smile");
+
+        // Then
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/x-jackson-smile");
+        JsonNode body = new SmileMapper().readTree(response.body());
+        assertThat(body.get("name").asString()).isEqualTo(category.getName());
+    }
+
+    private HttpResponse<byte[]> get(String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url("/api/categories/" + category.getId())))
+                .header("Accept", accept)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
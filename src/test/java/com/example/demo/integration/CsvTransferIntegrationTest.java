@@ -0,0 +1,181 @@
+package com.example.demo.integration;
+
+import com.example.demo.dto.ImportReport;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import com.example.demo.model.Category;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.repository.CategoryRepository;
+import com.example.demo.service.interfaces.ICsvTransferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CSV import and export Integration Tests")
+class CsvTransferIntegrationTest extends PostgresIntegrationTest {
+    private static final long MISSING_ID = 999_999_999_999_999_999L;
+
+    @Autowired
+    private ICsvTransferService csvTransferService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String suffix;
+    private Author author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        author = authorRepository.save(new Author("Sienkiewicz " + suffix));
+        category = categoryRepository.save(new Category("Powieść " + suffix));
+    }
+
+    @Test
+    @DisplayName("Should update authors by id and insert rows without an id under a generated one")
+    void importAuthors_ShouldUpdateExistingAndInsertNew() {
+        // Given
+        String csv = "id,name\n"
+                + author.getId() + ",Henryk Sienkiewicz " + suffix + "\n"
+                + ",Bolesław Prus " + suffix + "\n";
+
+        // When
+        ImportReport report = importCsv("authors", csv);
+
+        // Then
+        assertThat(report.rowsRead()).isEqualTo(2);
+        assertThat(report.updated()).isEqualTo(1);
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.rejected()).isZero();
+        assertThat(nameOf("authors", author.getId())).isEqualTo("Henryk Sienkiewicz " + suffix);
+        Long insertedId = jdbcTemplate.queryForObject("SELECT id FROM authors WHERE name = ?", Long.class,
+                "Bolesław Prus " + suffix);
+        assertThat(insertedId).isGreaterThan(author.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid and dangling book rows, merge the rest and keep the rejections for export")
+    void importBooks_ShouldRejectInvalidRowsAndMergeValidOnes() {
+        // Given
+        Book existing = bookRepository.save(new Book("Potop", 1886, author.getId(), category.getId()));
+        String csv = "id,title,year,author_id,category_id\n"
+                + existing.getId() + ",Potop " + suffix + ",1886," + author.getId() + "," + category.getId() + "\n"
+                + ",Quo vadis " + suffix + ",1896," + author.getId() + ",\n"
+                + ",Krzyżacy,nineteen hundred,,\n"
+                + ",   ,1900,,\n"
+                + ",Pan Wołodyjowski,1888," + MISSING_ID + ",\n"
+                + existing.getId() + ",Ogniem i mieczem,1884,,\n";
+
+        // When
+        ImportReport report = importCsv("books", csv);
+
+        // Then
+        assertThat(report.rowsRead()).isEqualTo(6);
+        assertThat(report.updated()).isEqualTo(1);
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(4);
+        assertThat(report.rejections()).extracting(ImportReport.Rejection::row).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(report.rejections()).extracting(ImportReport.Rejection::reason).containsExactly(
+                "year is not a valid integer",
+                "title is empty",
+                "author " + MISSING_ID + " does not exist",
+                "duplicate id " + existing.getId() + " in file");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM books WHERE id = ?", String.class, existing.getId()))
+                .isEqualTo("Potop " + suffix);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM books WHERE title = ? AND author_id = ?",
+                Long.class, "Quo vadis " + suffix, author.getId())).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM import_rejections WHERE import_id = ?",
+                Long.class, report.importId())).isEqualTo(4);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        csvTransferService.exportRejections(report.importId(), out);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .startsWith("row,reason", "3,year is not a valid integer", "4,title is empty")
+                .hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should reject category names repeated in the file or already used by another id")
+    void importCategories_ShouldRejectDuplicateNames() {
+        // Given
+        String csv = "id,name\n"
+                + ",Dramat " + suffix + "\n"
+                + ",  DRAMAT " + suffix + "\n"
+                + ",powieść " + suffix + "\n"
+                + category.getId() + ",Powieść historyczna " + suffix + "\n";
+
+        // When
+        ImportReport report = importCsv("categories", csv);
+
+        // Then
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.updated()).isEqualTo(1);
+        assertThat(report.rejections()).extracting(ImportReport.Rejection::row).containsExactly(2L, 3L);
+        assertThat(report.rejections().get(0).reason()).startsWith("duplicate name");
+        assertThat(report.rejections().get(1).reason()).isEqualTo("name already used by id " + category.getId());
+        assertThat(nameOf("categories", category.getId())).isEqualTo("Powieść historyczna " + suffix);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed file as a whole and leave the tables untouched")
+    void importCsv_WhenMalformed_ShouldRollBack() {
+        // Given
+        String csv = "id,name\n"
+                + ",Gombrowicz " + suffix + "\n"
+                + ",\"Witkacy " + suffix + "\n";
+
+        // When & Then
+        assertThatThrownBy(() -> importCsv("authors", csv))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageStartingWith("Malformed CSV");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM authors WHERE name = ?", Long.class,
+                "Gombrowicz " + suffix)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export a table in id order with the columns an import reads")
+    void exportCsv_ShouldWriteHeaderAndRows() {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        csvTransferService.exportCsv("categories", out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .first().isEqualTo("id,name");
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .contains(category.getId() + ",Powieść " + suffix + "\n");
+    }
+
+    private ImportReport importCsv(String table, String csv) {
+        return csvTransferService.importCsv(table, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String nameOf(String table, long id) {
+        return jdbcTemplate.queryForObject("SELECT name FROM " + table + " WHERE id = ?", String.class, id);
+    }
+}
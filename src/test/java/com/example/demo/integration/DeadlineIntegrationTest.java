@@ -0,0 +1,44 @@
+package com.example.demo.integration;
+
+import com.example.demo.deadline.DeadlineDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Request deadline Integration Tests")
+class DeadlineIntegrationTest extends PostgresIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should wrap the application DataSource and answer 504 once the budget is used up")
+    void getBook_WithExhaustedBudget_ShouldReturnGatewayTimeout() throws Exception {
+        // Given
+        long missingId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url("/api/books/" + missingId)))
+                .header("X-Request-Timeout", "1")
+                .build();
+
+        // When
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThat(dataSource).isInstanceOf(DeadlineDataSource.class);
+        assertThat(response.statusCode()).isEqualTo(504);
+        assertThat(jsonMapper.readTree(response.body()).get("code").asString()).isEqualTo("DEADLINE_EXCEEDED");
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.demo.integration;
+
+import com.example.demo.cache.EntityCacheRegions;
+import com.example.demo.invalidation.InvalidationProperties;
+import com.example.demo.model.Book;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.service.interfaces.IBookArchiveService;
+import com.example.demo.service.interfaces.IBookService;
+import com.example.demo.service.interfaces.ICsvTransferService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate second-level and query cache, observed through the Hibernate statistics, in a
+ * database of its own: the archive run moves every old book in the database it runs against.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "library.warmup.enabled=false"})
+@DisplayName("Hibernate second-level cache Integration Tests")
+class EntityCacheIntegrationTest {
+    private static final long WAIT_MILLIS = 10_000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private IBookService bookService;
+
+    @Autowired
+    private ICsvTransferService csvTransferService;
+
+    @Autowired
+    private IBookArchiveService bookArchiveService;
+
+    @Autowired
+    private InvalidationProperties invalidationProperties;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Cache cache;
+    private int year;
+
+    @DynamicPropertySource
+    static void configureDatabase(DynamicPropertyRegistry registry) {
+        TestDatabase.registerSeparate(registry, "entity_cache");
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        // a year of its own per test, so query results never include another test's books
+        year = ThreadLocalRandom.current().nextInt(2100, 9000);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated id lookups from the book region without a statement")
+    void findById_ShouldHitSecondLevelCache() {
+        // Given
+        Book book = bookRepository.save(new Book("Lalka", year, null, null));
+        bookRepository.findById(book.getId());
+        long hits = entityRegion().getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        // When
+        bookRepository.findById(book.getId());
+        bookRepository.findById(book.getId());
+
+        // Then
+        assertThat(entityRegion().getHitCount() - hits).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated year range from the query cache and re-run it after a JPA write")
+    void findByYearRange_ShouldHitQueryCacheUntilJpaWrite() {
+        // Given
+        Book first = bookRepository.save(new Book("Nad Niemnem", year, null, null));
+        assertThat(bookService.getBooksByYearRange(year, year)).extracting(Book::getId).containsExactly(first.getId());
+        long hits = queryRegion().getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        // When
+        List<Book> cached = bookService.getBooksByYearRange(year, year);
+        long cachedStatements = statistics.getPrepareStatementCount() - statements;
+        Book second = bookRepository.save(new Book("Chłopi", year, null, null));
+        long misses = queryRegion().getMissCount();
+        List<Book> afterWrite = bookService.getBooksByYearRange(year, year);
+
+        // Then
+        assertThat(cached).extracting(Book::getId).containsExactly(first.getId());
+        assertThat(queryRegion().getHitCount() - hits).isEqualTo(1);
+        assertThat(cachedStatements).isZero();
+        assertThat(queryRegion().getMissCount()).isGreaterThan(misses);
+        assertThat(afterWrite).extracting(Book::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Should not put year ranges wider than the configured limit into the query cache")
+    void findByYearRange_WhenRangeIsWide_ShouldNotCache() {
+        // Given
+        bookRepository.save(new Book("Wesele", year, null, null));
+        long puts = queryRegion().getPutCount();
+
+        // When
+        bookService.getBooksByYearRange(year, year + 10);
+        bookService.getBooksByYearRange(year, year + 10);
+
+        // Then
+        assertThat(queryRegion().getPutCount()).isEqualTo(puts);
+    }
+
+    @Test
+    @DisplayName("Should evict books and query results after a CSV import writes through JDBC")
+    void csvImport_ShouldEvictBooksAndQueries() {
+        // Given
+        Book book = cachedBook("Ferdydurke");
+        String csv = "id,title,year,author_id,category_id\n" + book.getId() + ",Trans-Atlantyk," + year + ",,\n";
+
+        // When
+        csvTransferService.importCsv("books",
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(cache.containsEntity(Book.class, book.getId())).isFalse();
+        assertThat(bookRepository.findById(book.getId())).hasValueSatisfying(
+                found -> assertThat(found.getTitle()).isEqualTo("Trans-Atlantyk"));
+        assertThat(bookService.getBooksByYearRange(year, year)).extracting(Book::getTitle)
+                .containsExactly("Trans-Atlantyk");
+    }
+
+    @Test
+    @DisplayName("Should evict books and query results after the archive run moves them")
+    void archiveRun_ShouldEvictMovedBooksAndQueries() {
+        // Given
+        year = ThreadLocalRandom.current().nextInt(1000, 1900);
+        Book book = cachedBook("Pan Tadeusz");
+
+        // When
+        bookArchiveService.startRun();
+
+        // Then
+        await(() -> !cache.containsEntity(Book.class, book.getId()));
+        assertThat(bookRepository.findByYearBetweenOrderByYearAscIdAsc(year, year)).isEmpty();
+        assertThat(bookService.getBooksByYearRange(year, year)).extracting(Book::getId).containsExactly(book.getId());
+    }
+
+    @Test
+    @DisplayName("Should evict a book and the query results when another node reports a write")
+    void remoteInvalidation_ShouldEvictBookAndQueries() {
+        // Given
+        Book book = cachedBook("Quo vadis");
+        // a write the local caches never hear about, as if it had been made by another node
+        jdbcTemplate.update("UPDATE books SET title = 'Potop' WHERE id = ?", book.getId());
+        long queryPuts = queryRegion().getPutCount();
+
+        // When
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, invalidationProperties.channel(),
+                "other-node-" + UUID.randomUUID() + "|Book|" + book.getId());
+
+        // Then: entity and query region are evicted one after the other on the listener thread
+        await(() -> bookService.getBooksByYearRange(year, year).getFirst().getTitle().equals("Potop"));
+        assertThat(queryRegion().getPutCount()).isGreaterThan(queryPuts);
+    }
+
+    // a book of the test's year whose entity and year-range result are both cached
+    private Book cachedBook(String title) {
+        Book book = bookRepository.save(new Book(title, year, null, null));
+        bookService.getBooksByYearRange(year, year);
+        long hits = queryRegion().getHitCount();
+        bookService.getBooksByYearRange(year, year);
+        assertThat(cache.containsEntity(Book.class, book.getId())).isTrue();
+        assertThat(queryRegion().getHitCount()).isGreaterThan(hits);
+        return book;
+    }
+
+    private CacheRegionStatistics entityRegion() {
+        return statistics.getDomainDataRegionStatistics(EntityCacheRegions.BOOK);
+    }
+
+    private CacheRegionStatistics queryRegion() {
+        return statistics.getQueryRegionStatistics(EntityCacheRegions.BOOK_QUERIES);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
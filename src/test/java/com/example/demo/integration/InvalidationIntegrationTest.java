@@ -0,0 +1,209 @@
+package com.example.demo.integration;
+
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.invalidation.InvalidationListener;
+import com.example.demo.invalidation.InvalidationProperties;
+import com.example.demo.invalidation.InvalidationPublisher;
+import com.example.demo.invalidation.InvalidationTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Cross-node invalidation Integration Tests")
+class InvalidationIntegrationTest extends PostgresIntegrationTest {
+    private static final String TEST_CHANNEL = "invalidation_test";
+    private static final String OTHER_NODE = "other-node";
+    private static final long WAIT_MILLIS = 5000;
+
+    @Autowired
+    private InvalidationPublisher publisher;
+
+    @Autowired
+    private InvalidationProperties properties;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final InvalidationTarget target = mock(InvalidationTarget.class);
+    private InvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        // a second listener on its own channel, so only this test's notifications reach the mock
+        InvalidationProperties testProperties = new InvalidationProperties(true, TEST_CHANNEL,
+                Duration.ofMillis(50), Duration.ofMillis(50), Duration.ofMillis(200), 100);
+        listener = new InvalidationListener(dataSourceProperties, testProperties, publisher,
+                new StaticListableBeanFactory(Map.of("target", target)).getBeanProvider(InvalidationTarget.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    @DisplayName("Should apply changes from other nodes and ignore the node's own notifications")
+    void listener_ShouldIgnoreOwnNotifications() throws Exception {
+        // Given
+        startListening();
+
+        // When
+        notify(publisher.nodeId() + "|Book|1");
+        notify(OTHER_NODE + "|Book|2");
+        notify(OTHER_NODE + "|Author|*");
+        notify(OTHER_NODE + "|*|*");
+
+        // Then: delivered in order, so the own message was already skipped
+        verify(target, timeout(WAIT_MILLIS)).invalidate(EntityChangedEvent.BOOK, 2L);
+        verify(target, timeout(WAIT_MILLIS)).invalidate(EntityChangedEvent.AUTHOR, null);
+        verify(target, timeout(WAIT_MILLIS)).invalidateAll();
+        verify(target, never()).invalidate(EntityChangedEvent.BOOK, 1L);
+    }
+
+    @Test
+    @DisplayName("Should listen outside the pool and flush all targets after reconnecting")
+    void listener_WhenConnectionLost_ShouldReconnectAndFlush() throws Exception {
+        // Given
+        startListening();
+        verify(target, never()).invalidateAll();
+
+        // When
+        Integer terminated = jdbcTemplate.queryForObject("""
+                SELECT count(pg_terminate_backend(pid)) FROM pg_stat_activity
+                WHERE application_name = 'library-invalidation-listener' AND query = 'LISTEN %s'
+                """.formatted(TEST_CHANNEL), Integer.class);
+
+        // Then
+        assertThat(terminated).isEqualTo(1);
+        verify(target, timeout(WAIT_MILLIS)).invalidateAll();
+        assertThat(listener.isListening()).isTrue();
+        notify(OTHER_NODE + "|Category|3");
+        verify(target, timeout(WAIT_MILLIS)).invalidate(EntityChangedEvent.CATEGORY, 3L);
+    }
+
+    @Test
+    @DisplayName("Should notify other nodes only after the transaction commits")
+    void publisher_ShouldNotifyAfterCommit() throws Exception {
+        long id = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        String payload = publisher.nodeId() + "|Book|" + id;
+        try (Connection connection = TestDatabase.dataSource().getConnection()) {
+            // Given
+            listen(connection, properties.channel());
+
+            // When
+            List<String> beforeCommit = transactionTemplate.execute(status -> {
+                eventPublisher.publishEvent(EntityChangedEvent.book(id));
+                return receive(connection, 3 * properties.pollInterval().toMillis());
+            });
+
+            // Then
+            assertThat(beforeCommit).doesNotContain(payload);
+            assertThat(awaitPayload(connection, payload)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not notify other nodes about a rolled back transaction")
+    void publisher_WhenRolledBack_ShouldNotNotify() throws Exception {
+        long rolledBack = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        long committed = rolledBack == 1 ? 2 : rolledBack - 1;
+        try (Connection connection = TestDatabase.dataSource().getConnection()) {
+            // Given
+            listen(connection, properties.channel());
+
+            // When
+            transactionTemplate.executeWithoutResult(status -> {
+                eventPublisher.publishEvent(EntityChangedEvent.author(rolledBack));
+                status.setRollbackOnly();
+            });
+            transactionTemplate.executeWithoutResult(status ->
+                    eventPublisher.publishEvent(EntityChangedEvent.author(committed)));
+
+            // Then: the queue is sent in order, so the rolled back event would have arrived first
+            List<String> seen = new ArrayList<>();
+            String marker = publisher.nodeId() + "|Author|" + committed;
+            long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+            while (!seen.contains(marker) && System.currentTimeMillis() < deadline) {
+                seen.addAll(receive(connection, 100));
+            }
+            assertThat(seen).contains(marker).doesNotContain(publisher.nodeId() + "|Author|" + rolledBack);
+        }
+    }
+
+    private void startListening() throws InterruptedException {
+        listener.start();
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!listener.isListening() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(listener.isListening()).isTrue();
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, TEST_CHANNEL, payload);
+    }
+
+    private static void listen(Connection connection, String channel) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+    }
+
+    private static List<String> receive(Connection connection, long waitMillis) {
+        try {
+            PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications((int) waitMillis);
+            List<String> payloads = new ArrayList<>();
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    payloads.add(notification.getParameter());
+                }
+            }
+            return payloads;
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static boolean awaitPayload(Connection connection, String payload) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (receive(connection, 100).contains(payload)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
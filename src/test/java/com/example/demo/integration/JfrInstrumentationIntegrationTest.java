@@ -0,0 +1,53 @@
+package com.example.demo.integration;
+
+import com.example.demo.jfr.JfrPhaseBeanPostProcessor;
+import com.example.demo.service.interfaces.IBookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JFR instrumentation Integration Tests")
+class JfrInstrumentationIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private IBookService bookService;
+
+    @Test
+    @DisplayName("Should register the phase post-processor as an infrastructure bean that proxies services")
+    void postProcessor_ShouldBeInfrastructureAndAdviseServices() {
+        // When
+        String[] names = beanFactory.getBeanNamesForType(JfrPhaseBeanPostProcessor.class);
+
+        // Then
+        assertThat(names).hasSize(1);
+        assertThat(beanFactory.getBeanDefinition(names[0]).getRole()).isEqualTo(BeanDefinition.ROLE_INFRASTRUCTURE);
+        assertThat(AopUtils.isAopProxy(bookService)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not expose the recording dump unless enabled")
+    void dump_WhenNotEnabled_ShouldNotBeMapped() throws Exception {
+        // When
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(url("/api/admin/jfr/dump")))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+}
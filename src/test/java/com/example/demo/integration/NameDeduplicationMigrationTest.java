@@ -0,0 +1,50 @@
+package com.example.demo.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("V2 name deduplication migration Integration Tests")
+class NameDeduplicationMigrationTest {
+
+    @Test
+    @DisplayName("Should merge names differing in case and spaces into the lowest id and re-point books")
+    void migrate_WithDuplicateNames_ShouldKeepLowestIdAndRepointBooks() {
+        // Given
+        DataSource dataSource = TestDatabase.emptyDataSource("name_dedup");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        migrate(dataSource, "1");
+        jdbc.update("INSERT INTO authors (id, name) VALUES (1, 'Prus'), (2, '  prus '), (3, 'PRUS'), (4, 'Reymont')");
+        jdbc.update("INSERT INTO categories (id, name) VALUES (1, 'Powieść'), (2, 'powieść ')");
+        jdbc.update("INSERT INTO books (id, title, author_id, category_id) VALUES "
+                + "(1, 'Lalka', 2, 2), (2, 'Faraon', 3, 1), (3, 'Chłopi', 4, 2)");
+
+        // When
+        migrate(dataSource, "2");
+
+        // Then
+        assertThat(jdbc.queryForList("SELECT id FROM authors ORDER BY id", Long.class)).containsExactly(1L, 4L);
+        assertThat(jdbc.queryForList("SELECT id FROM categories ORDER BY id", Long.class)).containsExactly(1L);
+        assertThat(jdbc.queryForList("SELECT author_id FROM books ORDER BY id", Long.class)).containsExactly(1L, 1L, 4L);
+        assertThat(jdbc.queryForList("SELECT category_id FROM books ORDER BY id", Long.class)).containsExactly(1L, 1L, 1L);
+        assertThatThrownBy(() -> jdbc.update("INSERT INTO authors (id, name) VALUES (5, ' reymont')"))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("uq_authors_normalized_name");
+    }
+
+    private static void migrate(DataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
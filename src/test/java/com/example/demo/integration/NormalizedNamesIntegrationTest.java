@@ -0,0 +1,113 @@
+package com.example.demo.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Normalized author and category names Integration Tests")
+class NormalizedNamesIntegrationTest extends PostgresIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("Should resolve names ignoring case and spaces, creating only the missing ones")
+    void resolveAuthors_ShouldMatchNormalizedNames() throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString();
+        JsonNode existing = jsonMapper.readTree(post("/api/authors", "{\"name\":\"Prus " + suffix + "\"}").body());
+
+        // When
+        HttpResponse<String> response = post("/api/authors/resolve",
+                "[\"  PRUS " + suffix + " \", \"Reymont " + suffix + "\", \"reymont " + suffix + "\"]");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode resolutions = jsonMapper.readTree(response.body());
+        assertThat(resolutions.get(0).get("id").asLong()).isEqualTo(existing.get("id").asLong());
+        assertThat(resolutions.get(0).get("created").asBoolean()).isFalse();
+        assertThat(resolutions.get(1).get("created").asBoolean()).isTrue();
+        assertThat(resolutions.get(2).get("id").asLong()).isEqualTo(resolutions.get(1).get("id").asLong());
+        assertThat(resolutions.get(2).get("name").asString()).isEqualTo("Reymont " + suffix);
+    }
+
+    @Test
+    @DisplayName("Should resolve categories into one row per normalized name")
+    void resolveCategories_ShouldMatchNormalizedNames() throws Exception {
+        // Given
+        String name = "Dramat " + UUID.randomUUID();
+
+        // When
+        JsonNode first = jsonMapper.readTree(post("/api/categories/resolve", "[\"" + name + "\"]").body());
+        JsonNode second = jsonMapper.readTree(post("/api/categories/resolve", "[\" " + name.toUpperCase() + "\"]").body());
+
+        // Then
+        assertThat(first.get(0).get("created").asBoolean()).isTrue();
+        assertThat(second.get(0).get("created").asBoolean()).isFalse();
+        assertThat(second.get(0).get("id").asLong()).isEqualTo(first.get(0).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Should find an author by name regardless of case and surrounding spaces")
+    void getAuthorByName_ShouldMatchNormalizedName() throws Exception {
+        // Given
+        String name = "Orzeszkowa " + UUID.randomUUID();
+        JsonNode created = jsonMapper.readTree(post("/api/authors", "{\"name\":\"" + name + "\"}").body());
+
+        // When
+        HttpResponse<String> found = get("/api/authors?name=" + encode("  " + name.toUpperCase() + " "));
+        HttpResponse<String> missing = get("/api/authors?name=" + encode("Nobody " + UUID.randomUUID()));
+
+        // Then
+        assertThat(found.statusCode()).isEqualTo(200);
+        assertThat(jsonMapper.readTree(found.body()).get("id").asLong()).isEqualTo(created.get("id").asLong());
+        assertThat(missing.statusCode()).isEqualTo(404);
+        assertThat(jsonMapper.readTree(missing.body()).get("code").asString()).isEqualTo("AUTHOR_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Should answer 409 for an author or category name that differs only in case and spaces")
+    void create_WithNormalizedDuplicate_ShouldReturnConflict() throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString();
+        post("/api/authors", "{\"name\":\"Sienkiewicz " + suffix + "\"}");
+        post("/api/categories", "{\"name\":\"Epika " + suffix + "\"}");
+
+        // When
+        HttpResponse<String> author = post("/api/authors", "{\"name\":\" sienkiewicz " + suffix + "  \"}");
+        HttpResponse<String> category = post("/api/categories", "{\"name\":\"EPIKA " + suffix + "\"}");
+
+        // Then
+        assertThat(author.statusCode()).isEqualTo(409);
+        assertThat(jsonMapper.readTree(author.body()).get("code").asString()).isEqualTo("AUTHOR_NAME_TAKEN");
+        assertThat(category.statusCode()).isEqualTo(409);
+        assertThat(jsonMapper.readTree(category.body()).get("code").asString()).isEqualTo("CATEGORY_NAME_TAKEN");
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url(path)))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url(path))).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
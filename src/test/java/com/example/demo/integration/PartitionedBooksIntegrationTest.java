@@ -0,0 +1,157 @@
+package com.example.demo.integration;
+
+import com.example.demo.maintenance.BookPartitionMaintenance;
+import com.example.demo.model.Book;
+import com.example.demo.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Year;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * The year-partitioned layout of {@code books} (profile {@code partitioned}), migrated into a
+ * database of its own.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "library.warmup.enabled=false"})
+@ActiveProfiles("partitioned")
+@DisplayName("Partitioned books Integration Tests")
+class PartitionedBooksIntegrationTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookPartitionMaintenance partitionMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void configureDatabase(DynamicPropertyRegistry registry) {
+        TestDatabase.registerSeparate(registry, "partitioned");
+    }
+
+    @Test
+    @DisplayName("Should create the current and upcoming decade partitions, idempotently")
+    void createUpcomingPartitions_ShouldCreateDecadePartitions() {
+        // Given
+        int currentDecade = Year.now().getValue() / 10 * 10;
+
+        // When
+        partitionMaintenance.createUpcomingPartitions();
+        partitionMaintenance.createUpcomingPartitions();
+
+        // Then
+        assertThat(partitionMaintenance.listPartitions())
+                .contains("books_y" + currentDecade, "books_y" + (currentDecade + 10), "books_y_default");
+        assertThat(partitionBounds("books_y" + (currentDecade + 10)))
+                .isEqualTo("FOR VALUES FROM (%d) TO (%d)".formatted(currentDecade + 10, currentDecade + 20));
+    }
+
+    @Test
+    @DisplayName("Should skip a decade whose rows already sit in the default partition and create the rest")
+    void createUpcomingPartitions_WhenDefaultPartitionHoldsRange_ShouldSkipIt() {
+        // Given
+        int currentDecade = Year.now().getValue() / 10 * 10;
+        int blockedDecade = currentDecade + 20;
+        Book early = bookRepository.save(new Book("Too early " + UUID.randomUUID(), blockedDecade + 5, null, null));
+        BookPartitionMaintenance maintenance = new BookPartitionMaintenance(jdbcTemplate, 3);
+
+        // When / Then
+        assertThatCode(maintenance::createUpcomingPartitions).doesNotThrowAnyException();
+        assertThat(maintenance.listPartitions())
+                .doesNotContain("books_y" + blockedDecade)
+                .contains("books_y" + (currentDecade + 30));
+        assertThat(partitionOf(early.getId())).isEqualTo("books_y_default");
+    }
+
+    @Test
+    @DisplayName("Should vacuum every partition without failing")
+    void runMaintenance_ShouldNotThrow() {
+        // When / Then
+        assertThatCode(partitionMaintenance::runMaintenance).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should route books to their decade partition and find them by year range")
+    void findByYearBetween_ShouldReadOnlyCoveringPartitions() {
+        // Given
+        String title = "Partitioned " + UUID.randomUUID();
+        Book historic = bookRepository.save(new Book(title, 1895, null, null));
+        Book first = bookRepository.save(new Book(title, 1905, null, null));
+        Book second = bookRepository.save(new Book(title, 1915, null, null));
+        Book undated = bookRepository.save(new Book(title, null, null, null));
+
+        // When
+        List<Book> found = bookRepository.findByYearBetweenOrderByYearAscIdAsc(1900, 1919);
+
+        // Then
+        assertThat(found).extracting(Book::getId).contains(first.getId(), second.getId())
+                .doesNotContain(historic.getId(), undated.getId());
+        assertThat(found).extracting(Book::getYear).isSorted();
+        assertThat(partitionOf(historic.getId())).isEqualTo("books_y_historic");
+        assertThat(partitionOf(first.getId())).isEqualTo("books_y1900");
+        assertThat(partitionOf(undated.getId())).isEqualTo("books_y_default");
+        assertThat(plan("EXPLAIN SELECT * FROM books WHERE year BETWEEN 1900 AND 1919"))
+                .contains("books_y1900", "books_y1910")
+                .doesNotContain("books_y1920", "books_y_historic", "books_y_default");
+    }
+
+    @Test
+    @DisplayName("Should find a book by id within its year partition")
+    void findByIdAndYear_ShouldFindBookInPartition() {
+        // Given
+        Book book = bookRepository.save(new Book("Partitioned " + UUID.randomUUID(), 1962, null, null));
+
+        // When / Then
+        assertThat(bookRepository.findByIdAndYear(book.getId(), 1962)).hasValueSatisfying(
+                found -> assertThat(found.getTitle()).isEqualTo(book.getTitle()));
+        assertThat(bookRepository.findByIdAndYear(book.getId(), 1963)).isEmpty();
+        assertThat(plan("EXPLAIN SELECT * FROM books WHERE id = " + book.getId() + " AND year = 1962"))
+                .contains("books_y1960")
+                .doesNotContain("books_y1950", "books_y_default");
+    }
+
+    @Test
+    @DisplayName("Should keep the (year, id) index on every partition, including new ones")
+    void yearIndex_ShouldCoverEveryPartition() {
+        // Given
+        partitionMaintenance.createUpcomingPartitions();
+
+        // When
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits WHERE inhparent = 'books'::regclass", Integer.class);
+        Integer indexedPartitions = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits WHERE inhparent = 'idx_books_year'::regclass", Integer.class);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT indexdef FROM pg_indexes WHERE tablename = 'books' AND indexname = 'idx_books_year'", String.class))
+                .contains("(year, id)");
+        assertThat(indexedPartitions).isEqualTo(partitions);
+    }
+
+    private String partitionOf(Long bookId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM books WHERE id = ?", String.class, bookId);
+    }
+
+    private String partitionBounds(String partition) {
+        return jdbcTemplate.queryForObject(
+                "SELECT pg_get_expr(relpartbound, oid) FROM pg_class WHERE relname = ?", String.class, partition);
+    }
+
+    private String plan(String explain) {
+        return String.join("\n", jdbcTemplate.queryForList(explain, String.class));
+    }
+}
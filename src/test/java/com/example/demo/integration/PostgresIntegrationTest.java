@@ -0,0 +1,27 @@
+package com.example.demo.integration;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * The servlet application on a random port, backed by the shared {@link TestDatabase}. Subclasses
+ * without further configuration share one application context.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "library.warmup.enabled=false"})
+public abstract class PostgresIntegrationTest {
+
+    @LocalServerPort
+    protected int port;
+
+    @DynamicPropertySource
+    static void configureDatabase(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    protected String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.demo.integration;
+
+import com.example.demo.controller.reactive.ReactiveBookController;
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import com.example.demo.model.Category;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "library.warmup.enabled=false",
+                "library.rate-limit.clients.reactive.requests-per-second=1",
+                "library.rate-limit.clients.reactive.burst=1"})
+@ActiveProfiles("reactive")
+@DisplayName("Reactive book API Integration Tests")
+class ReactiveBookApiIntegrationTest {
+
+    private static final String API_BOOKS_PATH = "/api/books";
+    private static final String BOOK_TITLE = "Reactive Spring";
+    private static final Integer BOOK_YEAR = 2017;
+    private static final Long MISSING_ID = -1L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private WebTestClient client;
+    private Author author;
+    private Category category;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+        author = authorRepository.save(new Author("Reactive Author " + UUID.randomUUID()));
+        category = categoryRepository.save(new Category("Reactive Category " + UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("POST then GET - Should create a book over R2DBC and read it back")
+    void createBook_ThenGetById_ShouldReturnCreatedBook() {
+        // When
+        Book created = client.post().uri(API_BOOKS_PATH)
+                .bodyValue(bookRequest(author.getId()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Book.class)
+                .returnResult().getResponseBody();
+
+        // Then
+        assertThat(created).isNotNull();
+        assertThat(created.getId()).isNotNull();
+        client.get().uri(API_BOOKS_PATH + "/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo(BOOK_TITLE)
+                .jsonPath("$.year").isEqualTo(BOOK_YEAR)
+                .jsonPath("$.authorId").isEqualTo(author.getId());
+    }
+
+    @Test
+    @DisplayName("GET - Should stream books as NDJSON")
+    void streamAllBooks_ShouldReturnNdjson() {
+        // Given
+        Book created = client.post().uri(API_BOOKS_PATH)
+                .bodyValue(bookRequest(author.getId()))
+                .exchange()
+                .expectBody(Book.class)
+                .returnResult().getResponseBody();
+
+        // When
+        List<Book> streamed = client.get().uri(API_BOOKS_PATH)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Book.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(streamed).extracting(Book::getId).contains(created.getId());
+    }
+
+    @Test
+    @DisplayName("GET - Should return 404 with an error code for a missing book")
+    void getBookById_WhenMissing_ShouldReturnNotFound() {
+        client.get().uri(API_BOOKS_PATH + "/{id}", MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("BOOK_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("POST - Should reject a book whose author does not exist")
+    void createBook_WithMissingAuthor_ShouldReturnBadRequest() {
+        client.post().uri(API_BOOKS_PATH)
+                .bodyValue(bookRequest(MISSING_ID))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("AUTHOR_REFERENCE_MISSING");
+    }
+
+    @Test
+    @DisplayName("Should map only the non-blocking book API and none of the servlet controllers")
+    void handlerMapping_ShouldExposeOnlyNonBlockingEndpoints() {
+        // When
+        Collection<HandlerMethod> handlers = handlerMapping.getHandlerMethods().values();
+
+        // Then
+        assertThat(handlers).isNotEmpty().allSatisfy(handler -> {
+            assertThat(handler.getBeanType()).isEqualTo(ReactiveBookController.class);
+            assertThat(Publisher.class).isAssignableFrom(handler.getMethod().getReturnType());
+        });
+        client.get().uri("/api/authors").exchange().expectStatus().isNotFound();
+        client.get().uri("/api/admin/csv/books").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET - Should rate limit a client and answer 429 with Retry-After")
+    void getBookById_WhenRateLimited_ShouldReturnTooManyRequests() {
+        // Given
+        client.get().uri(API_BOOKS_PATH + "/{id}", MISSING_ID).header("X-Api-Key", "reactive")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // When & Then
+        client.get().uri(API_BOOKS_PATH + "/{id}", MISSING_ID).header("X-Api-Key", "reactive")
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals("Retry-After", "1")
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("RATE_LIMITED");
+    }
+
+    @Test
+    @DisplayName("GET - Should reject a malformed request timeout before running the handler")
+    void getBookById_WithInvalidTimeout_ShouldReturnBadRequest() {
+        client.get().uri(API_BOOKS_PATH + "/{id}", MISSING_ID).header("X-Request-Timeout", "soon")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_DATA");
+    }
+
+    private Map<String, Object> bookRequest(Long authorId) {
+        return Map.of("title", BOOK_TITLE, "year", BOOK_YEAR, "authorId", authorId, "categoryId", category.getId());
+    }
+}
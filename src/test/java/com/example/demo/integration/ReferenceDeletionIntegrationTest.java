@@ -0,0 +1,145 @@
+package com.example.demo.integration;
+
+import com.example.demo.model.Author;
+import com.example.demo.model.Book;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Deleting referenced authors Integration Tests")
+class ReferenceDeletionIntegrationTest extends PostgresIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        author = authorRepository.save(new Author("Referenced " + UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Should answer 409 while books still reference the author")
+    void deleteAuthor_WhenReferenced_ShouldReturnConflict() throws Exception {
+        // Given
+        bookRepository.save(new Book("Still here", 2001, author.getId(), null));
+
+        // When
+        HttpResponse<String> response = delete("/api/authors/" + author.getId());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(409);
+        assertThat(jsonMapper.readTree(response.body()).get("code").asString()).isEqualTo("AUTHOR_IN_USE");
+        assertThat(authorRepository.existsById(author.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when a book referencing the author commits during the delete")
+    void deleteAuthor_WhenBookInsertedConcurrently_ShouldReturnConflict() throws Exception {
+        try (Connection connection = TestDatabase.dataSource().getConnection()) {
+            // Given: an uncommitted book, invisible to the "still referenced" check
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO books (title, year, author_id) VALUES ('Racing', 2002, ?)")) {
+                insert.setLong(1, author.getId());
+                insert.executeUpdate();
+            }
+
+            // When
+            CompletableFuture<HttpResponse<String>> response = client.sendAsync(
+                    deleteRequest("/api/authors/" + author.getId()), HttpResponse.BodyHandlers.ofString());
+            awaitLockWait();
+            connection.commit();
+
+            // Then
+            assertThat(response.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(409);
+            assertThat(authorRepository.existsById(author.getId())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete the author with its hot and archived books when cascading")
+    void deleteAuthor_WithCascade_ShouldDeleteBooksAndAuthor() throws Exception {
+        // Given
+        Book book = bookRepository.save(new Book("Cascaded", 2003, author.getId(), null));
+        long archivedId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+        jdbcTemplate.update("INSERT INTO books_archive (id, author_id, year, title) VALUES (?, ?, 1850, 'Archived')",
+                archivedId, author.getId());
+
+        // When
+        HttpResponse<String> accepted = delete("/api/authors/" + author.getId() + "?cascade=true");
+
+        // Then
+        assertThat(accepted.statusCode()).isEqualTo(202);
+        JsonNode job = awaitJob(jsonMapper.readTree(accepted.body()).get("id").asString());
+        assertThat(job.get("state").asString()).isEqualTo("COMPLETED");
+        assertThat(job.get("booksDeleted").asLong()).isEqualTo(2);
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(bookRepository.existsById(book.getId())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM books_archive WHERE id = ?", Long.class, archivedId))
+                .isZero();
+    }
+
+    private HttpResponse<String> delete(String path) throws Exception {
+        return client.send(deleteRequest(path), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest deleteRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(url(path))).DELETE().build();
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("The delete never waited for the inserting transaction");
+    }
+
+    private JsonNode awaitJob(String jobId) throws Exception {
+        for (int i = 0; i < 500; i++) {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(url("/api/jobs/deletions/" + jobId))).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode job = jsonMapper.readTree(response.body());
+            if (!"RUNNING".equals(job.get("state").asString())) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Deletion job " + jobId + " did not finish");
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.integration;
+
+import com.example.demo.lifecycle.StartupWarmup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the real warm-up during context startup. The rate limit is set far below the number of
+ * warm-up requests, so they only all succeed if they are exempt from it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "library.warmup.enabled=true",
+                "library.warmup.iterations=60",
+                "library.warmup.concurrency=3",
+                "library.rate-limit.requests-per-second=1",
+                "library.rate-limit.burst=1"
+        })
+@DisplayName("Startup warm-up Integration Tests")
+class StartupWarmupIntegrationTest {
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @DynamicPropertySource
+    static void configureDatabase(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Test
+    @DisplayName("Should send every warm-up request through the HTTP stack before readiness")
+    void warmup_ShouldRunOverHttpWithoutFailures() {
+        // Then
+        assertThat(startupWarmup.requestsSent()).isEqualTo(60);
+        assertThat(startupWarmup.requestsFailed()).isZero();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
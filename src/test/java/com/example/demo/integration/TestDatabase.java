@@ -0,0 +1,85 @@
+package com.example.demo.integration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * One embedded PostgreSQL per test JVM (no Docker needed), shared by the integration tests.
+ * Flyway migrates it when the first application context starts; tests create their own rows
+ * and must not rely on the tables being empty.
+ */
+public final class TestDatabase {
+    // stopped by its own shutdown hook, after the cached application contexts
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    private TestDatabase() {
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        register(registry, "postgres");
+    }
+
+    /**
+     * Points the application at its own database in the shared server, created on first use, for
+     * contexts that migrate a different schema layout.
+     */
+    public static void registerSeparate(DynamicPropertyRegistry registry, String database) {
+        createDatabase(database);
+        register(registry, database);
+    }
+
+    /**
+     * A fresh, empty database in the shared server, for tests that run migrations by hand.
+     */
+    public static DataSource emptyDataSource(String database) {
+        try (Connection connection = dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + database);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not drop database " + database, ex);
+        }
+        createDatabase(database);
+        return POSTGRES.getDatabase("postgres", database);
+    }
+
+    public static DataSource dataSource() {
+        return POSTGRES.getPostgresDatabase();
+    }
+
+    private static void createDatabase(String database) {
+        try (Connection connection = dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet exists = statement.executeQuery("SELECT 1 FROM pg_database WHERE datname = '" + database + "'")) {
+            if (!exists.next()) {
+                statement.execute("CREATE DATABASE " + database);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not create database " + database, ex);
+        }
+    }
+
+    private static void register(DynamicPropertyRegistry registry, String database) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", database));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://localhost:" + POSTGRES.getPort() + "/" + database);
+        registry.add("spring.r2dbc.username", () -> "postgres");
+        registry.add("spring.r2dbc.password", () -> "postgres");
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
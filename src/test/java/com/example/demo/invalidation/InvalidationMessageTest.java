@@ -0,0 +1,38 @@
+package com.example.demo.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Invalidation message Unit Tests")
+class InvalidationMessageTest {
+
+    private static final String NODE_ID = "5f0c2a8e-node";
+
+    @Test
+    @DisplayName("Should round-trip single entity, whole type and flush messages")
+    void encodeDecode_ShouldRoundTrip() {
+        // Given
+        InvalidationMessage single = InvalidationMessage.of(NODE_ID, EntityChangedEvent.book(42L));
+        InvalidationMessage wholeType = InvalidationMessage.of(NODE_ID, EntityChangedEvent.all(EntityChangedEvent.AUTHOR));
+        InvalidationMessage flush = InvalidationMessage.flush(NODE_ID);
+
+        // When & Then
+        assertThat(single.encode()).isEqualTo(NODE_ID + "|Book|42");
+        assertThat(InvalidationMessage.decode(single.encode())).isEqualTo(single);
+        assertThat(InvalidationMessage.decode(wholeType.encode()))
+                .isEqualTo(new InvalidationMessage(NODE_ID, EntityChangedEvent.AUTHOR, null));
+        assertThat(InvalidationMessage.decode(flush.encode()).isFlush()).isTrue();
+        assertThat(single.isFlush()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore payloads not written by this application")
+    void decode_WithForeignPayload_ShouldReturnNull() {
+        // When & Then
+        assertThat(InvalidationMessage.decode("hello")).isNull();
+        assertThat(InvalidationMessage.decode(NODE_ID + "|Book|forty-two")).isNull();
+        assertThat(InvalidationMessage.decode("|Book|1")).isNull();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Invalidation publisher Unit Tests")
+class InvalidationPublisherTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private Array array;
+
+    private InvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.createArrayOf(eq("text"), any())).thenReturn(array);
+        publisher = new InvalidationPublisher(dataSource, new InvalidationProperties(true, "library_invalidation",
+                Duration.ofMillis(20), Duration.ofMillis(10), Duration.ofMillis(50), 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    @Test
+    @DisplayName("Should send the queued events as one batch on the configured channel")
+    void onEntityChanged_ShouldSendQueuedEventsInOneBatch() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        publisher.onEntityChanged(EntityChangedEvent.book(1L));
+        publisher.onEntityChanged(EntityChangedEvent.all(EntityChangedEvent.AUTHOR));
+
+        // When
+        publisher.start();
+
+        // Then
+        assertThat(sentPayloads()).containsExactly(
+                publisher.nodeId() + "|Book|1",
+                publisher.nodeId() + "|Author|*");
+        verify(statement).setString(1, "library_invalidation");
+    }
+
+    @Test
+    @DisplayName("Should replace the queued events with one flush message once the queue overflowed")
+    void onEntityChanged_WhenQueueOverflows_ShouldSendFlush() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        publisher.onEntityChanged(EntityChangedEvent.book(1L));
+        publisher.onEntityChanged(EntityChangedEvent.book(2L));
+        publisher.onEntityChanged(EntityChangedEvent.book(3L));
+
+        // When
+        publisher.start();
+
+        // Then
+        assertThat(sentPayloads()).containsExactly(publisher.nodeId() + "|*|*");
+    }
+
+    @Test
+    @DisplayName("Should keep the batch and send it again after a failed connection")
+    void sendLoop_WhenConnectionFails_ShouldRetryBatch() throws SQLException {
+        // Given
+        when(dataSource.getConnection())
+                .thenThrow(new SQLTransientConnectionException("pool exhausted"))
+                .thenReturn(connection);
+        publisher.onEntityChanged(EntityChangedEvent.category(7L));
+
+        // When
+        publisher.start();
+
+        // Then
+        assertThat(sentPayloads()).containsExactly(publisher.nodeId() + "|Category|7");
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    private Object[] sentPayloads() throws SQLException {
+        ArgumentCaptor<Object[]> payloads = ArgumentCaptor.forClass(Object[].class);
+        verify(connection, timeout(2000)).createArrayOf(eq("text"), payloads.capture());
+        verify(statement, timeout(2000)).execute();
+        return payloads.getValue();
+    }
+}
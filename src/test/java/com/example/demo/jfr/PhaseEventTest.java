@@ -0,0 +1,130 @@
+package com.example.demo.jfr;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.Book;
+import com.example.demo.validator.rules.ValidationRule;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JFR phase event Unit Tests")
+class PhaseEventTest {
+
+    private static final Long BOOK_ID = 42L;
+
+    @TempDir
+    Path directory;
+
+    interface BookLookup {
+        Book find(Long id);
+    }
+
+    @Test
+    @DisplayName("Should record a phase event with entity, operation and error code outcome")
+    void interceptor_WhenCallFails_ShouldRecordOutcome() throws IOException {
+        // Given
+        BookLookup target = id -> {
+            throw ResourceNotFoundException.book(id);
+        };
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(BookLookup.class);
+        proxyFactory.addAdvice(new PhaseEventInterceptor(PhaseEvent.Service.class, PhaseEvent.Service::new, "Book"));
+        BookLookup lookup = (BookLookup) proxyFactory.getProxy();
+
+        // When
+        List<RecordedEvent> events = record(PhaseEvent.Service.class, () ->
+                assertThatThrownBy(() -> lookup.find(BOOK_ID)).isInstanceOf(ResourceNotFoundException.class));
+
+        // Then
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("entityType")).isEqualTo("Book");
+            assertThat(event.getLong("entityId")).isEqualTo(BOOK_ID);
+            assertThat(event.getString("operation")).isEqualTo("find");
+            assertThat(event.getString("outcome")).isEqualTo("BOOK_NOT_FOUND");
+        });
+    }
+
+    @Test
+    @DisplayName("Should record one event per validation rule with the rule name")
+    void validationRuleEvent_ShouldRecordRuleName() throws IOException {
+        // Given
+        ValidationRule<Book> rule = new NonEmptyTitleRule();
+        Book book = new Book("Lalka", 1890, 1L, 1L);
+        book.setId(BOOK_ID);
+
+        // When
+        List<RecordedEvent> events = record(ValidationRuleEvent.class, () -> ValidationRuleEvent.validate(rule, book));
+
+        // Then
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("rule")).isEqualTo("NonEmptyTitleRule");
+            assertThat(event.getString("entityType")).isEqualTo("Book");
+            assertThat(event.getLong("entityId")).isEqualTo(BOOK_ID);
+            assertThat(event.getString("outcome")).isEqualTo("success");
+        });
+    }
+
+    @Test
+    @DisplayName("Should not record anything when no recording is running")
+    void validationRuleEvent_WithoutRecording_ShouldOnlyValidate() {
+        // When / Then
+        assertThatThrownBy(() -> ValidationRuleEvent.validate(new NonEmptyTitleRule(), new Book("", null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should not create an event when no recording is running")
+    void interceptor_WithoutRecording_ShouldNotAllocateEvent() {
+        // Given
+        AtomicInteger created = new AtomicInteger();
+        ProxyFactory proxyFactory = new ProxyFactory((BookLookup) id -> new Book("Lalka", 1890, 1L, 1L));
+        proxyFactory.addInterface(BookLookup.class);
+        proxyFactory.addAdvice(new PhaseEventInterceptor(PhaseEvent.Repository.class, () -> {
+            created.incrementAndGet();
+            return new PhaseEvent.Repository();
+        }, "Book"));
+        BookLookup lookup = (BookLookup) proxyFactory.getProxy();
+
+        // When
+        Book found = lookup.find(BOOK_ID);
+
+        // Then
+        assertThat(found.getTitle()).isEqualTo("Lalka");
+        assertThat(created).hasValue(0);
+    }
+
+    private List<RecordedEvent> record(Class<? extends jdk.jfr.Event> eventType, Runnable action) throws IOException {
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventType).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventType.getAnnotation(jdk.jfr.Name.class).value()))
+                .toList();
+    }
+
+    private static final class NonEmptyTitleRule implements ValidationRule<Book> {
+        @Override
+        public void validate(Book book) {
+            if (book.getTitle().isEmpty()) {
+                throw new IllegalArgumentException("empty title");
+            }
+        }
+    }
+}
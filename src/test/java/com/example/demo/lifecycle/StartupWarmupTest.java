@@ -0,0 +1,66 @@
+package com.example.demo.lifecycle;
+
+import com.example.demo.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartupWarmup Tests")
+class StartupWarmupTest {
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("Should not fail startup when the database is unreachable")
+    void run_WhenDataSourceFails_ShouldNotThrow() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        StartupWarmup warmup = warmup(true);
+
+        // When / Then
+        assertThatCode(() -> warmup.run(new DefaultApplicationArguments()))
+                .doesNotThrowAnyException();
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void run_WhenDisabled_ShouldSkip() {
+        // Given
+        StartupWarmup warmup = warmup(false);
+
+        // When
+        warmup.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(applicationContext, never()).publishEvent(any(Object.class));
+        verifyNoInteractions(dataSource, bookRepository);
+    }
+
+    private StartupWarmup warmup(boolean enabled) {
+        return new StartupWarmup(applicationContext, new WarmupProperties(enabled, 10, 2, 1, 5),
+                new WarmupRequests(), dataSource, bookRepository);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.loadtest;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the statements executed through the application's pool, from any thread. Each
+ * {@code execute*} call is one statement; a batch counts once.
+ */
+class CountingDataSource extends DelegatingDataSource {
+    private static final LongAdder EXECUTED = new LongAdder();
+
+    CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    static long executedStatements() {
+        return EXECUTED.sum();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return switch (result) {
+                case CallableStatement statement -> counting(CallableStatement.class, statement);
+                case PreparedStatement statement -> counting(PreparedStatement.class, statement);
+                case Statement statement -> counting(Statement.class, statement);
+                case null, default -> result;
+            };
+        });
+    }
+
+    private static <S extends Statement> S counting(Class<S> type, S statement) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                EXECUTED.increment();
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Forwarder forwarder) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            try {
+                return forwarder.forward(target, method, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @FunctionalInterface
+    private interface Forwarder {
+        Object forward(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Every latency sample of one operation, kept exactly so percentiles need no bucketing.
+ * Each worker owns its recorders; they are merged once the run is over.
+ */
+final class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void addAll(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + other.size));
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    long count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    LoadTestReport.Latency summary() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new LoadTestReport.Latency(percentileMillis(sorted, 50), percentileMillis(sorted, 90),
+                percentileMillis(sorted, 99), percentileMillis(sorted, 99.9), percentileMillis(sorted, 100));
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the sample at that rank in milliseconds, 0 without samples
+     */
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.clamp(rank, 0, sorted.length - 1)] / 1e6;
+    }
+}
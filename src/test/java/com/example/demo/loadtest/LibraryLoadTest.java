@@ -0,0 +1,243 @@
+package com.example.demo.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives mixed read/write traffic against the full application backed by an embedded
+ * PostgreSQL, seeded with a configurable catalog (10k books by default, up to 10M with
+ * {@code -Dloadtest.books}). Writes a JSON report with throughput, latency percentiles per
+ * operation, GC and SQL statements per request, then fails if any threshold in
+ * {@code loadtest/thresholds.properties} is exceeded. Excluded from the regular build, run with
+ * {@code mvn -Ploadtest test}.
+ */
+@Tag("loadtest")
+@DisplayName("Library load test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        // the test measures the request path; admission control would only reject the generated load
+        "library.rate-limit.enabled=false",
+        "library.bulkhead.enabled=false"
+})
+@Import(LibraryLoadTest.SqlCounting.class)
+class LibraryLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    // stopped by its own shutdown hook, after the cached application context
+    private static final EmbeddedPostgres POSTGRES = startSeededDatabase();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> Math.max(10, SETTINGS.concurrency()));
+    }
+
+    @Test
+    @DisplayName("Mixed workload should stay within the configured thresholds")
+    void mixedWorkload_ShouldStayWithinThresholds() throws Exception {
+        // Given
+        Workload workload = new Workload("http://localhost:" + port, SETTINGS);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        run(workload, client, SETTINGS.warmup());
+
+        // When
+        Instant startedAt = Instant.now();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long statementsBefore = CountingDataSource.executedStatements();
+        long started = System.nanoTime();
+        LatencyRecorder[] byOperation = run(workload, client, SETTINGS.duration());
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long statements = CountingDataSource.executedStatements() - statementsBefore;
+        long gcCount = gcCount() - gcCountBefore;
+        long gcMillis = gcMillis() - gcMillisBefore;
+
+        // Then
+        LatencyRecorder all = new LatencyRecorder();
+        Map<String, LoadTestReport.Operation> operations = new LinkedHashMap<>();
+        for (int i = 0; i < byOperation.length; i++) {
+            LatencyRecorder recorder = byOperation[i];
+            all.addAll(recorder);
+            operations.put(workload.operations().get(i).name(),
+                    new LoadTestReport.Operation(recorder.count(), recorder.errors(), recorder.summary()));
+        }
+        long requests = all.count();
+        LoadTestReport.Latency latency = all.summary();
+        double throughput = requests / seconds;
+        double errorRate = requests == 0 ? 1 : (double) all.errors() / requests;
+        double sqlPerRequest = requests == 0 ? 0 : (double) statements / requests;
+        double gcPercent = gcMillis / (seconds * 10);
+
+        LoadTestSettings.Thresholds thresholds = SETTINGS.thresholds();
+        List<String> violations = new ArrayList<>();
+        check(violations, throughput >= thresholds.minThroughput(),
+                "throughput %.1f req/s below %.1f", throughput, thresholds.minThroughput());
+        check(violations, latency.p99() <= thresholds.maxP99Millis(),
+                "p99 %.1f ms above %.1f ms", latency.p99(), thresholds.maxP99Millis());
+        check(violations, errorRate <= thresholds.maxErrorRate(),
+                "error rate %.4f above %.4f", errorRate, thresholds.maxErrorRate());
+        check(violations, sqlPerRequest <= thresholds.maxSqlPerRequest(),
+                "%.2f SQL statements per request above %.2f", sqlPerRequest, thresholds.maxSqlPerRequest());
+        check(violations, gcPercent <= thresholds.maxGcTimePercent(),
+                "GC time %.1f%% above %.1f%%", gcPercent, thresholds.maxGcTimePercent());
+
+        LoadTestReport report = new LoadTestReport(startedAt, SETTINGS, requests, all.errors(), throughput, latency,
+                operations, new LoadTestReport.Gc(gcCount, gcMillis, gcPercent, heapUsed()),
+                new LoadTestReport.Sql(statements, sqlPerRequest), violations);
+        Path reportFile = write(report);
+        System.out.printf("%nLoad test: %,d requests, %.1f req/s, p50 %.2f ms, p99 %.2f ms, %.2f SQL/request -> %s%n",
+                requests, throughput, latency.p50(), latency.p99(), sqlPerRequest, reportFile.toAbsolutePath());
+
+        assertThat(violations).as("load test thresholds, see " + reportFile).isEmpty();
+    }
+
+    /**
+     * Closed loop: every worker sends its next request as soon as the previous one is answered.
+     */
+    private static LatencyRecorder[] run(Workload workload, HttpClient client, Duration duration)
+            throws InterruptedException {
+        int operations = workload.operations().size();
+        LatencyRecorder[][] recorders = new LatencyRecorder[SETTINGS.concurrency()][operations];
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch finished = new CountDownLatch(SETTINGS.concurrency());
+        SplittableRandom seeds = new SplittableRandom(SETTINGS.seed());
+        for (int worker = 0; worker < SETTINGS.concurrency(); worker++) {
+            LatencyRecorder[] own = recorders[worker];
+            for (int i = 0; i < operations; i++) {
+                own[i] = new LatencyRecorder();
+            }
+            SplittableRandom random = seeds.split();
+            Thread.ofPlatform().name("load-worker-" + worker).daemon().start(() -> {
+                try {
+                    while (running.get()) {
+                        int operation = workload.pick(random);
+                        long started = System.nanoTime();
+                        boolean success;
+                        try {
+                            int status = client.send(workload.request(operation, random),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            success = status >= 200 && status < 300;
+                        } catch (IOException ex) {
+                            success = false;
+                        }
+                        own[operation].record(System.nanoTime() - started, success);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        Thread.sleep(duration);
+        running.set(false);
+        finished.await();
+
+        LatencyRecorder[] merged = new LatencyRecorder[operations];
+        for (int i = 0; i < operations; i++) {
+            merged[i] = new LatencyRecorder();
+            for (LatencyRecorder[] own : recorders) {
+                merged[i].addAll(own[i]);
+            }
+        }
+        return merged;
+    }
+
+    private static void check(List<String> violations, boolean passed, String format, Object... args) {
+        if (!passed) {
+            violations.add(String.format(format, args));
+        }
+    }
+
+    private static Path write(LoadTestReport report) throws IOException {
+        Path file = Path.of(SETTINGS.reportPath());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        return file;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(millis -> millis > 0).sum();
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static EmbeddedPostgres startSeededDatabase() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                    .setServerConfig("max_connections", "200")
+                    .start();
+            Seed.catalog(postgres.getPostgresDatabase(), SETTINGS);
+            return postgres;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", ex);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not seed the load test catalog", ex);
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SqlCounting {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                        return new CountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
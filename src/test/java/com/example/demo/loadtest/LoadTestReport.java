@@ -0,0 +1,36 @@
+package com.example.demo.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-readable result of a {@link LibraryLoadTest} run, written as JSON.
+ */
+record LoadTestReport(
+        Instant startedAt,
+        LoadTestSettings settings,
+        long requests,
+        long errors,
+        double throughput,
+        Latency latencyMillis,
+        Map<String, Operation> operations,
+        Gc gc,
+        Sql sql,
+        List<String> violations
+) {
+    record Latency(double p50, double p90, double p99, double p999, double max) {
+    }
+
+    record Operation(long requests, long errors, Latency latencyMillis) {
+    }
+
+    /**
+     * Collections of all collectors during the measured window.
+     */
+    record Gc(long collections, long timeMillis, double timePercent, long heapUsedBytes) {
+    }
+
+    record Sql(long statements, double perRequest) {
+    }
+}
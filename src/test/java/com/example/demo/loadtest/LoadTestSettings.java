@@ -0,0 +1,78 @@
+package com.example.demo.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Load test parameters, read from {@code -Dloadtest.*} system properties. Thresholds come from
+ * {@code loadtest/thresholds.properties} and can be overridden with {@code -Dloadtest.threshold.<name>}.
+ */
+record LoadTestSettings(
+        long books,
+        long authors,
+        long categories,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int writePercent,
+        long seed,
+        String reportPath,
+        Thresholds thresholds
+) {
+    static LoadTestSettings fromSystemProperties() {
+        long books = Long.getLong("loadtest.books", 10_000);
+        return new LoadTestSettings(
+                books,
+                Long.getLong("loadtest.authors", Math.max(100, books / 100)),
+                Long.getLong("loadtest.categories", 50),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Integer.getInteger("loadtest.write-percent", 10),
+                Long.getLong("loadtest.seed", 42),
+                System.getProperty("loadtest.report", "target/loadtest/report.json"),
+                Thresholds.load()
+        );
+    }
+
+    /**
+     * Limits the measured run has to stay within; any violation fails the build.
+     */
+    record Thresholds(
+            double minThroughput,
+            double maxP99Millis,
+            double maxErrorRate,
+            double maxSqlPerRequest,
+            double maxGcTimePercent
+    ) {
+        private static final String PREFIX = "loadtest.threshold.";
+
+        static Thresholds load() {
+            Properties defaults = new Properties();
+            try (InputStream in = Thresholds.class.getResourceAsStream("/loadtest/thresholds.properties")) {
+                if (in != null) {
+                    defaults.load(in);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return new Thresholds(
+                    value(defaults, "min-throughput"),
+                    value(defaults, "max-p99-millis"),
+                    value(defaults, "max-error-rate"),
+                    value(defaults, "max-sql-per-request"),
+                    value(defaults, "max-gc-time-percent"));
+        }
+
+        private static double value(Properties defaults, String name) {
+            String value = System.getProperty(PREFIX + name, defaults.getProperty(name));
+            if (value == null) {
+                throw new IllegalStateException("No load test threshold " + name);
+            }
+            return Double.parseDouble(value.trim());
+        }
+    }
+}
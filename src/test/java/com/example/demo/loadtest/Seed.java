@@ -0,0 +1,67 @@
+package com.example.demo.loadtest;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Creates the schema and a deterministic catalog before the application starts, so startup
+ * warm-up, caches and the catalog see the same data production would. Row {@code g} of each
+ * table gets id {@code g}; names and years are derived from it (see {@link #year}).
+ */
+final class Seed {
+    private static final Logger log = LoggerFactory.getLogger(Seed.class);
+    private static final long CHUNK = 1_000_000;
+
+    private Seed() {
+    }
+
+    static void catalog(DataSource dataSource, LoadTestSettings settings) throws SQLException {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            insert(connection, "INSERT INTO categories (name) SELECT 'Category ' || g FROM generate_series(?, ?) g",
+                    settings.categories());
+            insert(connection, "INSERT INTO authors (name) SELECT 'Author ' || g FROM generate_series(?, ?) g",
+                    settings.authors());
+            insert(connection, "INSERT INTO books (title, year, author_id, category_id) "
+                    + "SELECT 'Book ' || g, 1800 + (g * 7919) % 225, 1 + (g * 104729) % ?, 1 + g % ? "
+                    + "FROM generate_series(?, ?) g", settings.books(), settings.authors(), settings.categories());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("VACUUM ANALYZE");
+            }
+        }
+        log.info("Seeded {} books, {} authors, {} categories in {} ms", settings.books(), settings.authors(),
+                settings.categories(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    static int year(long bookId) {
+        return 1800 + (int) (bookId * 7919 % 225);
+    }
+
+    static String authorName(long authorId) {
+        return "Author " + authorId;
+    }
+
+    /**
+     * Inserts rows {@code 1..rows} in chunks, binding {@code leading} before the chunk bounds.
+     */
+    private static void insert(Connection connection, String sql, long rows, long... leading) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < leading.length; i++) {
+                insert.setLong(i + 1, leading[i]);
+            }
+            for (long from = 1; from <= rows; from += CHUNK) {
+                insert.setLong(leading.length + 1, from);
+                insert.setLong(leading.length + 2, Math.min(rows, from + CHUNK - 1));
+                insert.executeUpdate();
+            }
+        }
+    }
+}
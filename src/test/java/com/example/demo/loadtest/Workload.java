@@ -0,0 +1,107 @@
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Mixed read/write traffic over the book, author and category APIs. Ids are drawn from the
+ * seeded ranges, so reads hit existing rows; writes create new rows or patch seeded ones and
+ * never delete, keeping those ranges valid for the whole run.
+ */
+final class Workload {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    Workload(String baseUrl, LoadTestSettings settings) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        int write = settings.writePercent();
+        int read = 100 - write;
+        // weights in percent of all requests; the read and write shares are split by fixed ratios
+        this.operations = List.of(
+                new Operation("get-book", read * 40, (random, w) -> w.get("/api/books/" + w.bookId(random))),
+                new Operation("get-books-by-year", read * 5, (random, w) -> {
+                    int year = Seed.year(random.nextLong(1, settings.books() + 1));
+                    return w.get("/api/books?fromYear=" + year + "&toYear=" + year);
+                }),
+                new Operation("get-author", read * 15, (random, w) -> w.get("/api/authors/" + w.authorId(random))),
+                new Operation("find-author-by-name", read * 15, (random, w) ->
+                        w.get("/api/authors?name=" + URLEncoder.encode(Seed.authorName(w.authorId(random)),
+                                StandardCharsets.UTF_8))),
+                new Operation("get-category", read * 15, (random, w) ->
+                        w.get("/api/categories/" + w.categoryId(random))),
+                new Operation("list-categories", read * 10, (random, w) -> w.get("/api/categories")),
+                new Operation("create-book", write * 50, (random, w) -> w.send("POST", "/api/books",
+                        "application/json", "{\"title\":\"Load test book " + UUID.randomUUID()
+                                + "\",\"year\":" + Seed.year(random.nextLong(1, 1_000_000)) + ",\"authorId\":"
+                                + w.authorId(random) + ",\"categoryId\":" + w.categoryId(random) + "}")),
+                new Operation("patch-book", write * 40, (random, w) -> w.send("PATCH", "/api/books/" + w.bookId(random),
+                        "application/merge-patch+json", "{\"year\":" + Seed.year(random.nextLong(1, 1_000_000)) + "}")),
+                new Operation("create-author", write * 10, (random, w) -> w.send("POST", "/api/authors",
+                        "application/json", "{\"name\":\"Load test author " + UUID.randomUUID() + "\"}"))
+        );
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    int pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.size(); i++) {
+            ticket -= operations.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return operations.size() - 1;
+    }
+
+    HttpRequest request(int operation, SplittableRandom random) {
+        return operations.get(operation).request().apply(random, this);
+    }
+
+    private long bookId(SplittableRandom random) {
+        return random.nextLong(1, settings.books() + 1);
+    }
+
+    private long authorId(SplittableRandom random) {
+        return random.nextLong(1, settings.authors() + 1);
+    }
+
+    private long categoryId(SplittableRandom random) {
+        return random.nextLong(1, settings.categories() + 1);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String path, String contentType, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", contentType)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    record Operation(String name, int weight, BiFunction<SplittableRandom, Workload, HttpRequest> request) {
+    }
+}
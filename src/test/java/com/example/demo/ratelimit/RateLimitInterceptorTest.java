@@ -0,0 +1,108 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.lifecycle.WarmupRequests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimitInterceptor Unit Tests")
+class RateLimitInterceptorTest {
+
+    private final RateLimitProperties properties = new RateLimitProperties(true, "X-Api-Key", 1, 1, 100,
+            "10\\.0\\.0\\.\\d+", Map.of("partner", new RateLimitProperties.Limit(1, 3)));
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(properties, () -> 0L);
+    private final BulkheadProperties bulkheadProperties =
+            new BulkheadProperties(false, 1, 1, Duration.ZERO, Duration.ofSeconds(1));
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(properties, rateLimiter,
+            new ClientAddressResolver(properties), bulkheadProperties, new Bulkheads(bulkheadProperties), new WarmupRequests());
+    private final HandlerMethod handler = handler();
+
+    @Test
+    @DisplayName("Should limit callers with unknown API keys by their address")
+    void preHandle_WithUnknownApiKeys_ShouldShareAddressBucket() {
+        // Given
+        interceptor.preHandle(request("10.0.0.1", "random-1"), new MockHttpServletResponse(), handler);
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.1", "random-2"), new MockHttpServletResponse(), handler))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(rateLimiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply the configured limit to a known API key regardless of address")
+    void preHandle_WithConfiguredApiKey_ShouldUseKeyBucket() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preHandle(request("10.0.0." + i, "partner"), new MockHttpServletResponse(), handler))
+                    .isTrue();
+        }
+
+        // Then
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.9", "partner"), new MockHttpServletResponse(), handler))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Should give each client behind a trusted load balancer its own bucket")
+    void preHandle_BehindTrustedProxy_ShouldKeyByForwardedClient() {
+        // Given
+        MockHttpServletRequest first = request("10.0.0.254", null);
+        first.addHeader(ClientAddressResolver.FORWARDED_FOR, "203.0.113.7");
+        MockHttpServletRequest second = request("10.0.0.254", null);
+        second.addHeader(ClientAddressResolver.FORWARDED_FOR, "198.51.100.1");
+        MockHttpServletRequest spoofed = request("10.0.0.254", null);
+        spoofed.addHeader(ClientAddressResolver.FORWARDED_FOR, "192.0.2.99, 203.0.113.7");
+
+        // When
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler);
+        interceptor.preHandle(second, new MockHttpServletResponse(), handler);
+
+        // Then
+        assertThat(rateLimiter.trackedClients()).isEqualTo(2);
+        assertThatThrownBy(() -> interceptor.preHandle(spoofed, new MockHttpServletResponse(), handler))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Should ignore X-Forwarded-For sent straight from an untrusted address")
+    void preHandle_FromUntrustedPeer_ShouldIgnoreForwardedFor() {
+        // Given
+        MockHttpServletRequest first = request("203.0.113.7", null);
+        first.addHeader(ClientAddressResolver.FORWARDED_FOR, "192.0.2.1");
+        MockHttpServletRequest second = request("203.0.113.7", null);
+        second.addHeader(ClientAddressResolver.FORWARDED_FOR, "192.0.2.2");
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler);
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.preHandle(second, new MockHttpServletResponse(), handler))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(rateLimiter.trackedClients()).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books/1");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-Api-Key", apiKey);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler() {
+        try {
+            return new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitProperties Binding Tests")
+class RateLimitPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfiguration.class);
+
+    @Test
+    @DisplayName("Should bind the defaults")
+    void bind_WithDefaults_ShouldStart() {
+        contextRunner.run(context -> {
+            RateLimitProperties properties = context.getBean(RateLimitProperties.class);
+            assertThat(properties.requestsPerSecond()).isEqualTo(50);
+            assertThat(properties.trustedProxies()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with a rate or burst that is not positive")
+    void bind_WithNonPositiveLimits_ShouldFail() {
+        contextRunner.withPropertyValues("library.rate-limit.requests-per-second=0")
+                .run(context -> assertThat(context).hasFailed());
+        contextRunner.withPropertyValues("library.rate-limit.burst=-1")
+                .run(context -> assertThat(context).hasFailed());
+        contextRunner.withPropertyValues("library.rate-limit.clients.partner.requests-per-second=0",
+                        "library.rate-limit.clients.partner.burst=10")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class PropertiesConfiguration {
+    }
+}
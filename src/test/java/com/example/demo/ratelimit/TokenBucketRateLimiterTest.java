@@ -0,0 +1,90 @@
+package com.example.demo.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketRateLimiter Unit Tests")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(-5 * SECOND);
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+            new RateLimitProperties(true, "X-Api-Key", 10, 5, 3, "",
+                    Map.of("partner", new RateLimitProperties.Limit(1, 1))),
+            clock::get);
+
+    @Test
+    @DisplayName("Should admit a full burst and then reject with the time until the next token")
+    void tryAcquire_AfterBurst_ShouldReturnWaitTime() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("addr:10.0.0.1", null)).isZero();
+        }
+        long wait = limiter.tryAcquire("addr:10.0.0.1", null);
+
+        // Then
+        assertThat(wait).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate")
+    void tryAcquire_AfterEmissionInterval_ShouldAdmitAgain() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("addr:10.0.0.1", null);
+        }
+
+        // When
+        clock.addAndGet(SECOND / 10);
+
+        // Then
+        assertThat(limiter.tryAcquire("addr:10.0.0.1", null)).isZero();
+        assertThat(limiter.tryAcquire("addr:10.0.0.1", null)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per client and apply per-key overrides")
+    void tryAcquire_DifferentClients_ShouldNotShareTokens() {
+        // When
+        assertThat(limiter.tryAcquire("key:partner", "partner")).isZero();
+
+        // Then
+        assertThat(limiter.tryAcquire("key:partner", "partner")).isEqualTo(SECOND);
+        assertThat(limiter.tryAcquire("addr:10.0.0.2", null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict buckets once they have fully refilled")
+    void evictIdleBuckets_ShouldDropRefilledBuckets() {
+        // Given
+        limiter.tryAcquire("addr:10.0.0.1", null);
+        limiter.tryAcquire("key:partner", "partner");
+
+        // When
+        clock.addAndGet(SECOND / 2);
+        limiter.evictIdleBuckets();
+
+        // Then
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should track no more than the configured number of clients")
+    void tryAcquire_ManyClients_ShouldStayBounded() {
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire("addr:10.0.1." + i, null);
+        }
+        limiter.evictIdleBuckets();
+
+        // Then
+        assertThat(limiter.trackedClients()).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.NameResolution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NormalizedNameResolver Unit Tests")
+class NormalizedNameResolverTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should retry only the names a concurrent insert hid and keep the request order")
+    void resolve_WithUnresolvedNames_ShouldRetryThemInPlace() {
+        // Given
+        NormalizedNameResolver resolver = new NormalizedNameResolver(jdbcTemplate, "authors");
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(
+                        new NameResolution("Prus", 1L, "Prus", false),
+                        new NameResolution("Orzeszkowa", null, null, false),
+                        new NameResolution("Reymont", 3L, "Reymont", true),
+                        new NameResolution("Sienkiewicz", null, null, false)))
+                .thenReturn(List.of(
+                        new NameResolution("Orzeszkowa", 2L, "Orzeszkowa", false),
+                        new NameResolution("Sienkiewicz", null, null, false)))
+                .thenReturn(List.of(
+                        new NameResolution("Sienkiewicz", 4L, "Sienkiewicz", false)));
+
+        // When
+        List<NameResolution> resolutions = resolver.resolve(List.of("Prus", "Orzeszkowa", "Reymont", "Sienkiewicz"));
+
+        // Then
+        assertThat(resolutions).extracting(NameResolution::id).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(resolutions).extracting(NameResolution::created).containsExactly(false, false, true, false);
+        verify(jdbcTemplate, times(3)).query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("Should give up after the last attempt still leaves a name unresolved")
+    void resolve_WhenNeverResolved_ShouldThrow() {
+        // Given
+        NormalizedNameResolver resolver = new NormalizedNameResolver(jdbcTemplate, "categories");
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(new NameResolution("Poezja", null, null, false)));
+
+        // When / Then
+        assertThatThrownBy(() -> resolver.resolve(List.of("Poezja")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3 attempts");
+        verify(jdbcTemplate, times(3)).query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class));
+    }
+}
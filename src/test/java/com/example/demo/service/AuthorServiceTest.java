@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.ColumnarAuthorCatalog;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.ResourceConflictException;
+import com.example.demo.model.Author;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.validator.NameValidator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthorService Unit Tests")
+class AuthorServiceTest {
+
+    private static final String NAME = "Bolesław Prus";
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private NameValidator nameValidator;
+
+    @Mock
+    private ColumnarAuthorCatalog authorCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AuthorService authorService;
+
+    @Test
+    @DisplayName("Should answer 409 when the normalized name index rejects the author")
+    void createAuthor_WhenNameTaken_ShouldThrowConflict() {
+        // Given
+        when(authorRepository.saveAndFlush(any())).thenThrow(violation("uq_authors_normalized_name", "23505"));
+
+        // When / Then
+        assertThatThrownBy(() -> authorService.createAuthor(new Author(NAME)))
+                .isInstanceOfSatisfying(ResourceConflictException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo(ErrorCode.AUTHOR_NAME_TAKEN));
+        verifyNoInteractions(authorCatalog, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the SQLState when no constraint name is reported")
+    void createAuthor_WhenUnnamedUniqueViolation_ShouldThrowConflict() {
+        // Given
+        when(authorRepository.saveAndFlush(any())).thenThrow(violation(null, "23505"));
+
+        // When / Then
+        assertThatThrownBy(() -> authorService.createAuthor(new Author(NAME)))
+                .isInstanceOf(ResourceConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations other than a taken name")
+    void createAuthor_WhenOtherViolation_ShouldRethrow() {
+        // Given
+        DataIntegrityViolationException notNull = violation("authors_name_not_null", "23502");
+        when(authorRepository.saveAndFlush(any())).thenThrow(notNull);
+
+        // When / Then
+        assertThatThrownBy(() -> authorService.createAuthor(new Author(NAME))).isSameAs(notNull);
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete an author that books still reference")
+    void deleteAuthor_WhenReferenced_ShouldThrowAuthorInUse() {
+        // Given
+        when(authorRepository.existsById(1L)).thenReturn(true);
+        when(bookRepository.existsByAuthorId(1L)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> authorService.deleteAuthor(1L))
+                .isInstanceOfSatisfying(ResourceConflictException.class, ex -> {
+                    assertThat(ex.getCode()).isEqualTo(ErrorCode.AUTHOR_IN_USE);
+                    assertThat(ex.getMessage()).isEqualTo("Author with id 1 is still referenced by books");
+                });
+        verifyNoInteractions(authorCatalog, eventPublisher);
+    }
+
+    private static DataIntegrityViolationException violation(String constraint, String sqlState) {
+        SQLException sqlException = new SQLException("violation", sqlState);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraint));
+    }
+}
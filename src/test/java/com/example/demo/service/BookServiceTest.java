@@ -1,7 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.EntityCacheProperties;
+import com.example.demo.catalog.ColumnarBookCatalog;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.exception.ResourceConflictException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.invalidation.EntityChangedEvent;
 import com.example.demo.model.Book;
+import com.example.demo.repository.BookArchiveRepository;
 import com.example.demo.repository.BookRepository;
 import com.example.demo.validator.BookValidator;
 import org.junit.jupiter.api.DisplayName;
@@ -9,14 +16,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,9 +62,22 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookArchiveRepository bookArchiveRepository;
+
     @Mock
     private BookValidator bookValidator;
 
+    @Mock
+    private ColumnarBookCatalog bookCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private EntityCacheProperties entityCacheProperties =
+            new EntityCacheProperties(true, 10_000, Duration.ofMinutes(10), 10, Map.of());
+
     @InjectMocks
     private BookService bookService;
 
@@ -84,6 +115,117 @@ class BookServiceTest {
         verify(bookRepository).findAll();
     }
 
+    @Test
+    @DisplayName("GET - Should list archived books in the full list and the year range alike")
+    void getAllBooks_WhenBooksAreArchived_ShouldMergeThemLikeTheYearRange() {
+        // Given
+        Book hotBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withYear(CLEAN_CODE_YEAR)
+                .build();
+        Book otherHotBook = BookTestBuilder.aBook()
+                .withId(CREATED_BOOK_ID)
+                .withTitle(TDD_TITLE)
+                .withYear(TDD_YEAR)
+                .build();
+        Book archivedBook = BookTestBuilder.aBook()
+                .withId(SECOND_BOOK_ID)
+                .withTitle(REFACTORING_TITLE)
+                .withYear(REFACTORING_YEAR)
+                .build();
+        when(bookCatalog.isReady()).thenReturn(true);
+        when(bookCatalog.findAll()).thenReturn(List.of(hotBook, otherHotBook));
+        when(bookCatalog.findByYearBetween(REFACTORING_YEAR, CLEAN_CODE_YEAR)).thenReturn(List.of(otherHotBook, hotBook));
+        when(bookArchiveRepository.findAll()).thenReturn(List.of(archivedBook));
+        when(bookArchiveRepository.findByYearBetween(REFACTORING_YEAR, CLEAN_CODE_YEAR)).thenReturn(List.of(archivedBook));
+
+        // When
+        List<Book> allBooks = bookService.getAllBooks();
+        List<Book> booksInRange = bookService.getBooksByYearRange(REFACTORING_YEAR, CLEAN_CODE_YEAR);
+        bookService.getAllBooksJson();
+
+        // Then
+        assertThat(allBooks).containsExactly(hotBook, archivedBook, otherHotBook);
+        assertThat(booksInRange).containsExactly(archivedBook, otherHotBook, hotBook);
+        verify(bookCatalog).writeAll(eq(List.of(archivedBook)), any());
+    }
+
+    @Test
+    @DisplayName("GET - Should fall back to the archive when the book is not in the hot table")
+    void getBookById_WhenBookIsArchived_ShouldReturnArchivedBook() {
+        // Given
+        Book archivedBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(REFACTORING_TITLE)
+                .withYear(REFACTORING_YEAR)
+                .withAuthorId(FIRST_AUTHOR_ID)
+                .withCategoryId(FIRST_CATEGORY_ID)
+                .build();
+        when(bookCatalog.isReady()).thenReturn(true);
+        when(bookCatalog.findById(FIRST_BOOK_ID)).thenReturn(Optional.empty());
+        when(bookArchiveRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.of(archivedBook));
+
+        // When
+        Book actualBook = bookService.getBookById(FIRST_BOOK_ID);
+
+        // Then
+        assertThat(actualBook).isEqualTo(archivedBook);
+    }
+
+    @Test
+    @DisplayName("GET - Should read narrow year ranges through the cacheable finder and wide ones uncached")
+    void getBooksByYearRange_ShouldCacheOnlyNarrowRanges() {
+        // Given
+        Book book = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withYear(CLEAN_CODE_YEAR)
+                .build();
+        when(bookRepository.findByYearBetweenOrderByYearAscIdAsc(2000, 2009)).thenReturn(List.of(book));
+        when(bookRepository.findUncachedByYearRange(2000, 2010)).thenReturn(List.of(book));
+        when(bookArchiveRepository.findByYearBetween(any(), any())).thenReturn(List.of());
+
+        // When
+        List<Book> narrow = bookService.getBooksByYearRange(2000, 2009);
+        List<Book> wide = bookService.getBooksByYearRange(2000, 2010);
+
+        // Then
+        assertThat(narrow).containsExactly(book);
+        assertThat(wide).containsExactly(book);
+        verify(bookRepository).findByYearBetweenOrderByYearAscIdAsc(2000, 2009);
+        verify(bookRepository).findUncachedByYearRange(2000, 2010);
+        verify(bookRepository, never()).findByYearBetweenOrderByYearAscIdAsc(2000, 2010);
+    }
+
+    @Test
+    @DisplayName("GET - Should reject an inverted year range with one preallocated exception")
+    void getBooksByYearRange_WhenInverted_ShouldRethrowSameException() {
+        // When
+        Throwable first = catchThrowable(() -> bookService.getBooksByYearRange(2010, 2000));
+        Throwable second = catchThrowable(() -> bookService.getBooksByYearRange(2020, 2000));
+
+        // Then
+        assertThat(first).isInstanceOf(InvalidDataException.class)
+                .hasMessage("fromYear must not be greater than toYear");
+        assertThat(second).isSameAs(first);
+        verifyNoInteractions(bookRepository, bookArchiveRepository);
+    }
+
+    @Test
+    @DisplayName("GET - Should throw ResourceNotFoundException when the book is neither hot nor archived")
+    void getBookById_WhenBookDoesNotExist_ShouldThrowResourceNotFoundException() {
+        // Given
+        when(bookCatalog.isReady()).thenReturn(true);
+        when(bookCatalog.findById(NON_EXISTING_BOOK_ID)).thenReturn(Optional.empty());
+        when(bookArchiveRepository.findById(NON_EXISTING_BOOK_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> bookService.getBookById(NON_EXISTING_BOOK_ID))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Book with id " + NON_EXISTING_BOOK_ID + " not found");
+    }
+
     @Test
     @DisplayName("POST - Should create and return book when valid data is provided")
     void createBook_WithValidData_ShouldReturnCreatedBook() {
@@ -122,6 +264,125 @@ class BookServiceTest {
         assertThat(bookToCreate.getId()).isNull();
         verify(bookValidator).validate(bookToCreate);
         verify(bookRepository).save(bookToCreate);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.book(CREATED_BOOK_ID));
+    }
+
+    @Test
+    @DisplayName("PATCH - Should change only the patched field and validate only that field")
+    void patchBook_WithYearOnly_ShouldValidateAndWriteOnlyYear() {
+        // Given
+        Book existingBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withYear(CLEAN_CODE_YEAR)
+                .withAuthorId(FIRST_AUTHOR_ID)
+                .withCategoryId(FIRST_CATEGORY_ID)
+                .build();
+        when(bookRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.of(existingBook));
+        when(bookRepository.saveAndFlush(existingBook)).thenReturn(existingBook);
+
+        // When
+        Book result = bookService.patchBook(FIRST_BOOK_ID, Map.of("year", REFACTORING_YEAR));
+
+        // Then
+        assertThat(result.getYear()).isEqualTo(REFACTORING_YEAR);
+        assertThat(result.getTitle()).isEqualTo(CLEAN_CODE_TITLE);
+        assertThat(result.getAuthorId()).isEqualTo(FIRST_AUTHOR_ID);
+        verify(bookValidator).validate(existingBook, Set.of("year"));
+        verify(bookRepository).saveAndFlush(existingBook);
+    }
+
+    @Test
+    @DisplayName("PATCH - Should update the catalog only once the transaction commits")
+    void patchBook_InTransaction_ShouldUpsertCatalogAfterCommit() {
+        // Given
+        Book existingBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withYear(CLEAN_CODE_YEAR)
+                .build();
+        when(bookRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.of(existingBook));
+        when(bookRepository.saveAndFlush(existingBook)).thenReturn(existingBook);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            bookService.patchBook(FIRST_BOOK_ID, Map.of("title", TDD_TITLE));
+
+            // Then
+            verify(bookCatalog, never()).upsert(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(bookCatalog).upsert(existingBook);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("PATCH - Should leave the catalog alone when the transaction rolls back")
+    void patchBook_InRolledBackTransaction_ShouldNotTouchCatalog() {
+        // Given
+        Book existingBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withYear(CLEAN_CODE_YEAR)
+                .build();
+        when(bookRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.of(existingBook));
+        when(bookRepository.saveAndFlush(existingBook)).thenReturn(existingBook);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            bookService.patchBook(FIRST_BOOK_ID, Map.of("title", TDD_TITLE));
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                    synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verify(bookCatalog, never()).upsert(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("PATCH - Should not write when the patch does not change anything")
+    void patchBook_WithUnchangedValues_ShouldNotWrite() {
+        // Given
+        Book existingBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withYear(CLEAN_CODE_YEAR)
+                .build();
+        when(bookRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.of(existingBook));
+
+        // When
+        bookService.patchBook(FIRST_BOOK_ID, Map.of("id", FIRST_BOOK_ID, "title", CLEAN_CODE_TITLE));
+
+        // Then
+        verifyNoInteractions(bookValidator, eventPublisher);
+        verify(bookRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("PATCH - Should clear a field set to null and reject unknown fields")
+    void patchBook_WithNullAndUnknownFields_ShouldFollowMergePatchRules() {
+        // Given
+        Book existingBook = BookTestBuilder.aBook()
+                .withId(FIRST_BOOK_ID)
+                .withTitle(CLEAN_CODE_TITLE)
+                .withCategoryId(FIRST_CATEGORY_ID)
+                .build();
+        when(bookRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.of(existingBook));
+        Map<String, Object> clearCategory = new HashMap<>();
+        clearCategory.put("categoryId", null);
+        when(bookRepository.saveAndFlush(existingBook)).thenReturn(existingBook);
+
+        // When
+        Book result = bookService.patchBook(FIRST_BOOK_ID, clearCategory);
+
+        // Then
+        assertThat(result.getCategoryId()).isNull();
+        assertThatThrownBy(() -> bookService.patchBook(FIRST_BOOK_ID, Map.of("isbn", "978-0132350884")))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("isbn");
     }
 
     @Test
@@ -139,6 +400,34 @@ class BookServiceTest {
         verify(bookRepository, never()).deleteById(anyLong());
     }
 
+    @Test
+    @DisplayName("PUT/PATCH/DELETE - Should refuse writes to an archived book with BOOK_ARCHIVED")
+    void writes_WhenBookIsArchived_ShouldThrowResourceConflictException() {
+        // Given
+        Book book = BookTestBuilder.aBook()
+                .withTitle(REFACTORING_TITLE)
+                .withYear(REFACTORING_YEAR)
+                .build();
+        when(bookRepository.existsById(FIRST_BOOK_ID)).thenReturn(false);
+        when(bookRepository.findById(FIRST_BOOK_ID)).thenReturn(Optional.empty());
+        when(bookArchiveRepository.existsById(FIRST_BOOK_ID)).thenReturn(true);
+
+        // When
+        List<Throwable> failures = List.of(
+                catchThrowable(() -> bookService.updateBook(FIRST_BOOK_ID, book)),
+                catchThrowable(() -> bookService.patchBook(FIRST_BOOK_ID, Map.of("year", 2000))),
+                catchThrowable(() -> bookService.deleteBook(FIRST_BOOK_ID)));
+
+        // Then
+        assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(ResourceConflictException.class)
+                .hasMessage("Book with id " + FIRST_BOOK_ID + " is archived and read-only")
+                .extracting("code").isEqualTo(ErrorCode.BOOK_ARCHIVED));
+        verifyNoInteractions(bookValidator, bookCatalog, eventPublisher);
+        verify(bookRepository, never()).save(any());
+        verify(bookRepository, never()).deleteById(anyLong());
+    }
+
     private static class BookTestBuilder {
         private Long id;
         private String title;
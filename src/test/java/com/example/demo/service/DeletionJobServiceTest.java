@@ -0,0 +1,196 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.ColumnarAuthorCatalog;
+import com.example.demo.catalog.ColumnarBookCatalog;
+import com.example.demo.catalog.ColumnarCategoryCatalog;
+import com.example.demo.dto.DeletionJobStatus;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.invalidation.EntityChangedEvent;
+import com.example.demo.repository.AuthorRepository;
+import com.example.demo.repository.BookArchiveRepository;
+import com.example.demo.repository.BookRepository;
+import com.example.demo.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("DeletionJobService Unit Tests")
+class DeletionJobServiceTest {
+
+    private static final Long AUTHOR_ID = 7L;
+    private static final Long CATEGORY_ID = 3L;
+    private static final int BATCH_SIZE = 2;
+    private static final int RETAINED_JOBS = 2;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookArchiveRepository bookArchiveRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ColumnarBookCatalog bookCatalog;
+
+    @Mock
+    private ColumnarAuthorCatalog authorCatalog;
+
+    @Mock
+    private ColumnarCategoryCatalog categoryCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DeletionJobService deletionJobService;
+
+    @BeforeEach
+    void setUp() {
+        deletionJobService = new DeletionJobService(bookRepository, bookArchiveRepository, authorRepository,
+                categoryRepository, bookCatalog, authorCatalog, categoryCatalog,
+                new CascadeDeleteProperties(BATCH_SIZE, 0, RETAINED_JOBS), eventPublisher);
+        when(authorRepository.existsById(AUTHOR_ID)).thenReturn(true);
+        when(categoryRepository.existsById(CATEGORY_ID)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deletionJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should delete referencing books in batches, then the archived ones, then the author")
+    void startAuthorDeletion_ShouldDeleteInBatches() {
+        // Given
+        when(bookRepository.findIdBatchByAuthorId(AUTHOR_ID, BATCH_SIZE))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L), List.of());
+        when(bookArchiveRepository.deleteBatchByAuthorId(AUTHOR_ID, 1)).thenReturn(1);
+        when(bookArchiveRepository.deleteBatchByAuthorId(AUTHOR_ID, 2)).thenReturn(0);
+
+        // When
+        DeletionJobStatus status = awaitFinished(deletionJobService.startAuthorDeletion(AUTHOR_ID).id());
+
+        // Then
+        assertThat(status.state()).isEqualTo(DeletionJobStatus.State.COMPLETED);
+        assertThat(status.booksDeleted()).isEqualTo(6);
+        assertThat(status.batches()).isEqualTo(4);
+        assertThat(status.finishedAt()).isNotNull();
+        verify(bookRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(bookRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+        verify(bookRepository).deleteAllByIdInBatch(List.of(5L));
+        verify(bookCatalog).remove(5L);
+        verify(authorRepository).deleteById(AUTHOR_ID);
+        verify(authorCatalog).remove(AUTHOR_ID);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.all(EntityChangedEvent.BOOK));
+        verify(eventPublisher).publishEvent(EntityChangedEvent.author(AUTHOR_ID));
+    }
+
+    @Test
+    @DisplayName("Should delete books created during the job when the foreign key rejects the delete")
+    void startCategoryDeletion_WhenBookAddedMeanwhile_ShouldRetry() {
+        // Given
+        when(bookRepository.findIdBatchByCategoryId(CATEGORY_ID, BATCH_SIZE))
+                .thenReturn(List.of(), List.of(9L), List.of());
+        doThrow(new DataIntegrityViolationException("fk_books_category"))
+                .doNothing()
+                .when(categoryRepository).deleteById(CATEGORY_ID);
+
+        // When
+        DeletionJobStatus status = awaitFinished(deletionJobService.startCategoryDeletion(CATEGORY_ID).id());
+
+        // Then
+        assertThat(status.state()).isEqualTo(DeletionJobStatus.State.COMPLETED);
+        assertThat(status.booksDeleted()).isEqualTo(1);
+        verify(bookRepository).deleteAllByIdInBatch(List.of(9L));
+        verify(categoryRepository, times(2)).deleteById(CATEGORY_ID);
+        verify(categoryCatalog).remove(CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Should fail the job when the entity stays referenced")
+    void startAuthorDeletion_WhenStillReferenced_ShouldFail() {
+        // Given
+        when(bookRepository.findIdBatchByAuthorId(AUTHOR_ID, BATCH_SIZE)).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("fk_books_author"))
+                .when(authorRepository).deleteById(AUTHOR_ID);
+
+        // When
+        DeletionJobStatus status = awaitFinished(deletionJobService.startAuthorDeletion(AUTHOR_ID).id());
+
+        // Then
+        assertThat(status.state()).isEqualTo(DeletionJobStatus.State.FAILED);
+        assertThat(status.error()).contains("fk_books_author");
+        verify(authorCatalog, never()).remove(anyLong());
+        verify(eventPublisher).publishEvent(EntityChangedEvent.author(AUTHOR_ID));
+    }
+
+    @Test
+    @DisplayName("Should keep only the configured number of finished jobs")
+    void startAuthorDeletion_ShouldPruneOldestFinishedJobs() {
+        // Given
+        when(bookRepository.findIdBatchByAuthorId(eq(AUTHOR_ID), anyInt())).thenReturn(List.of());
+        doNothing().when(authorRepository).deleteById(AUTHOR_ID);
+        UUID first = awaitFinished(deletionJobService.startAuthorDeletion(AUTHOR_ID).id()).id();
+        UUID second = awaitFinished(deletionJobService.startAuthorDeletion(AUTHOR_ID).id()).id();
+
+        // When
+        UUID third = awaitFinished(deletionJobService.startAuthorDeletion(AUTHOR_ID).id()).id();
+
+        // Then
+        assertThat(deletionJobService.getJobs()).extracting(DeletionJobStatus::id)
+                .containsExactlyInAnyOrder(second, third);
+        assertThatThrownBy(() -> deletionJobService.getJob(first))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a cascading delete of a missing author")
+    void startAuthorDeletion_WhenAuthorMissing_ShouldThrow() {
+        // Given
+        when(authorRepository.existsById(AUTHOR_ID)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> deletionJobService.startAuthorDeletion(AUTHOR_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(deletionJobService.getJobs()).isEmpty();
+    }
+
+    private DeletionJobStatus awaitFinished(UUID jobId) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        DeletionJobStatus status = deletionJobService.getJob(jobId);
+        while (status.state() == DeletionJobStatus.State.RUNNING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            status = deletionJobService.getJob(jobId);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.validator;
+
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidDataException;
+import com.example.demo.exception.ValidationFailedException;
+import com.example.demo.model.Book;
+import com.example.demo.validator.rules.ValidationRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BookValidator Unit Tests")
+class BookValidatorTest {
+
+    private final Book book = new Book("Lalka", 1890, 1L, 1L);
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("Should run I/O-bound rules concurrently")
+    void validate_WithTwoIoBoundRules_ShouldOverlapThem() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Consumer<Book> waitForOther = entity -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new InvalidDataException("rules did not overlap");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        BookValidator validator = new BookValidator(List.of(
+                rule("author", ValidationRule.Kind.IO_BOUND, waitForOther),
+                rule("category", ValidationRule.Kind.IO_BOUND, waitForOther)));
+
+        // When / Then
+        assertThatCode(() -> validator.validate(book)).doesNotThrowAnyException();
+        assertThat(executed).containsExactlyInAnyOrder("author", "category");
+    }
+
+    @Test
+    @DisplayName("Should skip I/O-bound rules when a pure rule fails")
+    void validate_WhenPureRuleFails_ShouldShortCircuit() {
+        // Given
+        BookValidator validator = new BookValidator(List.of(
+                rule("author", ValidationRule.Kind.IO_BOUND, entity -> { }),
+                rule("title", ValidationRule.Kind.PURE, fail(ErrorCode.BOOK_TITLE_EMPTY))));
+
+        // When / Then
+        assertThatThrownBy(() -> validator.validate(book))
+                .isInstanceOf(InvalidDataException.class)
+                .extracting("code").isEqualTo(ErrorCode.BOOK_TITLE_EMPTY);
+        assertThat(executed).containsExactly("title");
+    }
+
+    @Test
+    @DisplayName("Should report every failing I/O-bound rule in one exception, in rule order")
+    void validate_WhenSeveralRulesFail_ShouldAggregateFailures() {
+        // Given
+        BookValidator validator = new BookValidator(List.of(
+                rule("title", ValidationRule.Kind.PURE, entity -> { }),
+                rule("author", ValidationRule.Kind.IO_BOUND, fail(ErrorCode.AUTHOR_REFERENCE_MISSING)),
+                rule("category", ValidationRule.Kind.IO_BOUND, fail(ErrorCode.CATEGORY_REFERENCE_MISSING))));
+
+        // When / Then
+        assertThatThrownBy(() -> validator.validate(book))
+                .isInstanceOfSatisfying(ValidationFailedException.class, ex -> {
+                    assertThat(ex.getCode()).isEqualTo(ErrorCode.VALIDATION_FAILED);
+                    assertThat(ex.getFailures()).extracting("code").containsExactly(
+                            ErrorCode.AUTHOR_REFERENCE_MISSING, ErrorCode.CATEGORY_REFERENCE_MISSING);
+                });
+    }
+
+    @Test
+    @DisplayName("Should run only the rules affected by a partial update")
+    void validate_WithChangedFields_ShouldRunAffectedRulesOnly() {
+        // Given
+        ValidationRule<Book> title = new RecordingRule("title", ValidationRule.Kind.PURE, entity -> { }) {
+            @Override
+            public boolean appliesTo(Set<String> changedFields) {
+                return changedFields.contains("title");
+            }
+        };
+        BookValidator validator = new BookValidator(List.of(title,
+                rule("author", ValidationRule.Kind.IO_BOUND, fail(ErrorCode.AUTHOR_REFERENCE_MISSING))));
+
+        // When
+        assertThatThrownBy(() -> validator.validate(book, Set.of("authorId")))
+                .isInstanceOf(InvalidDataException.class);
+
+        // Then
+        assertThat(executed).containsExactly("author");
+    }
+
+    private ValidationRule<Book> rule(String name, ValidationRule.Kind kind, Consumer<Book> check) {
+        return new RecordingRule(name, kind, check);
+    }
+
+    private static Consumer<Book> fail(ErrorCode code) {
+        return entity -> {
+            throw new InvalidDataException(code, code.name());
+        };
+    }
+
+    private class RecordingRule implements ValidationRule<Book> {
+        private final String name;
+        private final Kind kind;
+        private final Consumer<Book> check;
+
+        RecordingRule(String name, Kind kind, Consumer<Book> check) {
+            this.name = name;
+            this.kind = kind;
+            this.check = check;
+        }
+
+        @Override
+        public void validate(Book entity) {
+            executed.add(name);
+            check.accept(entity);
+        }
+
+        @Override
+        public Kind kind() {
+            return kind;
+        }
+    }
+}